@@ -3,16 +3,21 @@ package de.vptr.midas.api;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import de.vptr.midas.api.security.LastLoginRecorder;
 import io.quarkus.runtime.ShutdownEvent;
 import io.quarkus.runtime.StartupEvent;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.enterprise.event.Observes;
+import jakarta.inject.Inject;
 
 @ApplicationScoped
 public class AppLifecycleService {
 
     private static final Logger LOG = LoggerFactory.getLogger(AppLifecycleService.class);
 
+    @Inject
+    LastLoginRecorder lastLoginRecorder;
+
     /**
      * ASCII art for the application logo.
      * This is displayed in the console when the application starts.
@@ -43,7 +48,10 @@ public class AppLifecycleService {
         LOG.info("Welcome to Midas API! o/");
     }
 
+    // Runs after readiness went down and in-flight requests drained (quarkus.shutdown.*)
     void onStop(@Observes final ShutdownEvent ev) {
+        final var flushed = this.lastLoginRecorder.flush();
+        LOG.info("Flushed {} pending last login timestamp(s)", flushed);
         LOG.info("Midas API is shutting down. Goodbye! \\o");
     }
 }
@@ -0,0 +1,35 @@
+package de.vptr.midas.api.health;
+
+import org.eclipse.microprofile.health.HealthCheck;
+import org.eclipse.microprofile.health.HealthCheckResponse;
+import org.eclipse.microprofile.health.Readiness;
+
+import de.vptr.midas.api.security.CredentialCache;
+import de.vptr.midas.api.security.RankPermissionCache;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+/**
+ * Reports how warm the authentication caches are. A cold cache only makes
+ * the first logins slower, so this check never reports the instance as not
+ * ready.
+ */
+@Readiness
+@ApplicationScoped
+public class AuthCacheHealthCheck implements HealthCheck {
+
+    @Inject
+    CredentialCache credentialCache;
+
+    @Inject
+    RankPermissionCache rankPermissionCache;
+
+    @Override
+    public HealthCheckResponse call() {
+        return HealthCheckResponse.named("auth-caches")
+                .up()
+                .withData("verifiedCredentials", this.credentialCache.size())
+                .withData("userRoles", this.rankPermissionCache.size())
+                .build();
+    }
+}
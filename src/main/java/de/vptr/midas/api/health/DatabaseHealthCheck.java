@@ -0,0 +1,106 @@
+package de.vptr.midas.api.health;
+
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.eclipse.microprofile.health.HealthCheck;
+import org.eclipse.microprofile.health.HealthCheckResponse;
+import org.eclipse.microprofile.health.Readiness;
+
+import io.agroal.api.AgroalDataSource;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+/**
+ * Ready while the database answers and the connection pool is not exhausted.
+ *
+ * The connectivity probe result is reused for the probe interval, so polling
+ * readiness every second costs one connection validation per interval; the
+ * pool gauges are read from memory on every call. An exhausted pool is not
+ * probed, as that would queue behind the requests already waiting.
+ */
+@Readiness
+@ApplicationScoped
+public class DatabaseHealthCheck implements HealthCheck {
+
+    private static final String NAME = "database";
+
+    @Inject
+    AgroalDataSource dataSource;
+
+    @ConfigProperty(name = "midas.health.database.probe-interval", defaultValue = "5s")
+    Duration probeInterval;
+
+    @ConfigProperty(name = "midas.health.database.probe-timeout", defaultValue = "1")
+    int probeTimeout;
+
+    private final ReentrantLock probing = new ReentrantLock();
+    private volatile Probe lastProbe;
+
+    private record Probe(boolean up, String error, long checkedAt) {
+    }
+
+    @Override
+    public HealthCheckResponse call() {
+        final var metrics = this.dataSource.getMetrics();
+        final var maxSize = this.dataSource.getConfiguration().connectionPoolConfiguration().maxSize();
+        final var active = metrics.activeCount();
+        final var awaiting = metrics.awaitingCount();
+        final var exhausted = active >= maxSize && awaiting > 0;
+        final var saturation = maxSize > 0 ? (double) active / maxSize : 0;
+
+        final var builder = HealthCheckResponse.named(NAME)
+                .withData("activeConnections", active)
+                .withData("maxConnections", maxSize)
+                .withData("awaitingConnections", awaiting)
+                .withData("saturation", String.format(Locale.ROOT, "%.2f", saturation));
+
+        if (exhausted) {
+            return builder.down().withData("error", "Connection pool exhausted").build();
+        }
+
+        final var probe = this.probe();
+        builder.status(probe.up())
+                .withData("probeAgeMs", Duration.ofNanos(System.nanoTime() - probe.checkedAt()).toMillis());
+        if (probe.error() != null) {
+            builder.withData("error", probe.error());
+        }
+        return builder.build();
+    }
+
+    // Helper method to reuse a recent probe; concurrent callers get the previous result instead of waiting
+    private Probe probe() {
+        final var current = this.lastProbe;
+        if (current != null && System.nanoTime() - current.checkedAt() < this.probeInterval.toNanos()) {
+            return current;
+        }
+        if (current == null) {
+            this.probing.lock();
+        } else if (!this.probing.tryLock()) {
+            return current;
+        }
+
+        try {
+            final var latest = this.lastProbe;
+            if (latest != null && latest != current) {
+                return latest;
+            }
+            this.lastProbe = this.validate();
+            return this.lastProbe;
+        } finally {
+            this.probing.unlock();
+        }
+    }
+
+    private Probe validate() {
+        try (var connection = this.dataSource.getConnection()) {
+            final var valid = connection.isValid(this.probeTimeout);
+            return new Probe(valid, valid ? null : "Connection validation failed", System.nanoTime());
+        } catch (final SQLException e) {
+            return new Probe(false, e.getMessage(), System.nanoTime());
+        }
+    }
+}
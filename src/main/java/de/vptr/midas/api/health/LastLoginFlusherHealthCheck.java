@@ -0,0 +1,39 @@
+package de.vptr.midas.api.health;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.eclipse.microprofile.health.HealthCheck;
+import org.eclipse.microprofile.health.HealthCheckResponse;
+import org.eclipse.microprofile.health.Liveness;
+
+import de.vptr.midas.api.security.LastLoginRecorder;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+/**
+ * Alive while the last-login write-behind flusher keeps running. Failed
+ * flushes (e.g. during a database outage) still count as runs, so a database
+ * problem does not get the instance restarted.
+ */
+@Liveness
+@ApplicationScoped
+public class LastLoginFlusherHealthCheck implements HealthCheck {
+
+    @Inject
+    LastLoginRecorder lastLoginRecorder;
+
+    @ConfigProperty(name = "midas.health.last-login.max-lag", defaultValue = "5m")
+    Duration maxLag;
+
+    @Override
+    public HealthCheckResponse call() {
+        final var lag = Duration.between(this.lastLoginRecorder.getLastRun(), Instant.now());
+        return HealthCheckResponse.named("last-login-flusher")
+                .status(lag.compareTo(this.maxLag) <= 0)
+                .withData("lagMs", lag.toMillis())
+                .withData("pending", this.lastLoginRecorder.getPendingCount())
+                .build();
+    }
+}
@@ -14,20 +14,21 @@ public class AccountResponseDto {
     public String name;
     public int userCount;
     public List<Long> associatedUserIds;
+    public Long version;
 
     public AccountResponseDto(final AccountEntity entity) {
         this.id = entity.id;
         this.name = entity.name;
+        this.userCount = (int) entity.userCount;
+        this.version = entity.version;
 
-        // Compute user count and associated user IDs safely
+        // Compute associated user IDs safely
         if (entity.userAccountMetas != null && !entity.userAccountMetas.isEmpty()) {
-            this.userCount = entity.userAccountMetas.size();
             this.associatedUserIds = entity.userAccountMetas.stream()
                     .map(meta -> meta.user != null ? meta.user.id : null)
                     .filter(id -> id != null)
                     .toList();
         } else {
-            this.userCount = 0;
             this.associatedUserIds = List.of();
         }
     }
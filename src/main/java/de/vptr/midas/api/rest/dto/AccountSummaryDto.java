@@ -0,0 +1,33 @@
+package de.vptr.midas.api.rest.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Response DTO for the payment summary of an account.
+ * All values are aggregated by the database.
+ */
+public class AccountSummaryDto {
+
+    public Long accountId;
+    public BigDecimal incomingTotal;
+    public BigDecimal outgoingTotal;
+    public BigDecimal net;
+    public long paymentCount;
+    public LocalDate firstPaymentDate;
+    public LocalDate lastPaymentDate;
+
+    public AccountSummaryDto() {
+    }
+
+    public AccountSummaryDto(final Long accountId, final BigDecimal incomingTotal, final BigDecimal outgoingTotal,
+            final long paymentCount, final LocalDate firstPaymentDate, final LocalDate lastPaymentDate) {
+        this.accountId = accountId;
+        this.incomingTotal = incomingTotal;
+        this.outgoingTotal = outgoingTotal;
+        this.net = incomingTotal.subtract(outgoingTotal);
+        this.paymentCount = paymentCount;
+        this.firstPaymentDate = firstPaymentDate;
+        this.lastPaymentDate = lastPaymentDate;
+    }
+}
@@ -0,0 +1,27 @@
+package de.vptr.midas.api.rest.dto;
+
+/**
+ * Hit/miss counters of one second-level cache region since startup
+ */
+public class CacheRegionStatisticsDto {
+    public String region;
+    public long hitCount;
+    public long missCount;
+    public long putCount;
+    public long elementCount;
+    public double hitRatio;
+
+    public CacheRegionStatisticsDto() {
+    }
+
+    public CacheRegionStatisticsDto(final String region, final long hitCount, final long missCount,
+            final long putCount, final long elementCount) {
+        this.region = region;
+        this.hitCount = hitCount;
+        this.missCount = missCount;
+        this.putCount = putCount;
+        this.elementCount = elementCount;
+        final var lookups = hitCount + missCount;
+        this.hitRatio = lookups > 0 ? (double) hitCount / lookups : 0.0;
+    }
+}
@@ -0,0 +1,24 @@
+package de.vptr.midas.api.rest.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * Page without its content, for list views
+ */
+public class PageSummaryDto {
+    public Long id;
+    public String title;
+    public String excerpt;
+    public LocalDateTime lastEdit;
+
+    public PageSummaryDto() {
+    }
+
+    // Constructor for HQL projections (SELECT new ...), see PageService
+    public PageSummaryDto(final Long id, final String title, final String excerpt, final LocalDateTime lastEdit) {
+        this.id = id;
+        this.title = title;
+        this.excerpt = excerpt;
+        this.lastEdit = lastEdit;
+    }
+}
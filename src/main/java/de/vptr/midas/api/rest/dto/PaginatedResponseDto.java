@@ -0,0 +1,25 @@
+package de.vptr.midas.api.rest.dto;
+
+import java.util.List;
+
+/**
+ * Page envelope for list endpoints.
+ * {@code nextCursor} is null on the last page.
+ */
+public class PaginatedResponseDto<T> {
+
+    public List<T> items;
+    public int limit;
+    public Long offset;
+    public String nextCursor;
+
+    public PaginatedResponseDto() {
+    }
+
+    public PaginatedResponseDto(final List<T> items, final int limit, final Long offset, final String nextCursor) {
+        this.items = items;
+        this.limit = limit;
+        this.offset = offset;
+        this.nextCursor = nextCursor;
+    }
+}
@@ -0,0 +1,41 @@
+package de.vptr.midas.api.rest.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Response DTO for batch payment creation.
+ * Contains one result per submitted item, in submission order.
+ */
+public class PaymentBatchResponseDto {
+
+    public int received;
+    public int created;
+    public int failed;
+    public List<ItemResult> items = new ArrayList<>();
+
+    public void addCreated(final int index, final Long id) {
+        this.items.add(new ItemResult(index, id, null));
+        this.created++;
+    }
+
+    public void addFailed(final int index, final String error) {
+        this.items.add(new ItemResult(index, null, error));
+        this.failed++;
+    }
+
+    public static class ItemResult {
+        public int index;
+        public Long id;
+        public String error;
+
+        public ItemResult() {
+        }
+
+        public ItemResult(final int index, final Long id, final String error) {
+            this.index = index;
+            this.id = id;
+            this.error = error;
+        }
+    }
+}
@@ -3,6 +3,8 @@ package de.vptr.midas.api.rest.dto;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
 import jakarta.validation.constraints.DecimalMin;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
@@ -26,4 +28,8 @@ public class PaymentDto {
     @NotNull(message = "Amount is required")
     @DecimalMin(value = "0.00", message = "Amount must be positive")
     public BigDecimal amount;
+
+    // Expected version, taken from the If-Match header
+    @JsonIgnore
+    public Long version;
 }
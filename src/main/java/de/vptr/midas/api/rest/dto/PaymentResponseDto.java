@@ -19,10 +19,31 @@ public class PaymentResponseDto {
     public BigDecimal amount;
     public LocalDateTime created;
     public LocalDateTime lastEdit;
+    public Long version;
 
     public PaymentResponseDto() {
     }
 
+    // Constructor for HQL projections (SELECT new ...), see PaymentService
+    public PaymentResponseDto(final Long id, final Long targetAccountId, final String targetAccountName,
+            final Long sourceAccountId, final String sourceAccountName, final Long userId, final String username,
+            final String comment, final LocalDate date, final BigDecimal amount, final LocalDateTime created,
+            final LocalDateTime lastEdit, final Long version) {
+        this.id = id;
+        this.targetAccountId = targetAccountId;
+        this.targetAccountName = targetAccountName;
+        this.sourceAccountId = sourceAccountId;
+        this.sourceAccountName = sourceAccountName;
+        this.userId = userId;
+        this.username = username;
+        this.comment = comment;
+        this.date = date;
+        this.amount = amount;
+        this.created = created;
+        this.lastEdit = lastEdit;
+        this.version = version;
+    }
+
     public PaymentResponseDto(final PaymentEntity entity) {
         this.id = entity.id;
         this.targetAccountId = entity.targetAccount != null ? entity.targetAccount.id : null;
@@ -36,5 +57,6 @@ public class PaymentResponseDto {
         this.amount = entity.amount;
         this.created = entity.created;
         this.lastEdit = entity.lastEdit;
+        this.version = entity.version;
     }
 }
@@ -0,0 +1,27 @@
+package de.vptr.midas.api.rest.dto;
+
+import java.util.List;
+
+/**
+ * A category as positioned in the category tree
+ */
+public class PostCategoryNodeDto {
+    public Long id;
+    public String name;
+    public Long parentId;
+    public int depth;
+    // Ancestor IDs, root first
+    public List<Long> path;
+
+    public PostCategoryNodeDto() {
+    }
+
+    public PostCategoryNodeDto(final Long id, final String name, final Long parentId, final int depth,
+            final List<Long> path) {
+        this.id = id;
+        this.name = name;
+        this.parentId = parentId;
+        this.depth = depth;
+        this.path = path;
+    }
+}
@@ -0,0 +1,19 @@
+package de.vptr.midas.api.rest.dto;
+
+import java.util.List;
+
+/**
+ * A category with its nested subcategories
+ */
+public class PostCategoryTreeDto extends PostCategoryNodeDto {
+    public List<PostCategoryTreeDto> children;
+
+    public PostCategoryTreeDto() {
+    }
+
+    public PostCategoryTreeDto(final Long id, final String name, final Long parentId, final int depth,
+            final List<Long> path, final List<PostCategoryTreeDto> children) {
+        super(id, name, parentId, depth, path);
+        this.children = children;
+    }
+}
@@ -1,5 +1,7 @@
 package de.vptr.midas.api.rest.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
 import jakarta.validation.constraints.Size;
 
 public class PostDto {
@@ -18,6 +20,10 @@ public class PostDto {
 
     public Boolean commentable;
 
+    // Expected version, taken from the If-Match header
+    @JsonIgnore
+    public Long version;
+
     public PostDto() {
     }
 
@@ -18,6 +18,7 @@ public class PostResponseDto {
     public LocalDateTime created;
     public LocalDateTime lastEdit;
     public Long commentsCount;
+    public Long version;
 
     public PostResponseDto() {
     }
@@ -35,7 +36,8 @@ public class PostResponseDto {
             this.commentable = entity.commentable;
             this.created = entity.created;
             this.lastEdit = entity.lastEdit;
-            this.commentsCount = entity.comments != null ? (long) entity.comments.size() : 0L;
+            this.commentsCount = entity.commentCount;
+            this.version = entity.version;
         }
     }
 }
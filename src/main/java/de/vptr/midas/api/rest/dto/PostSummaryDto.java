@@ -0,0 +1,46 @@
+package de.vptr.midas.api.rest.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * Post without its content, for feeds and other list views
+ */
+public class PostSummaryDto {
+
+    public Long id;
+    public String title;
+    public String excerpt;
+    public Long userId;
+    public String username;
+    public Long categoryId;
+    public String categoryName;
+    public Boolean published;
+    public Boolean commentable;
+    public LocalDateTime created;
+    public LocalDateTime lastEdit;
+    public Long commentsCount;
+    public Long version;
+
+    public PostSummaryDto() {
+    }
+
+    // Constructor for HQL projections (SELECT new ...), see PostService
+    public PostSummaryDto(final Long id, final String title, final String excerpt, final Long userId,
+            final String username, final Long categoryId, final String categoryName, final Boolean published,
+            final Boolean commentable, final LocalDateTime created, final LocalDateTime lastEdit,
+            final Long commentsCount, final Long version) {
+        this.id = id;
+        this.title = title;
+        this.excerpt = excerpt;
+        this.userId = userId;
+        this.username = username;
+        this.categoryId = categoryId;
+        this.categoryName = categoryName;
+        this.published = published;
+        this.commentable = commentable;
+        this.created = created;
+        this.lastEdit = lastEdit;
+        this.commentsCount = commentsCount;
+        this.version = version;
+    }
+}
@@ -0,0 +1,32 @@
+package de.vptr.midas.api.rest.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * Full-text search hit, ordered by relevance
+ */
+public class SearchResultDto {
+    public Long id;
+    // The post a comment belongs to; null for posts
+    public Long postId;
+    public String title;
+    public String username;
+    public LocalDateTime created;
+    public double score;
+    // HTML-escaped snippet of the content with the matched terms in <mark> tags
+    public String highlight;
+
+    public SearchResultDto() {
+    }
+
+    public SearchResultDto(final Long id, final Long postId, final String title, final String username,
+            final LocalDateTime created, final double score, final String highlight) {
+        this.id = id;
+        this.postId = postId;
+        this.title = title;
+        this.username = username;
+        this.created = created;
+        this.score = score;
+        this.highlight = highlight;
+    }
+}
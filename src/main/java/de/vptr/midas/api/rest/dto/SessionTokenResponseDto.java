@@ -0,0 +1,18 @@
+package de.vptr.midas.api.rest.dto;
+
+import de.vptr.midas.api.security.SessionTokenService.SessionToken;
+
+public class SessionTokenResponseDto {
+    public String token;
+    public String tokenType;
+    public Long expiresAt;
+
+    public SessionTokenResponseDto() {
+    }
+
+    public SessionTokenResponseDto(final SessionToken sessionToken) {
+        this.token = sessionToken.token();
+        this.tokenType = "Bearer";
+        this.expiresAt = sessionToken.expiresAt();
+    }
+}
@@ -1,5 +1,7 @@
 package de.vptr.midas.api.rest.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
 import jakarta.validation.constraints.Size;
 
 public class UserRankDto {
@@ -47,6 +49,10 @@ public class UserRankDto {
     public Boolean userRankDelete;
     public Boolean userRankEdit;
 
+    // Expected version, taken from the If-Match header
+    @JsonIgnore
+    public Long version;
+
     public UserRankDto() {
     }
 
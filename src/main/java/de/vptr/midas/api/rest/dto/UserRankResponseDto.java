@@ -50,6 +50,8 @@ public class UserRankResponseDto {
     // Computed fields
     public Long usersCount;
 
+    public Long version;
+
     public UserRankResponseDto() {
     }
 
@@ -100,6 +102,7 @@ public class UserRankResponseDto {
 
             // Computed fields
             this.usersCount = entity.users != null ? (long) entity.users.size() : 0L;
+            this.version = entity.version;
         }
     }
 }
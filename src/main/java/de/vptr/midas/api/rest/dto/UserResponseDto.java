@@ -38,8 +38,8 @@ public class UserResponseDto {
             this.lastIp = entity.lastIp;
             this.created = entity.created;
             this.lastLogin = entity.lastLogin;
-            this.postsCount = entity.posts != null ? (long) entity.posts.size() : 0L;
-            this.commentsCount = entity.comments != null ? (long) entity.comments.size() : 0L;
+            this.postsCount = entity.postCount;
+            this.commentsCount = entity.commentCount;
         }
     }
 }
@@ -1,5 +1,6 @@
 package de.vptr.midas.api.rest.entity;
 
+import java.math.BigDecimal;
 import java.util.Collections;
 import java.util.List;
 
@@ -18,6 +19,18 @@ public class AccountEntity extends PanacheEntityBase {
     @NotBlank
     public String name;
 
+    // Running balance, written by AccountBalanceService only
+    @Column(precision = 15, scale = 2, insertable = false, updatable = false)
+    public BigDecimal balance;
+
+    // Maintained by CounterService
+    @Column(name = "user_count", insertable = false, updatable = false)
+    public long userCount;
+
+    // Optimistic lock, exposed as ETag
+    @Version
+    public Long version;
+
     @OneToMany(mappedBy = "account", cascade = CascadeType.ALL)
     public List<UserAccountMetaEntity> userAccountMetas;
 
@@ -1,5 +1,6 @@
 package de.vptr.midas.api.rest.entity;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 import io.quarkus.hibernate.orm.panache.PanacheEntityBase;
@@ -22,13 +23,11 @@ public class PageEntity extends PanacheEntityBase {
     @NotBlank
     public String content;
 
+    @Column(name = "last_edit")
+    public LocalDateTime lastEdit;
+
     // Helper method to search pages by title
     public static List<PageEntity> findByTitleContaining(final String title) {
         return find("title LIKE ?1", "%" + title + "%").list();
     }
-
-    // Helper method to search pages by content (using fulltext search)
-    public static List<PageEntity> searchContent(final String searchTerm) {
-        return find("MATCH(content) AGAINST(?1)", searchTerm).list();
-    }
 }
@@ -15,8 +15,10 @@ import jakarta.validation.constraints.NotNull;
 @Table(name = "user_payments")
 public class PaymentEntity extends PanacheEntityBase {
 
+    // Pooled sequence instead of IDENTITY, so inserts can be JDBC-batched
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "user_payments_seq")
+    @SequenceGenerator(name = "user_payments_seq", sequenceName = "user_payments_seq", allocationSize = 50)
     public Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -47,6 +49,10 @@ public class PaymentEntity extends PanacheEntityBase {
     @Column(name = "last_edit")
     public LocalDateTime lastEdit;
 
+    // Optimistic lock, exposed as ETag
+    @Version
+    public Long version;
+
     // Helper methods for queries
     public static List<PaymentEntity> findByUserId(final Long userId) {
         return find("userId.id", userId).list();
@@ -73,10 +79,38 @@ public class PaymentEntity extends PanacheEntityBase {
         return find("amount BETWEEN ?1 AND ?2", minAmount, maxAmount).list();
     }
 
+    // Helper method to get all payments of an account, newest first
+    public static List<PaymentEntity> findByAccountId(final Long accountId) {
+        return find("sourceAccount.id = ?1 OR targetAccount.id = ?1 ORDER BY created DESC", accountId).list();
+    }
+
+    // Helper method to count payments of an account
+    public static long countByAccountId(final Long accountId) {
+        return count("sourceAccount.id = ?1 OR targetAccount.id = ?1", accountId);
+    }
+
     // Helper method to calculate total amount for a user
     public static BigDecimal getTotalAmountByUser(final Long userId) {
-        return find("SELECT SUM(p.amount) FROM UserPayment p WHERE p.user.id = ?1", userId)
+        return find("SELECT SUM(p.amount) FROM PaymentEntity p WHERE p.userId.id = ?1", userId)
                 .project(BigDecimal.class)
                 .firstResult();
     }
+
+    // Helper method to aggregate the payments of an account in one query; returns
+    // [incoming total, outgoing total, count, first date, last date], or null if
+    // the account does not exist
+    public static Object[] summarizeAccount(final Long accountId) {
+        return getEntityManager().createQuery(
+                "SELECT COALESCE(SUM(CASE WHEN p.targetAccount.id = a.id THEN p.amount ELSE 0 END), 0), "
+                        + "COALESCE(SUM(CASE WHEN p.sourceAccount.id = a.id THEN p.amount ELSE 0 END), 0), "
+                        + "COUNT(p.id), MIN(p.date), MAX(p.date) "
+                        + "FROM AccountEntity a "
+                        + "LEFT JOIN PaymentEntity p ON p.targetAccount.id = a.id OR p.sourceAccount.id = a.id "
+                        + "WHERE a.id = ?1 GROUP BY a.id",
+                Object[].class)
+                .setParameter(1, accountId)
+                .getResultStream()
+                .findFirst()
+                .orElse(null);
+    }
 }
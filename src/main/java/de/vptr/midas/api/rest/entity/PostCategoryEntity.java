@@ -2,11 +2,17 @@ package de.vptr.midas.api.rest.entity;
 
 import java.util.List;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
 import io.quarkus.hibernate.orm.panache.PanacheEntityBase;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 
 @Entity
+@Cacheable
 @Table(name = "post_categories")
 public class PostCategoryEntity extends PanacheEntityBase {
 
@@ -21,10 +27,15 @@ public class PostCategoryEntity extends PanacheEntityBase {
     @JoinColumn(name = "parent_id")
     public PostCategoryEntity parent;
 
+    // Cached; evicted by PostCategoryService, since the owning side is the child.
+    // Not serialized; the hierarchy is served by /categories/tree
     @OneToMany(mappedBy = "parent", cascade = CascadeType.ALL)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+    @JsonIgnore
     public List<PostCategoryEntity> children;
 
     @OneToMany(mappedBy = "category", cascade = CascadeType.ALL)
+    @JsonIgnore
     public List<PostEntity> posts;
 
     // Helper method to check if this is a root category
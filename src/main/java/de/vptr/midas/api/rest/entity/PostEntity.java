@@ -47,4 +47,13 @@ public class PostEntity extends PanacheEntityBase {
     @OneToMany(mappedBy = "post", cascade = CascadeType.ALL)
     @JsonIgnore
     public List<PostCommentEntity> comments;
+
+    // Maintained by CounterService, so lists don't have to load the comments
+    @Column(name = "comment_count", insertable = false, updatable = false)
+    @JsonIgnore
+    public long commentCount;
+
+    // Optimistic lock, exposed as ETag
+    @Version
+    public Long version;
 }
@@ -63,4 +63,13 @@ public class UserEntity extends PanacheEntityBase {
     @OneToMany(mappedBy = "user", cascade = CascadeType.ALL)
     @JsonIgnore
     public List<PostCommentEntity> comments;
+
+    // Maintained by CounterService, so lists don't have to load posts and comments
+    @Column(name = "post_count", insertable = false, updatable = false)
+    @JsonIgnore
+    public long postCount;
+
+    @Column(name = "comment_count", insertable = false, updatable = false)
+    @JsonIgnore
+    public long commentCount;
 }
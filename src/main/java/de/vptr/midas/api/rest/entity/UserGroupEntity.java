@@ -7,6 +7,7 @@ import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 
 @Entity
+@Cacheable
 @Table(name = "user_groups")
 public class UserGroupEntity extends PanacheEntityBase {
 
@@ -17,6 +18,10 @@ public class UserGroupEntity extends PanacheEntityBase {
     @NotBlank
     public String name;
 
+    // Maintained by CounterService
+    @Column(name = "user_count", insertable = false, updatable = false)
+    public long userCount;
+
     @OneToMany(mappedBy = "group", cascade = CascadeType.ALL)
     public List<UserGroupMetaEntity> userGroupMetas;
 
@@ -34,6 +39,6 @@ public class UserGroupEntity extends PanacheEntityBase {
 
     // Helper method to get user count in this group
     public long getUserCount() {
-        return this.userGroupMetas != null ? this.userGroupMetas.size() : 0;
+        return this.userCount;
     }
 }
@@ -9,6 +9,7 @@ import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 
 @Entity
+@Cacheable
 @Table(name = "user_ranks")
 public class UserRankEntity extends PanacheEntityBase {
 
@@ -99,6 +100,10 @@ public class UserRankEntity extends PanacheEntityBase {
     @Column(name = "user_rank_edit", columnDefinition = "TINYINT(1)")
     public Boolean userRankEdit = false;
 
+    // Optimistic lock, exposed as ETag
+    @Version
+    public Long version;
+
     @OneToMany(mappedBy = "rank", cascade = CascadeType.ALL)
     @JsonIgnore
     public List<UserEntity> users;
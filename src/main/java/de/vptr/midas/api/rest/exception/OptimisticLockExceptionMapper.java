@@ -0,0 +1,21 @@
+package de.vptr.midas.api.rest.exception;
+
+import jakarta.persistence.OptimisticLockException;
+import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.ext.ExceptionMapper;
+import jakarta.ws.rs.ext.Provider;
+
+/**
+ * A concurrent write got between the If-Match check and the flush
+ */
+@Provider
+public class OptimisticLockExceptionMapper implements ExceptionMapper<OptimisticLockException> {
+
+    @Override
+    public Response toResponse(final OptimisticLockException exception) {
+        return Response.status(Response.Status.PRECONDITION_FAILED)
+                .entity(new ValidationExceptionMapper.ErrorResponse("Precondition failed",
+                        "Resource has been modified concurrently"))
+                .build();
+    }
+}
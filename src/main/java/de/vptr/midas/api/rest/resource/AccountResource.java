@@ -5,39 +5,58 @@ import java.util.List;
 
 import de.vptr.midas.api.rest.dto.AccountDto;
 import de.vptr.midas.api.rest.dto.AccountResponseDto;
+import de.vptr.midas.api.rest.dto.PaginatedResponseDto;
 import de.vptr.midas.api.rest.entity.AccountEntity;
 import de.vptr.midas.api.rest.entity.PaymentEntity;
 import de.vptr.midas.api.rest.entity.UserAccountMetaEntity;
 import de.vptr.midas.api.rest.entity.UserEntity;
+import de.vptr.midas.api.rest.service.AccountBalanceService;
+import de.vptr.midas.api.rest.service.AccountBalanceService.BalanceMismatch;
 import de.vptr.midas.api.rest.service.AccountService;
+import de.vptr.midas.api.rest.util.ConditionalGet;
+import de.vptr.midas.api.rest.util.EntityTags;
+import de.vptr.midas.api.rest.util.PageRequest;
 import de.vptr.midas.api.rest.util.ResponseUtil;
 import io.quarkus.security.Authenticated;
+import io.smallrye.common.annotation.RunOnVirtualThread;
 import jakarta.annotation.security.RolesAllowed;
 import jakarta.inject.Inject;
+import jakarta.transaction.Transactional;
 import jakarta.validation.Valid;
 import jakarta.ws.rs.*;
+import jakarta.ws.rs.core.Context;
 import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Request;
 import jakarta.ws.rs.core.Response;
 
 @Path("/accounts")
 @Produces(MediaType.APPLICATION_JSON)
 @Consumes(MediaType.APPLICATION_JSON)
 @Authenticated
+@RunOnVirtualThread
 public class AccountResource {
 
     @Inject
     AccountService accountService;
 
+    @Inject
+    AccountBalanceService accountBalanceService;
+
     @GET
     @RolesAllowed({ "user-group:edit", "user-group:delete" })
-    public List<AccountEntity> getAllAccounts() {
-        return this.accountService.getAllAccounts();
+    public PaginatedResponseDto<AccountEntity> getAllAccounts(
+            @QueryParam("limit") final Integer limit,
+            @QueryParam("cursor") final String cursor,
+            @QueryParam("offset") final Long offset) {
+        return this.accountService.getAccounts(PageRequest.of(limit, cursor, offset));
     }
 
     @GET
     @Path("/{id}")
-    public Response getAccount(@PathParam("id") final Long id) {
-        return ResponseUtil.okOrNotFound(this.accountService.findById(id));
+    @Transactional
+    public Response getAccount(@PathParam("id") final Long id, @Context final Request request) {
+        return ConditionalGet.ofVersion(request, this.accountService.findVersion(id),
+                () -> this.accountService.findById(id));
     }
 
     @GET
@@ -83,6 +102,28 @@ public class AccountResource {
         return ResponseUtil.ok("{\"balance\": " + balance + "}");
     }
 
+    @GET
+    @Path("/{id}/summary")
+    @RolesAllowed({ "user-group:edit", "user-group:delete" })
+    public Response getAccountSummary(@PathParam("id") final Long accountId) {
+        return ResponseUtil.okOrNotFound(this.accountService.getAccountSummary(accountId));
+    }
+
+    @GET
+    @Path("/balances/verify")
+    @RolesAllowed({ "user-account:edit" })
+    public List<BalanceMismatch> verifyBalances() {
+        return this.accountBalanceService.verifyBalances();
+    }
+
+    @POST
+    @Path("/balances/rebuild")
+    @RolesAllowed({ "user-account:edit" })
+    public Response rebuildBalances() {
+        final int updated = this.accountBalanceService.rebuildBalances();
+        return ResponseUtil.ok("{\"updated\": " + updated + "}");
+    }
+
     @GET
     @Path("/user/{userId}/account/{accountId}/check")
     @RolesAllowed({ "user-group:edit", "user-group:delete" })
@@ -107,29 +148,33 @@ public class AccountResource {
     @PUT
     @Path("/{id}")
     @RolesAllowed({ "user-group:edit" })
-    public Response updateAccount(@PathParam("id") final Long id, @Valid final AccountDto accountDto) {
+    public Response updateAccount(@PathParam("id") final Long id, @HeaderParam("If-Match") final String ifMatch,
+            @Valid final AccountDto accountDto) {
         // Map DTO to entity
         final AccountEntity account = new AccountEntity();
         account.id = id;
         account.name = accountDto.name;
+        account.version = EntityTags.expectedVersion(id, ifMatch);
 
         final AccountEntity updated = this.accountService.updateAccount(account);
         final AccountResponseDto responseDto = new AccountResponseDto(updated);
-        return ResponseUtil.ok(responseDto);
+        return ResponseUtil.ok(responseDto, EntityTags.of(updated.id, updated.version));
     }
 
     @PATCH
     @Path("/{id}")
     @RolesAllowed({ "user-group:edit" })
-    public Response patchAccount(@PathParam("id") final Long id, @Valid final AccountDto accountDto) {
+    public Response patchAccount(@PathParam("id") final Long id, @HeaderParam("If-Match") final String ifMatch,
+            @Valid final AccountDto accountDto) {
         // Map DTO to entity
         final AccountEntity account = new AccountEntity();
         account.id = id;
         account.name = accountDto.name;
+        account.version = EntityTags.expectedVersion(id, ifMatch);
 
         final AccountEntity updated = this.accountService.patchAccount(account);
         final AccountResponseDto responseDto = new AccountResponseDto(updated);
-        return ResponseUtil.ok(responseDto);
+        return ResponseUtil.ok(responseDto, EntityTags.of(updated.id, updated.version));
     }
 
     @DELETE
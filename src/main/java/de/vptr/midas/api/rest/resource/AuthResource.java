@@ -3,10 +3,17 @@ package de.vptr.midas.api.rest.resource;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import de.vptr.midas.api.rest.dto.SessionTokenResponseDto;
 import de.vptr.midas.api.rest.util.ResponseUtil;
+import de.vptr.midas.api.security.SessionTokenService;
 import io.quarkus.security.Authenticated;
+import io.quarkus.security.identity.SecurityIdentity;
+import jakarta.inject.Inject;
 import jakarta.ws.rs.HEAD;
+import jakarta.ws.rs.POST;
 import jakarta.ws.rs.Path;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Response;
 
 @Path("/auth")
@@ -14,10 +21,32 @@ public class AuthResource {
 
     private static final Logger LOG = LoggerFactory.getLogger(AuthResource.class);
 
+    @Inject
+    SecurityIdentity identity;
+
+    @Inject
+    SessionTokenService sessionTokenService;
+
     @HEAD
     @Authenticated
     public Response validateAuth() {
         LOG.trace("validateCredentials() method called");
         return ResponseUtil.ok();
     }
+
+    @POST
+    @Path("/login")
+    @Authenticated
+    @Produces(MediaType.APPLICATION_JSON)
+    public Response login() {
+        LOG.trace("login() method called");
+        // Only a password login issues tokens; renewing with a token would skip the ban, activation and rank checks
+        if (this.identity.getAttribute(SessionTokenService.TOKEN_ATTRIBUTE) != null) {
+            return ResponseUtil.unauthorized();
+        }
+        final var sessionToken = this.sessionTokenService.issue(
+                this.identity.getPrincipal().getName(),
+                this.identity.getRoles());
+        return ResponseUtil.ok(new SessionTokenResponseDto(sessionToken));
+    }
 }
@@ -0,0 +1,31 @@
+package de.vptr.midas.api.rest.resource;
+
+import java.util.List;
+
+import de.vptr.midas.api.rest.dto.CacheRegionStatisticsDto;
+import de.vptr.midas.api.rest.service.CacheStatisticsService;
+import io.quarkus.security.Authenticated;
+import io.smallrye.common.annotation.RunOnVirtualThread;
+import jakarta.annotation.security.RolesAllowed;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.MediaType;
+
+@Path("/cache")
+@Produces(MediaType.APPLICATION_JSON)
+@Authenticated
+@RunOnVirtualThread
+public class CacheResource {
+
+    @Inject
+    CacheStatisticsService cacheStatisticsService;
+
+    @GET
+    @Path("/statistics")
+    @RolesAllowed({ "user-rank:edit" })
+    public List<CacheRegionStatisticsDto> getStatistics() {
+        return this.cacheStatisticsService.getRegionStatistics();
+    }
+}
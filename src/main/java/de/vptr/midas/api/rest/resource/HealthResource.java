@@ -4,20 +4,33 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import de.vptr.midas.api.rest.util.ResponseUtil;
+import io.smallrye.health.SmallRyeHealthReporter;
 import jakarta.annotation.security.PermitAll;
+import jakarta.inject.Inject;
 import jakarta.ws.rs.HEAD;
 import jakarta.ws.rs.Path;
 import jakarta.ws.rs.core.Response;
 
+/**
+ * Legacy health endpoint; reports the same state as /q/health/ready, so
+ * clients still polling it stop routing traffic to instances that are not
+ * ready or shutting down.
+ */
 @Path("/health")
 public class HealthResource {
 
     private static final Logger LOG = LoggerFactory.getLogger(HealthResource.class);
 
+    @Inject
+    SmallRyeHealthReporter healthReporter;
+
     @HEAD
     @PermitAll
     public Response healthCheck() {
         LOG.trace("healthCheck() method called");
+        if (this.healthReporter.getReadiness().isDown()) {
+            return Response.status(Response.Status.SERVICE_UNAVAILABLE).build();
+        }
         return ResponseUtil.ok();
     }
 }
@@ -5,49 +5,89 @@ import java.util.List;
 import de.vptr.midas.api.rest.dto.PageDto;
 import de.vptr.midas.api.rest.dto.PageResponseDto;
 import de.vptr.midas.api.rest.service.PageService;
+import de.vptr.midas.api.rest.service.PayloadCache;
+import de.vptr.midas.api.rest.util.ConditionalGet;
+import de.vptr.midas.api.rest.util.ListView;
+import de.vptr.midas.api.rest.util.PageRequest;
 import de.vptr.midas.api.rest.util.ResponseUtil;
 import io.quarkus.security.Authenticated;
+import io.smallrye.common.annotation.RunOnVirtualThread;
 import jakarta.annotation.security.RolesAllowed;
 import jakarta.inject.Inject;
+import jakarta.transaction.Transactional;
 import jakarta.ws.rs.*;
+import jakarta.ws.rs.core.Context;
+import jakarta.ws.rs.core.HttpHeaders;
 import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Request;
 import jakarta.ws.rs.core.Response;
 
 @Path("/pages")
 @Produces(MediaType.APPLICATION_JSON)
 @Consumes(MediaType.APPLICATION_JSON)
 @Authenticated
+@RunOnVirtualThread
 public class PageResource {
 
     @Inject
     PageService pageService;
 
+    @Inject
+    PayloadCache payloadCache;
+
     @GET
-    public List<PageResponseDto> getAllPages() {
-        return this.pageService.getAllPages();
+    public Response getAllPages(
+            @QueryParam("limit") final Integer limit,
+            @QueryParam("cursor") final String cursor,
+            @QueryParam("offset") final Long offset,
+            @QueryParam("view") final String view,
+            @QueryParam("excerpt") final Integer excerpt,
+            @HeaderParam(HttpHeaders.ACCEPT_ENCODING) final String acceptEncoding) {
+        // Validates the parameters before they become part of the cache key
+        final var pageRequest = PageRequest.of(limit, cursor, offset);
+        final var key = limit + ":" + cursor + ":" + offset;
+        if (ListView.of(view) == ListView.SUMMARY) {
+            final var excerptLength = ListView.excerptLength(excerpt);
+            return this.payloadCache.get(PayloadCache.PAGES, key + ":summary:" + excerptLength, acceptEncoding,
+                    () -> this.pageService.getPageSummaries(pageRequest, excerptLength));
+        }
+        return this.payloadCache.get(PayloadCache.PAGES, key, acceptEncoding,
+                () -> this.pageService.getPages(pageRequest));
     }
 
     @GET
     @Path("/{id}")
-    public Response getPage(@PathParam("id") final Long id) {
-        return ResponseUtil.okOrNotFound(this.pageService.findById(id));
+    @Transactional
+    public Response getPage(@PathParam("id") final Long id, @Context final Request request) {
+        return ConditionalGet.ofVersion(request, this.pageService.findVersion(id),
+                () -> this.pageService.findById(id));
     }
 
     @GET
     @Path("/search/title")
-    public List<PageResponseDto> searchByTitle(@QueryParam("q") final String title) {
+    public List<?> searchByTitle(@QueryParam("q") final String title,
+            @QueryParam("view") final String view,
+            @QueryParam("excerpt") final Integer excerpt) {
         if (title == null || title.trim().isEmpty()) {
             throw new BadRequestException("Search query parameter 'q' is required");
         }
+        if (ListView.of(view) == ListView.SUMMARY) {
+            return this.pageService.findSummariesByTitleContaining(title, ListView.excerptLength(excerpt));
+        }
         return this.pageService.findByTitleContaining(title);
     }
 
     @GET
     @Path("/search/content")
-    public List<PageResponseDto> searchContent(@QueryParam("q") final String searchTerm) {
+    public List<?> searchContent(@QueryParam("q") final String searchTerm,
+            @QueryParam("view") final String view,
+            @QueryParam("excerpt") final Integer excerpt) {
         if (searchTerm == null || searchTerm.trim().isEmpty()) {
             throw new BadRequestException("Search query parameter 'q' is required");
         }
+        if (ListView.of(view) == ListView.SUMMARY) {
+            return this.pageService.searchContentSummaries(searchTerm, ListView.excerptLength(excerpt));
+        }
         return this.pageService.searchContent(searchTerm);
     }
 
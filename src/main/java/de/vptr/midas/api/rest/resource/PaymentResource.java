@@ -4,37 +4,85 @@ import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.List;
 
+import de.vptr.midas.api.rest.dto.PaginatedResponseDto;
+import de.vptr.midas.api.rest.dto.PaymentBatchResponseDto;
 import de.vptr.midas.api.rest.dto.PaymentDto;
 import de.vptr.midas.api.rest.dto.PaymentResponseDto;
+import de.vptr.midas.api.rest.service.PaymentExportService;
 import de.vptr.midas.api.rest.service.PaymentService;
+import de.vptr.midas.api.rest.util.ConditionalGet;
+import de.vptr.midas.api.rest.util.EntityTags;
+import de.vptr.midas.api.rest.util.PageRequest;
 import de.vptr.midas.api.rest.util.ResponseUtil;
 import io.quarkus.security.Authenticated;
+import io.smallrye.common.annotation.RunOnVirtualThread;
 import jakarta.annotation.security.RolesAllowed;
 import jakarta.inject.Inject;
+import jakarta.transaction.Transactional;
 import jakarta.ws.rs.*;
+import jakarta.ws.rs.core.Context;
 import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Request;
 import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.core.StreamingOutput;
 
 @Path("/payments")
 @Produces(MediaType.APPLICATION_JSON)
 @Consumes(MediaType.APPLICATION_JSON)
 @Authenticated
+@RunOnVirtualThread
 public class PaymentResource {
 
+    private static final String NDJSON = "application/x-ndjson";
+    private static final String CSV = "text/csv";
+
     @Inject
     PaymentService paymentService;
 
+    @Inject
+    PaymentExportService paymentExportService;
+
     @GET
     @RolesAllowed({ "user-account:edit", "user-account:delete" })
-    public List<PaymentResponseDto> getAllPayments() {
-        return this.paymentService.getAllPayments();
+    public PaginatedResponseDto<PaymentResponseDto> getAllPayments(
+            @QueryParam("limit") final Integer limit,
+            @QueryParam("cursor") final String cursor,
+            @QueryParam("offset") final Long offset) {
+        return this.paymentService.getPayments(PageRequest.of(limit, cursor, offset));
+    }
+
+    @GET
+    @Path("/export")
+    @Produces({ NDJSON, CSV })
+    @RolesAllowed({ "user-account:edit", "user-account:delete" })
+    public Response exportPayments(@QueryParam("format") @DefaultValue("ndjson") final String format) {
+        final StreamingOutput body;
+        final String mediaType;
+
+        switch (format) {
+            case "ndjson" -> {
+                body = this.paymentExportService::exportNdjson;
+                mediaType = NDJSON;
+            }
+            case "csv" -> {
+                body = this.paymentExportService::exportCsv;
+                mediaType = CSV;
+            }
+            default -> throw new BadRequestException("Parameter 'format' must be 'ndjson' or 'csv'");
+        }
+
+        return Response.ok(body, mediaType)
+                .header("Content-Disposition", "attachment; filename=\"payments." + format + "\"")
+                .build();
     }
 
     @GET
     @Path("/{id}")
     @RolesAllowed({ "user-account:edit", "user-account:delete" })
-    public Response getPayment(@PathParam("id") final Long id) {
-        return ResponseUtil.okOrNotFound(this.paymentService.findById(id));
+    @Transactional
+    public Response getPayment(@PathParam("id") final Long id, @Context final Request request) {
+        return ConditionalGet.ofVersion(request, this.paymentService.findVersion(id),
+                () -> this.paymentService.findById(id));
     }
 
     @GET
@@ -104,20 +152,32 @@ public class PaymentResource {
         return ResponseUtil.created(created);
     }
 
+    @POST
+    @Path("/batch")
+    @RolesAllowed({ "user-account:add" })
+    public Response createPayments(final List<PaymentDto> paymentDtos) {
+        final PaymentBatchResponseDto result = this.paymentService.createPayments(paymentDtos);
+        return ResponseUtil.ok(result);
+    }
+
     @PUT
     @Path("/{id}")
     @RolesAllowed({ "user-account:edit" })
-    public Response updatePayment(@PathParam("id") final Long id, final PaymentDto paymentDto) {
+    public Response updatePayment(@PathParam("id") final Long id, @HeaderParam("If-Match") final String ifMatch,
+            final PaymentDto paymentDto) {
+        paymentDto.version = EntityTags.expectedVersion(id, ifMatch);
         final PaymentResponseDto updated = this.paymentService.updatePayment(id, paymentDto);
-        return ResponseUtil.ok(updated);
+        return ResponseUtil.ok(updated, EntityTags.of(updated.id, updated.version));
     }
 
     @PATCH
     @Path("/{id}")
     @RolesAllowed({ "user-account:edit" })
-    public Response patchPayment(@PathParam("id") final Long id, final PaymentDto paymentDto) {
+    public Response patchPayment(@PathParam("id") final Long id, @HeaderParam("If-Match") final String ifMatch,
+            final PaymentDto paymentDto) {
+        paymentDto.version = EntityTags.expectedVersion(id, ifMatch);
         final PaymentResponseDto updated = this.paymentService.patchPayment(id, paymentDto);
-        return ResponseUtil.ok(updated);
+        return ResponseUtil.ok(updated, EntityTags.of(updated.id, updated.version));
     }
 
     @DELETE
@@ -4,14 +4,18 @@ import java.util.List;
 
 import de.vptr.midas.api.rest.dto.PostCategoryDto;
 import de.vptr.midas.api.rest.dto.PostCategoryResponseDto;
+import de.vptr.midas.api.rest.dto.PostCategoryTreeDto;
 import de.vptr.midas.api.rest.entity.PostCategoryEntity;
+import de.vptr.midas.api.rest.service.PayloadCache;
 import de.vptr.midas.api.rest.service.PostCategoryService;
 import de.vptr.midas.api.rest.util.ResponseUtil;
 import io.quarkus.security.Authenticated;
+import io.smallrye.common.annotation.RunOnVirtualThread;
 import jakarta.annotation.security.RolesAllowed;
 import jakarta.inject.Inject;
 import jakarta.validation.Valid;
 import jakarta.ws.rs.*;
+import jakarta.ws.rs.core.HttpHeaders;
 import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Response;
 
@@ -19,11 +23,15 @@ import jakarta.ws.rs.core.Response;
 @Produces(MediaType.APPLICATION_JSON)
 @Consumes(MediaType.APPLICATION_JSON)
 @Authenticated
+@RunOnVirtualThread
 public class PostCategoryResource {
 
     @Inject
     PostCategoryService categoryService;
 
+    @Inject
+    PayloadCache payloadCache;
+
     @GET
     @Authenticated
     public List<PostCategoryEntity> getAllCategories() {
@@ -33,8 +41,16 @@ public class PostCategoryResource {
     @GET
     @Path("/root")
     @Authenticated
-    public List<PostCategoryEntity> getRootCategories() {
-        return this.categoryService.findRootCategories();
+    public Response getRootCategories(@HeaderParam(HttpHeaders.ACCEPT_ENCODING) final String acceptEncoding) {
+        return this.payloadCache.get(PayloadCache.ROOT_CATEGORIES, "", acceptEncoding,
+                this.categoryService::findRootCategories);
+    }
+
+    @GET
+    @Path("/tree")
+    @Authenticated
+    public List<PostCategoryTreeDto> getCategoryTree() {
+        return this.categoryService.getCategoryTree();
     }
 
     @GET
@@ -44,6 +60,20 @@ public class PostCategoryResource {
         return ResponseUtil.okOrNotFound(this.categoryService.findById(id));
     }
 
+    @GET
+    @Path("/{id}/tree")
+    @Authenticated
+    public Response getSubtree(@PathParam("id") final Long id) {
+        return ResponseUtil.okOrNotFound(this.categoryService.getSubtree(id));
+    }
+
+    @GET
+    @Path("/{id}/ancestors")
+    @Authenticated
+    public Response getAncestors(@PathParam("id") final Long id) {
+        return ResponseUtil.okOrNotFound(this.categoryService.getAncestors(id));
+    }
+
     @GET
     @Path("/parent/{parentId}")
     @Authenticated
@@ -2,13 +2,18 @@ package de.vptr.midas.api.rest.resource;
 
 import java.util.List;
 
+import de.vptr.midas.api.rest.dto.PaginatedResponseDto;
 import de.vptr.midas.api.rest.dto.PostCommentDto;
 import de.vptr.midas.api.rest.dto.PostCommentResponseDto;
+import de.vptr.midas.api.rest.dto.SearchResultDto;
 import de.vptr.midas.api.rest.entity.PostCommentEntity;
 import de.vptr.midas.api.rest.entity.PostEntity;
 import de.vptr.midas.api.rest.service.PostCommentService;
+import de.vptr.midas.api.rest.service.SearchService;
+import de.vptr.midas.api.rest.util.PageRequest;
 import de.vptr.midas.api.rest.util.ResponseUtil;
 import io.quarkus.security.Authenticated;
+import io.smallrye.common.annotation.RunOnVirtualThread;
 import jakarta.annotation.security.RolesAllowed;
 import jakarta.inject.Inject;
 import jakarta.validation.Valid;
@@ -21,6 +26,7 @@ import jakarta.ws.rs.core.SecurityContext;
 @Produces(MediaType.APPLICATION_JSON)
 @Consumes(MediaType.APPLICATION_JSON)
 @Authenticated
+@RunOnVirtualThread
 public class PostCommentResource {
 
     @Inject
@@ -29,10 +35,16 @@ public class PostCommentResource {
     @Inject
     PostCommentService commentService;
 
+    @Inject
+    SearchService searchService;
+
     @GET
     @RolesAllowed({ "post-comment:edit", "post-comment:delete" })
-    public List<PostCommentEntity> getAllComments() {
-        return this.commentService.getAllComments();
+    public PaginatedResponseDto<PostCommentEntity> getAllComments(
+            @QueryParam("limit") final Integer limit,
+            @QueryParam("cursor") final String cursor,
+            @QueryParam("offset") final Long offset) {
+        return this.commentService.getComments(PageRequest.of(limit, cursor, offset));
     }
 
     @GET
@@ -55,6 +67,16 @@ public class PostCommentResource {
         return this.commentService.findByUserId(userId);
     }
 
+    @GET
+    @Path("/search")
+    @Authenticated
+    public PaginatedResponseDto<SearchResultDto> searchComments(@QueryParam("q") final String query,
+            @QueryParam("limit") final Integer limit,
+            @QueryParam("cursor") final String cursor,
+            @QueryParam("offset") final Long offset) {
+        return this.searchService.searchComments(query, limit, cursor, offset);
+    }
+
     @GET
     @Path("/recent")
     @Authenticated
@@ -3,56 +3,103 @@ package de.vptr.midas.api.rest.resource;
 import java.util.List;
 import java.util.stream.Collectors;
 
+import de.vptr.midas.api.rest.dto.PaginatedResponseDto;
 import de.vptr.midas.api.rest.dto.PostDto;
 import de.vptr.midas.api.rest.dto.PostResponseDto;
+import de.vptr.midas.api.rest.dto.SearchResultDto;
+import de.vptr.midas.api.rest.service.PayloadCache;
 import de.vptr.midas.api.rest.service.PostService;
+import de.vptr.midas.api.rest.service.SearchService;
+import de.vptr.midas.api.rest.util.ConditionalGet;
+import de.vptr.midas.api.rest.util.EntityTags;
+import de.vptr.midas.api.rest.util.ListView;
+import de.vptr.midas.api.rest.util.PageRequest;
 import de.vptr.midas.api.rest.util.ResponseUtil;
 import io.quarkus.security.Authenticated;
+import io.smallrye.common.annotation.RunOnVirtualThread;
 import jakarta.annotation.security.RolesAllowed;
 import jakarta.inject.Inject;
 import jakarta.transaction.Transactional;
 import jakarta.validation.Valid;
 import jakarta.ws.rs.*;
+import jakarta.ws.rs.core.Context;
+import jakarta.ws.rs.core.HttpHeaders;
 import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Request;
 import jakarta.ws.rs.core.Response;
 
 @Path("/posts")
 @Produces(MediaType.APPLICATION_JSON)
 @Consumes(MediaType.APPLICATION_JSON)
 @Authenticated
+@RunOnVirtualThread
 public class PostResource {
 
     @Inject
     PostService postService;
 
+    @Inject
+    PayloadCache payloadCache;
+
+    @Inject
+    SearchService searchService;
+
     @GET
-    public List<PostResponseDto> getAllPosts() {
-        return this.postService.getAllPosts()
-                .stream()
-                .map(PostResponseDto::new)
-                .collect(Collectors.toList());
+    public PaginatedResponseDto<?> getAllPosts(
+            @QueryParam("limit") final Integer limit,
+            @QueryParam("cursor") final String cursor,
+            @QueryParam("offset") final Long offset,
+            @QueryParam("view") final String view,
+            @QueryParam("excerpt") final Integer excerpt) {
+        final var pageRequest = PageRequest.of(limit, cursor, offset);
+        if (ListView.of(view) == ListView.SUMMARY) {
+            return this.postService.getPostSummaries(pageRequest, ListView.excerptLength(excerpt));
+        }
+        return this.postService.getPosts(pageRequest);
     }
 
     @GET
     @Path("/published")
-    public List<PostResponseDto> getPublishedPosts() {
-        return this.postService.findPublishedPosts()
-                .stream()
-                .map(PostResponseDto::new)
-                .collect(Collectors.toList());
+    public Response getPublishedPosts(@QueryParam("view") final String view,
+            @QueryParam("excerpt") final Integer excerpt,
+            @HeaderParam(HttpHeaders.ACCEPT_ENCODING) final String acceptEncoding) {
+        if (ListView.of(view) == ListView.SUMMARY) {
+            final var excerptLength = ListView.excerptLength(excerpt);
+            return this.payloadCache.get(PayloadCache.PUBLISHED_POSTS, "summary:" + excerptLength, acceptEncoding,
+                    () -> this.postService.findPublishedSummaries(excerptLength));
+        }
+        return this.payloadCache.get(PayloadCache.PUBLISHED_POSTS, "", acceptEncoding,
+                () -> this.postService.findPublishedPosts()
+                        .stream()
+                        .map(PostResponseDto::new)
+                        .collect(Collectors.toList()));
+    }
+
+    @GET
+    @Path("/search")
+    public PaginatedResponseDto<SearchResultDto> searchPosts(@QueryParam("q") final String query,
+            @QueryParam("limit") final Integer limit,
+            @QueryParam("cursor") final String cursor,
+            @QueryParam("offset") final Long offset) {
+        return this.searchService.searchPosts(query, limit, cursor, offset);
     }
 
     @GET
     @Path("/{id}")
     @Transactional
-    public Response getPost(@PathParam("id") final Long id) {
-        return ResponseUtil.okOrNotFound(
-                this.postService.findById(id).map(PostResponseDto::new));
+    public Response getPost(@PathParam("id") final Long id, @Context final Request request) {
+        return ConditionalGet.ofVersion(request, this.postService.findVersion(id),
+                () -> this.postService.findById(id).map(PostResponseDto::new));
     }
 
     @GET
     @Path("/user/{userId}")
-    public List<PostResponseDto> getPostsByUser(@PathParam("userId") final Long userId) {
+    public List<?> getPostsByUser(@PathParam("userId") final Long userId,
+            @QueryParam("view") final String view,
+            @QueryParam("excerpt") final Integer excerpt) {
+        if (ListView.of(view) == ListView.SUMMARY) {
+            return this.postService.findSummariesByUserId(userId, ListView.excerptLength(excerpt));
+        }
         return this.postService.findByUserId(userId)
                 .stream()
                 .map(PostResponseDto::new)
@@ -61,9 +108,20 @@ public class PostResource {
 
     @GET
     @Path("/category/{categoryId}")
-    public List<PostResponseDto> getPostsByCategory(@PathParam("categoryId") final Long categoryId) {
-        return this.postService.findByCategoryId(categoryId)
-                .stream()
+    public List<?> getPostsByCategory(@PathParam("categoryId") final Long categoryId,
+            @QueryParam("descendants") final boolean includeDescendants,
+            @QueryParam("view") final String view,
+            @QueryParam("excerpt") final Integer excerpt) {
+        if (ListView.of(view) == ListView.SUMMARY) {
+            final var excerptLength = ListView.excerptLength(excerpt);
+            return includeDescendants
+                    ? this.postService.findSummariesByCategoryIdIncludingDescendants(categoryId, excerptLength)
+                    : this.postService.findSummariesByCategoryId(categoryId, excerptLength);
+        }
+        final var posts = includeDescendants
+                ? this.postService.findByCategoryIdIncludingDescendants(categoryId)
+                : this.postService.findByCategoryId(categoryId);
+        return posts.stream()
                 .map(PostResponseDto::new)
                 .collect(Collectors.toList());
     }
@@ -78,17 +136,21 @@ public class PostResource {
     @PUT
     @Path("/{id}")
     @RolesAllowed({ "post:edit" })
-    public Response updatePost(@PathParam("id") final Long id, @Valid final PostDto postDto) {
+    public Response updatePost(@PathParam("id") final Long id, @HeaderParam("If-Match") final String ifMatch,
+            @Valid final PostDto postDto) {
+        postDto.version = EntityTags.expectedVersion(id, ifMatch);
         final PostResponseDto updated = this.postService.updatePost(id, postDto);
-        return ResponseUtil.ok(updated);
+        return ResponseUtil.ok(updated, EntityTags.of(updated.id, updated.version));
     }
 
     @PATCH
     @Path("/{id}")
     @RolesAllowed({ "post:edit" })
-    public Response patchPost(@PathParam("id") final Long id, final PostDto postDto) {
+    public Response patchPost(@PathParam("id") final Long id, @HeaderParam("If-Match") final String ifMatch,
+            final PostDto postDto) {
+        postDto.version = EntityTags.expectedVersion(id, ifMatch);
         final PostResponseDto updated = this.postService.patchPost(id, postDto);
-        return ResponseUtil.ok(updated);
+        return ResponseUtil.ok(updated, EntityTags.of(updated.id, updated.version));
     }
 
     @DELETE
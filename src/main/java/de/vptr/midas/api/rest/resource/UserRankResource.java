@@ -6,19 +6,26 @@ import java.util.stream.Collectors;
 import de.vptr.midas.api.rest.dto.UserRankDto;
 import de.vptr.midas.api.rest.dto.UserRankResponseDto;
 import de.vptr.midas.api.rest.service.UserRankService;
+import de.vptr.midas.api.rest.util.ConditionalGet;
+import de.vptr.midas.api.rest.util.EntityTags;
 import de.vptr.midas.api.rest.util.ResponseUtil;
 import io.quarkus.security.Authenticated;
+import io.smallrye.common.annotation.RunOnVirtualThread;
 import jakarta.annotation.security.RolesAllowed;
 import jakarta.inject.Inject;
+import jakarta.transaction.Transactional;
 import jakarta.validation.Valid;
 import jakarta.ws.rs.*;
+import jakarta.ws.rs.core.Context;
 import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Request;
 import jakarta.ws.rs.core.Response;
 
 @Path("/user-ranks")
 @Produces(MediaType.APPLICATION_JSON)
 @Consumes(MediaType.APPLICATION_JSON)
 @Authenticated
+@RunOnVirtualThread
 public class UserRankResource {
 
     @Inject
@@ -34,9 +41,10 @@ public class UserRankResource {
 
     @GET
     @Path("/{id}")
-    public Response getRank(@PathParam("id") final Long id) {
-        return ResponseUtil.okOrNotFound(
-                this.rankService.findById(id).map(UserRankResponseDto::new));
+    @Transactional
+    public Response getRank(@PathParam("id") final Long id, @Context final Request request) {
+        return ConditionalGet.ofVersion(request, this.rankService.findVersion(id),
+                () -> this.rankService.findById(id).map(UserRankResponseDto::new));
     }
 
     @GET
@@ -56,17 +64,21 @@ public class UserRankResource {
     @PUT
     @Path("/{id}")
     @RolesAllowed({ "user-rank:edit" })
-    public Response updateRank(@PathParam("id") final Long id, @Valid final UserRankDto rankDto) {
+    public Response updateRank(@PathParam("id") final Long id, @HeaderParam("If-Match") final String ifMatch,
+            @Valid final UserRankDto rankDto) {
+        rankDto.version = EntityTags.expectedVersion(id, ifMatch);
         final UserRankResponseDto updated = this.rankService.updateRank(id, rankDto);
-        return ResponseUtil.ok(updated);
+        return ResponseUtil.ok(updated, EntityTags.of(updated.id, updated.version));
     }
 
     @PATCH
     @Path("/{id}")
     @RolesAllowed({ "user-rank:edit" })
-    public Response patchRank(@PathParam("id") final Long id, final UserRankDto rankDto) {
+    public Response patchRank(@PathParam("id") final Long id, @HeaderParam("If-Match") final String ifMatch,
+            final UserRankDto rankDto) {
+        rankDto.version = EntityTags.expectedVersion(id, ifMatch);
         final UserRankResponseDto updated = this.rankService.patchRank(id, rankDto);
-        return ResponseUtil.ok(updated);
+        return ResponseUtil.ok(updated, EntityTags.of(updated.id, updated.version));
     }
 
     @DELETE
@@ -1,19 +1,23 @@
 package de.vptr.midas.api.rest.resource;
 
-import java.util.List;
-import java.util.stream.Collectors;
+import com.fasterxml.jackson.databind.ObjectMapper;
 
+import de.vptr.midas.api.rest.dto.PaginatedResponseDto;
 import de.vptr.midas.api.rest.dto.UserDto;
 import de.vptr.midas.api.rest.dto.UserResponseDto;
 import de.vptr.midas.api.rest.service.UserService;
+import de.vptr.midas.api.rest.util.ConditionalGet;
+import de.vptr.midas.api.rest.util.PageRequest;
 import de.vptr.midas.api.rest.util.ResponseUtil;
 import io.quarkus.security.Authenticated;
+import io.smallrye.common.annotation.RunOnVirtualThread;
 import jakarta.annotation.security.RolesAllowed;
 import jakarta.inject.Inject;
 import jakarta.validation.Valid;
 import jakarta.ws.rs.*;
 import jakarta.ws.rs.core.Context;
 import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Request;
 import jakarta.ws.rs.core.Response;
 import jakarta.ws.rs.core.SecurityContext;
 
@@ -21,21 +25,25 @@ import jakarta.ws.rs.core.SecurityContext;
 @Produces(MediaType.APPLICATION_JSON)
 @Consumes(MediaType.APPLICATION_JSON)
 @Authenticated
+@RunOnVirtualThread
 public class UserResource {
 
     @Inject
     UserService userService;
 
+    @Inject
+    ObjectMapper objectMapper;
+
     @Context
     SecurityContext securityContext;
 
     @GET
     @RolesAllowed({ "user:delete", "user:edit" })
-    public List<UserResponseDto> getAllUsers() {
-        return this.userService.getAllUsers()
-                .stream()
-                .map(UserResponseDto::new)
-                .collect(Collectors.toList());
+    public PaginatedResponseDto<UserResponseDto> getAllUsers(
+            @QueryParam("limit") final Integer limit,
+            @QueryParam("cursor") final String cursor,
+            @QueryParam("offset") final Long offset) {
+        return this.userService.getUsers(PageRequest.of(limit, cursor, offset));
     }
 
     @GET
@@ -72,8 +80,9 @@ public class UserResource {
     @GET
     @Path("/{id}")
     @RolesAllowed({ "user:delete", "user:edit" })
-    public Response getUser(@PathParam("id") final Long id) {
-        return ResponseUtil.okOrNotFound(
+    public Response getUser(@PathParam("id") final Long id, @Context final Request request) {
+        // Users carry no modification time, so the ETag is derived from the body
+        return ConditionalGet.ofRepresentation(request, this.objectMapper,
                 this.userService.findById(id).map(UserResponseDto::new));
     }
 
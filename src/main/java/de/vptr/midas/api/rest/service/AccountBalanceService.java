@@ -0,0 +1,181 @@
+package de.vptr.midas.api.rest.service;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.hibernate.query.NativeQuery;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import de.vptr.midas.api.rest.entity.AccountEntity;
+import de.vptr.midas.api.rest.entity.PaymentEntity;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.persistence.Query;
+import jakarta.transaction.Transactional;
+
+/**
+ * Maintains the running balance stored on {@code user_accounts}.
+ *
+ * Payment writes adjust the balances with relative SQL updates in the same
+ * transaction, so concurrent payments on one account cannot overwrite each
+ * other. The ledger in {@code user_payments} remains the source of truth;
+ * {@link #verifyBalances()} and {@link #rebuildBalances()} compare against
+ * and recompute from it.
+ */
+@ApplicationScoped
+public class AccountBalanceService {
+
+    private static final Logger LOG = LoggerFactory.getLogger(AccountBalanceService.class);
+
+    // The balance is part of the account representation, so it bumps the version (ETag)
+    private static final String ADJUST_SQL = "UPDATE user_accounts SET balance = balance + ?1, version = version + 1"
+            + " WHERE id = ?2";
+
+    private static final String LEDGER_BALANCE_SQL = "COALESCE((SELECT SUM(p.amount) FROM user_payments p"
+            + " WHERE p.target_id = a.id), 0) - COALESCE((SELECT SUM(p.amount) FROM user_payments p"
+            + " WHERE p.source_id = a.id), 0)";
+
+    private static final String REBUILD_SQL = "UPDATE user_accounts a SET balance = " + LEDGER_BALANCE_SQL
+            + ", version = version + 1";
+
+    private static final String VERIFY_SQL = "SELECT id, balance, expected FROM"
+            + " (SELECT a.id, a.balance, " + LEDGER_BALANCE_SQL + " AS expected FROM user_accounts a) b"
+            + " WHERE balance <> expected ORDER BY id";
+
+    /**
+     * Returns the stored balance of an account (a single primary key lookup)
+     *
+     * @param accountId the account ID
+     * @return the balance, or zero if the account does not exist
+     */
+    public BigDecimal getBalance(final Long accountId) {
+        final BigDecimal balance = AccountEntity.find("SELECT a.balance FROM AccountEntity a WHERE a.id = ?1",
+                accountId)
+                .project(BigDecimal.class)
+                .firstResult();
+        return balance != null ? balance : BigDecimal.ZERO;
+    }
+
+    /**
+     * Books a payment onto its accounts (source minus, target plus)
+     */
+    public void applyPayment(final PaymentEntity payment) {
+        this.adjust(List.of(Booking.of(payment)), List.of());
+    }
+
+    /**
+     * Books several payments with one update per affected account
+     */
+    public void applyPayments(final Collection<PaymentEntity> payments) {
+        this.adjust(payments.stream().map(Booking::of).toList(), List.of());
+    }
+
+    /**
+     * Reverses the booking of a payment, e.g. before it is deleted
+     */
+    public void revertPayment(final PaymentEntity payment) {
+        this.adjust(List.of(), List.of(Booking.of(payment)));
+    }
+
+    /**
+     * Moves the booking of a changed payment from its previous accounts and
+     * amount to the current ones, with one update per affected account
+     *
+     * @param previous the booking captured with {@link Booking#of} before the change
+     * @param payment  the changed payment
+     */
+    public void adjust(final Booking previous, final PaymentEntity payment) {
+        this.adjust(List.of(Booking.of(payment)), List.of(previous));
+    }
+
+    private void adjust(final Collection<Booking> applied, final Collection<Booking> reverted) {
+        // Merged into one map ordered by account id, so every transaction locks its rows once and in the same order
+        final Map<Long, BigDecimal> deltas = new TreeMap<>();
+        applied.forEach(booking -> booking.addTo(deltas, BigDecimal.ONE));
+        reverted.forEach(booking -> booking.addTo(deltas, BigDecimal.ONE.negate()));
+
+        deltas.forEach((accountId, delta) -> {
+            if (delta.signum() != 0) {
+                this.nativeUpdate(ADJUST_SQL)
+                        .setParameter(1, delta)
+                        .setParameter(2, accountId)
+                        .executeUpdate();
+            }
+        });
+    }
+
+    /**
+     * Recomputes all balances from the payment ledger
+     *
+     * @return the number of accounts updated
+     */
+    @Transactional
+    public int rebuildBalances() {
+        final var updated = this.nativeUpdate(REBUILD_SQL).executeUpdate();
+        LOG.info("Rebuilt balances of {} account(s) from the payment ledger", updated);
+        return updated;
+    }
+
+    /**
+     * Compares all stored balances with the payment ledger
+     *
+     * @return the accounts whose stored balance differs from the ledger
+     */
+    @Transactional
+    public List<BalanceMismatch> verifyBalances() {
+        @SuppressWarnings("unchecked")
+        final List<Object[]> rows = AccountEntity.getEntityManager().createNativeQuery(VERIFY_SQL).getResultList();
+
+        final var mismatches = rows.stream()
+                .map(row -> new BalanceMismatch(((Number) row[0]).longValue(), toBigDecimal(row[1]),
+                        toBigDecimal(row[2])))
+                .toList();
+
+        if (!mismatches.isEmpty()) {
+            LOG.warn("{} account balance(s) differ from the payment ledger", mismatches.size());
+        }
+        return mismatches;
+    }
+
+    private Query nativeUpdate(final String sql) {
+        final var query = AccountEntity.getEntityManager().createNativeQuery(sql);
+        // Only user_accounts is affected; keeps Hibernate from invalidating unrelated caches
+        query.unwrap(NativeQuery.class).addSynchronizedEntityClass(AccountEntity.class);
+        return query;
+    }
+
+    private static BigDecimal toBigDecimal(final Object value) {
+        return value instanceof final BigDecimal decimal ? decimal : new BigDecimal(value.toString());
+    }
+
+    public record BalanceMismatch(Long accountId, BigDecimal storedBalance, BigDecimal ledgerBalance) {
+    }
+
+    /**
+     * The accounts and amount a payment is booked with
+     */
+    public record Booking(Long sourceAccountId, Long targetAccountId, BigDecimal amount) {
+
+        public static Booking of(final PaymentEntity payment) {
+            return new Booking(payment.sourceAccount != null ? payment.sourceAccount.id : null,
+                    payment.targetAccount != null ? payment.targetAccount.id : null, payment.amount);
+        }
+
+        private void addTo(final Map<Long, BigDecimal> deltas, final BigDecimal sign) {
+            if (this.amount == null) {
+                return;
+            }
+
+            final var signed = this.amount.multiply(sign);
+            if (this.sourceAccountId != null) {
+                deltas.merge(this.sourceAccountId, signed.negate(), BigDecimal::add);
+            }
+            if (this.targetAccountId != null) {
+                deltas.merge(this.targetAccountId, signed, BigDecimal::add);
+            }
+        }
+    }
+}
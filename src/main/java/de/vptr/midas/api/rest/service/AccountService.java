@@ -1,15 +1,22 @@
 package de.vptr.midas.api.rest.service;
 
 import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
+import de.vptr.midas.api.rest.dto.AccountSummaryDto;
+import de.vptr.midas.api.rest.dto.PaginatedResponseDto;
 import de.vptr.midas.api.rest.entity.AccountEntity;
 import de.vptr.midas.api.rest.entity.PaymentEntity;
 import de.vptr.midas.api.rest.entity.UserAccountMetaEntity;
 import de.vptr.midas.api.rest.entity.UserEntity;
+import de.vptr.midas.api.rest.util.EntityTags;
+import de.vptr.midas.api.rest.util.PageRequest;
+import de.vptr.midas.api.rest.util.ResourceVersion;
 import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
 import jakarta.transaction.Transactional;
 import jakarta.validation.ValidationException;
 import jakarta.ws.rs.WebApplicationException;
@@ -18,14 +25,37 @@ import jakarta.ws.rs.core.Response;
 @ApplicationScoped
 public class AccountService {
 
+    @Inject
+    AccountBalanceService accountBalanceService;
+
+    @Inject
+    CounterService counterService;
+
     public List<AccountEntity> getAllAccounts() {
         return AccountEntity.listAll();
     }
 
+    public PaginatedResponseDto<AccountEntity> getAccounts(final PageRequest pageRequest) {
+        return pageRequest.apply((query, params) -> AccountEntity.<AccountEntity>find(query, params),
+                entity -> entity.id, entity -> entity);
+    }
+
     public Optional<AccountEntity> findById(final Long id) {
         return AccountEntity.findByIdOptional(id);
     }
 
+    /**
+     * Looks up the version of an account without loading it
+     */
+    public Optional<ResourceVersion> findVersion(final Long id) {
+        return AccountEntity.getEntityManager()
+                .createQuery("SELECT new de.vptr.midas.api.rest.util.ResourceVersion(e.id, e.version) "
+                        + "FROM AccountEntity e WHERE e.id = ?1", ResourceVersion.class)
+                .setParameter(1, id)
+                .getResultStream()
+                .findFirst();
+    }
+
     public Optional<AccountEntity> findByName(final String name) {
         return Optional.ofNullable(AccountEntity.findByName(name));
     }
@@ -46,13 +76,7 @@ public class AccountService {
     }
 
     public List<PaymentEntity> getAccountPayments(final Long accountId) {
-        final var outgoing = PaymentEntity.findBySourceAccountId(accountId);
-        final var incoming = PaymentEntity.findByTargetAccountId(accountId);
-
-        outgoing.addAll(incoming);
-        return outgoing.stream()
-                .sorted((p1, p2) -> p2.created.compareTo(p1.created))
-                .toList();
+        return PaymentEntity.findByAccountId(accountId);
     }
 
     public List<PaymentEntity> getOutgoingPayments(final Long accountId) {
@@ -64,19 +88,22 @@ public class AccountService {
     }
 
     public BigDecimal getAccountBalance(final Long accountId) {
-        // Calculate balance as incoming - outgoing
-        final var incoming = this.getIncomingPayments(accountId);
-        final var outgoing = this.getOutgoingPayments(accountId);
+        // Balance (incoming - outgoing) is maintained on every payment write
+        return this.accountBalanceService.getBalance(accountId);
+    }
 
-        final BigDecimal incomingTotal = incoming.stream()
-                .map(p -> p.amount)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
+    public Optional<AccountSummaryDto> getAccountSummary(final Long accountId) {
+        final var row = PaymentEntity.summarizeAccount(accountId);
+        if (row == null) {
+            return Optional.empty();
+        }
 
-        final BigDecimal outgoingTotal = outgoing.stream()
-                .map(p -> p.amount)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
+        return Optional.of(new AccountSummaryDto(accountId, toBigDecimal(row[0]), toBigDecimal(row[1]),
+                ((Number) row[2]).longValue(), (LocalDate) row[3], (LocalDate) row[4]));
+    }
 
-        return incomingTotal.subtract(outgoingTotal);
+    private static BigDecimal toBigDecimal(final Object value) {
+        return value instanceof final BigDecimal decimal ? decimal : new BigDecimal(value.toString());
     }
 
     @Transactional
@@ -87,6 +114,7 @@ public class AccountService {
         }
 
         account.persist();
+        account.balance = BigDecimal.ZERO; // Column default, not written by the entity
 
         // Force loading of lazy collections before returning (for new accounts they'll
         // be empty)
@@ -103,6 +131,7 @@ public class AccountService {
         if (existingAccount == null) {
             throw new WebApplicationException("Account not found", Response.Status.NOT_FOUND);
         }
+        EntityTags.checkVersion(account.version, existingAccount.version);
 
         // Validate name is provided for complete replacement (PUT)
         if (account.name == null || account.name.trim().isEmpty()) {
@@ -112,7 +141,7 @@ public class AccountService {
         // Complete replacement (PUT semantics)
         existingAccount.name = account.name;
 
-        existingAccount.persist();
+        existingAccount.persistAndFlush();
 
         // Force loading of lazy collections before returning
         if (existingAccount.userAccountMetas != null) {
@@ -128,13 +157,14 @@ public class AccountService {
         if (existingAccount == null) {
             throw new WebApplicationException("Account not found", Response.Status.NOT_FOUND);
         }
+        EntityTags.checkVersion(account.version, existingAccount.version);
 
         // Partial update (PATCH semantics) - only update provided fields
         if (account.name != null) {
             existingAccount.name = account.name;
         }
 
-        existingAccount.persist();
+        existingAccount.persistAndFlush();
         return existingAccount;
     }
 
@@ -146,8 +176,7 @@ public class AccountService {
         }
 
         // Check if account has any payments
-        final var payments = this.getAccountPayments(id);
-        if (!payments.isEmpty()) {
+        if (PaymentEntity.countByAccountId(id) > 0) {
             throw new WebApplicationException("Cannot delete account with existing payments", Response.Status.CONFLICT);
         }
 
@@ -176,6 +205,7 @@ public class AccountService {
         meta.account = account;
         meta.timestamp = LocalDateTime.now();
         meta.persist();
+        this.counterService.accountMemberAdded(accountId);
 
         return meta;
     }
@@ -187,6 +217,7 @@ public class AccountService {
             return false;
         }
         meta.delete();
+        this.counterService.accountMemberRemoved(accountId);
         return true;
     }
 
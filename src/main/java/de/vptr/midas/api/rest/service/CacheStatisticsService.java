@@ -0,0 +1,38 @@
+package de.vptr.midas.api.rest.service;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+import org.hibernate.SessionFactory;
+
+import de.vptr.midas.api.rest.dto.CacheRegionStatisticsDto;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+/**
+ * Reports the Hibernate second-level cache regions (ranks, categories,
+ * groups). Counters are collected while quarkus.hibernate-orm.statistics is
+ * enabled.
+ */
+@ApplicationScoped
+public class CacheStatisticsService {
+
+    @Inject
+    SessionFactory sessionFactory;
+
+    public List<CacheRegionStatisticsDto> getRegionStatistics() {
+        final var statistics = this.sessionFactory.getStatistics();
+        return Arrays.stream(statistics.getSecondLevelCacheRegionNames())
+                .sorted()
+                .map(region -> {
+                    final var regionStatistics = statistics.getCacheRegionStatistics(region);
+                    return regionStatistics == null ? null
+                            : new CacheRegionStatisticsDto(region, regionStatistics.getHitCount(),
+                                    regionStatistics.getMissCount(), regionStatistics.getPutCount(),
+                                    regionStatistics.getElementCountInMemory());
+                })
+                .filter(Objects::nonNull)
+                .toList();
+    }
+}
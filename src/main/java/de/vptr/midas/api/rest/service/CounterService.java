@@ -0,0 +1,240 @@
+package de.vptr.midas.api.rest.service;
+
+import java.util.List;
+import java.util.Objects;
+
+import org.hibernate.query.NativeQuery;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import de.vptr.midas.api.rest.entity.AccountEntity;
+import de.vptr.midas.api.rest.entity.PostCommentEntity;
+import de.vptr.midas.api.rest.entity.PostEntity;
+import de.vptr.midas.api.rest.entity.UserEntity;
+import de.vptr.midas.api.rest.entity.UserGroupEntity;
+import io.quarkus.scheduler.Scheduled;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.persistence.Query;
+import jakarta.transaction.Transactional;
+
+/**
+ * Maintains the denormalized counters on {@code posts}, {@code users},
+ * {@code user_groups} and {@code user_accounts}.
+ *
+ * Writes adjust the counters with relative SQL updates in the same
+ * transaction, so concurrent writers cannot lose increments. The child tables
+ * remain the source of truth; {@link #repairCounters()} recomputes every
+ * counter that has drifted and runs as a scheduled job.
+ */
+@ApplicationScoped
+public class CounterService {
+
+    private static final Logger LOG = LoggerFactory.getLogger(CounterService.class);
+
+    // Counters on versioned tables are part of the representation and bump the version (ETag)
+    // A new comment is no edit of the post: "last_edit = last_edit" suppresses MariaDB's ON UPDATE
+    private static final String POST_COMMENTS_SQL = "UPDATE posts SET comment_count = comment_count + ?1,"
+            + " version = version + 1, last_edit = last_edit WHERE id = ?2";
+    private static final String USER_POSTS_SQL = "UPDATE users SET post_count = post_count + ?1 WHERE id = ?2";
+    private static final String USER_COMMENTS_SQL = "UPDATE users SET comment_count = comment_count + ?1 WHERE id = ?2";
+    private static final String GROUP_USERS_SQL = "UPDATE user_groups SET user_count = user_count + ?1 WHERE id = ?2";
+    private static final String ACCOUNT_USERS_SQL = "UPDATE user_accounts SET user_count = user_count + ?1,"
+            + " version = version + 1 WHERE id = ?2";
+
+    private static final String USER_LEAVES_GROUPS_SQL = "UPDATE user_groups SET user_count = user_count - 1"
+            + " WHERE id IN (SELECT m.group_id FROM user_groups_meta m WHERE m.user_id = ?1)";
+    private static final String USER_LEAVES_ACCOUNTS_SQL = "UPDATE user_accounts SET user_count = user_count - 1,"
+            + " version = version + 1"
+            + " WHERE id IN (SELECT m.account_id FROM user_accounts_meta m WHERE m.user_id = ?1)";
+
+    // Each statement only writes the rows whose counter differs from the child table
+    private static final String POST_COMMENTS_COUNT = "(SELECT COUNT(*) FROM post_comments c WHERE c.post_id = p.id)";
+    private static final String USER_POSTS_COUNT = "(SELECT COUNT(*) FROM posts p WHERE p.user_id = u.id)";
+    private static final String USER_COMMENTS_COUNT = "(SELECT COUNT(*) FROM post_comments c WHERE c.user_id = u.id)";
+    private static final String GROUP_USERS_COUNT = "(SELECT COUNT(*) FROM user_groups_meta m WHERE m.group_id = g.id)";
+    private static final String ACCOUNT_USERS_COUNT = "(SELECT COUNT(*) FROM user_accounts_meta m"
+            + " WHERE m.account_id = a.id)";
+
+    private static final String REPAIR_POSTS_SQL = "UPDATE posts p SET comment_count = " + POST_COMMENTS_COUNT
+            + ", version = version + 1, last_edit = last_edit WHERE comment_count <> " + POST_COMMENTS_COUNT;
+    private static final String REPAIR_USERS_SQL = "UPDATE users u SET post_count = " + USER_POSTS_COUNT
+            + ", comment_count = " + USER_COMMENTS_COUNT
+            + " WHERE post_count <> " + USER_POSTS_COUNT + " OR comment_count <> " + USER_COMMENTS_COUNT;
+    private static final String REPAIR_GROUPS_SQL = "UPDATE user_groups g SET user_count = " + GROUP_USERS_COUNT
+            + " WHERE user_count <> " + GROUP_USERS_COUNT;
+    private static final String REPAIR_ACCOUNTS_SQL = "UPDATE user_accounts a SET user_count = "
+            + ACCOUNT_USERS_COUNT + ", version = version + 1 WHERE user_count <> " + ACCOUNT_USERS_COUNT;
+
+    /**
+     * Counts a new post for its author
+     */
+    public void postCreated(final PostEntity post) {
+        if (post.user != null) {
+            this.adjust(USER_POSTS_SQL, UserEntity.class, post.user.id, 1);
+        }
+    }
+
+    /**
+     * Moves a post's count from its previous author to its current one
+     *
+     * @param previousUserId the author ID before the change, or null if it had none
+     * @param post           the post with its current author
+     */
+    public void postAuthorChanged(final Long previousUserId, final PostEntity post) {
+        final var currentUserId = post.user != null ? post.user.id : null;
+        if (Objects.equals(previousUserId, currentUserId)) {
+            return;
+        }
+
+        this.adjust(USER_POSTS_SQL, UserEntity.class, previousUserId, -1);
+        this.adjust(USER_POSTS_SQL, UserEntity.class, currentUserId, 1);
+    }
+
+    /**
+     * Uncounts a post and its comments; must run before the post is deleted
+     */
+    public void postDeleted(final PostEntity post) {
+        if (post.user != null) {
+            this.adjust(USER_POSTS_SQL, UserEntity.class, post.user.id, -1);
+        }
+
+        // The comments are deleted with the post
+        final List<Object[]> commenters = PostCommentEntity.getEntityManager()
+                .createQuery("SELECT c.user.id, COUNT(c) FROM PostCommentEntity c "
+                        + "WHERE c.post.id = ?1 AND c.user IS NOT NULL GROUP BY c.user.id ORDER BY c.user.id",
+                        Object[].class)
+                .setParameter(1, post.id)
+                .getResultList();
+        for (final var row : commenters) {
+            this.adjust(USER_COMMENTS_SQL, UserEntity.class, (Long) row[0], -((Long) row[1]));
+        }
+    }
+
+    /**
+     * Uncounts the posts and comments of categories; must run before the
+     * categories are deleted, as their posts are deleted with them
+     *
+     * @param categoryIds the IDs of the deleted category and its descendants
+     */
+    public void categoriesDeleted(final List<Long> categoryIds) {
+        final List<PostEntity> posts = PostEntity.list("category.id IN ?1", categoryIds);
+        for (final var post : posts) {
+            this.postDeleted(post);
+        }
+    }
+
+    /**
+     * Counts a new comment for its post and author
+     */
+    public void commentCreated(final PostCommentEntity comment) {
+        this.adjust(POST_COMMENTS_SQL, PostEntity.class, comment.post.id, 1);
+        if (comment.user != null) {
+            this.adjust(USER_COMMENTS_SQL, UserEntity.class, comment.user.id, 1);
+        }
+    }
+
+    /**
+     * Uncounts a comment for its post and author
+     */
+    public void commentDeleted(final PostCommentEntity comment) {
+        this.adjust(POST_COMMENTS_SQL, PostEntity.class, comment.post.id, -1);
+        if (comment.user != null) {
+            this.adjust(USER_COMMENTS_SQL, UserEntity.class, comment.user.id, -1);
+        }
+    }
+
+    /**
+     * Counts a user joining a group
+     */
+    public void groupMemberAdded(final Long groupId) {
+        this.adjust(GROUP_USERS_SQL, UserGroupEntity.class, groupId, 1);
+    }
+
+    /**
+     * Counts a user leaving a group
+     */
+    public void groupMemberRemoved(final Long groupId) {
+        this.adjust(GROUP_USERS_SQL, UserGroupEntity.class, groupId, -1);
+    }
+
+    /**
+     * Counts a user being associated with an account
+     */
+    public void accountMemberAdded(final Long accountId) {
+        this.adjust(ACCOUNT_USERS_SQL, AccountEntity.class, accountId, 1);
+    }
+
+    /**
+     * Counts a user being removed from an account
+     */
+    public void accountMemberRemoved(final Long accountId) {
+        this.adjust(ACCOUNT_USERS_SQL, AccountEntity.class, accountId, -1);
+    }
+
+    /**
+     * Uncounts a user's memberships, posts and comments; must run before the
+     * user is deleted
+     */
+    public void userDeleted(final UserEntity user) {
+        this.nativeUpdate(USER_LEAVES_GROUPS_SQL, UserGroupEntity.class).setParameter(1, user.id).executeUpdate();
+        this.nativeUpdate(USER_LEAVES_ACCOUNTS_SQL, AccountEntity.class).setParameter(1, user.id).executeUpdate();
+
+        // The user's comments are deleted with the user
+        final List<Object[]> commentedPosts = PostCommentEntity.getEntityManager()
+                .createQuery("SELECT c.post.id, COUNT(c) FROM PostCommentEntity c "
+                        + "WHERE c.user.id = ?1 GROUP BY c.post.id ORDER BY c.post.id", Object[].class)
+                .setParameter(1, user.id)
+                .getResultList();
+        for (final var row : commentedPosts) {
+            this.adjust(POST_COMMENTS_SQL, PostEntity.class, (Long) row[0], -((Long) row[1]));
+        }
+
+        // So are the user's posts, including other users' comments on them
+        final List<PostEntity> posts = PostEntity.list("user.id", user.id);
+        for (final var post : posts) {
+            this.postDeleted(post);
+        }
+    }
+
+    /**
+     * Recomputes all counters that differ from their child tables
+     *
+     * @return the number of rows repaired
+     */
+    @Transactional
+    public int repairCounters() {
+        final var repaired = this.nativeUpdate(REPAIR_POSTS_SQL, PostEntity.class).executeUpdate()
+                + this.nativeUpdate(REPAIR_USERS_SQL, UserEntity.class).executeUpdate()
+                + this.nativeUpdate(REPAIR_GROUPS_SQL, UserGroupEntity.class).executeUpdate()
+                + this.nativeUpdate(REPAIR_ACCOUNTS_SQL, AccountEntity.class).executeUpdate();
+
+        if (repaired > 0) {
+            LOG.warn("Repaired {} drifted counter row(s)", repaired);
+        } else {
+            LOG.debug("All counters are consistent");
+        }
+        return repaired;
+    }
+
+    @Scheduled(cron = "${midas.counters.repair-cron:0 30 3 * * ?}",
+            concurrentExecution = Scheduled.ConcurrentExecution.SKIP)
+    void scheduledRepair() {
+        this.repairCounters();
+    }
+
+    private void adjust(final String sql, final Class<?> entityClass, final Long id, final long delta) {
+        if (id != null && delta != 0) {
+            this.nativeUpdate(sql, entityClass)
+                    .setParameter(1, delta)
+                    .setParameter(2, id)
+                    .executeUpdate();
+        }
+    }
+
+    private Query nativeUpdate(final String sql, final Class<?> entityClass) {
+        final var query = PostEntity.getEntityManager().createNativeQuery(sql);
+        // Only the given table is affected; keeps Hibernate from invalidating unrelated caches
+        query.unwrap(NativeQuery.class).addSynchronizedEntityClass(entityClass);
+        return query;
+    }
+}
@@ -1,12 +1,22 @@
 package de.vptr.midas.api.rest.service;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import de.vptr.midas.api.rest.dto.PageDto;
+import de.vptr.midas.api.rest.dto.PaginatedResponseDto;
 import de.vptr.midas.api.rest.dto.PageResponseDto;
+import de.vptr.midas.api.rest.dto.PageSummaryDto;
 import de.vptr.midas.api.rest.entity.PageEntity;
+import de.vptr.midas.api.rest.util.PageRequest;
+import de.vptr.midas.api.rest.util.ResourceVersion;
 import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
 import jakarta.transaction.Transactional;
 import jakarta.validation.ValidationException;
 import jakarta.ws.rs.WebApplicationException;
@@ -15,17 +25,72 @@ import jakarta.ws.rs.core.Response;
 @ApplicationScoped
 public class PageService {
 
+    // Selects everything but the content column; %s is the excerpt expression
+    private static final String SUMMARY_PROJECTION = "SELECT new de.vptr.midas.api.rest.dto.PageSummaryDto("
+            + "p.id, p.title, %s, p.lastEdit) FROM PageEntity p ";
+
+    @Inject
+    PayloadCache payloadCache;
+
+    @Inject
+    SearchService searchService;
+
     public List<PageResponseDto> getAllPages() {
         return PageEntity.listAll().stream()
                 .map(entity -> new PageResponseDto((PageEntity) entity))
                 .toList();
     }
 
+    public PaginatedResponseDto<PageResponseDto> getPages(final PageRequest pageRequest) {
+        return pageRequest.apply((query, params) -> PageEntity.<PageEntity>find(query, params),
+                entity -> entity.id, PageResponseDto::new);
+    }
+
     public Optional<PageResponseDto> findById(final Long id) {
         return PageEntity.findByIdOptional(id)
                 .map(entity -> new PageResponseDto((PageEntity) entity));
     }
 
+    /**
+     * Looks up the version of a page without loading its content
+     */
+    public Optional<ResourceVersion> findVersion(final Long id) {
+        return PageEntity.getEntityManager()
+                .createQuery("SELECT new de.vptr.midas.api.rest.util.ResourceVersion("
+                        + "p.id, p.lastEdit) "
+                        + "FROM PageEntity p WHERE p.id = ?1", ResourceVersion.class)
+                .setParameter(1, id)
+                .getResultStream()
+                .findFirst();
+    }
+
+    /**
+     * Returns a page of page summaries without loading the content
+     *
+     * @param excerptLength the number of content characters to include, 0 for
+     *                      none
+     */
+    public PaginatedResponseDto<PageSummaryDto> getPageSummaries(final PageRequest pageRequest,
+            final int excerptLength) {
+        return pageRequest.apply((where, orderBy, params, firstResult, maxResults) -> this.summarize(
+                excerptLength, where, orderBy, params, firstResult, maxResults),
+                "p.id", null, new Object[0], dto -> dto.id, dto -> dto);
+    }
+
+    public List<PageSummaryDto> findSummariesByTitleContaining(final String title, final int excerptLength) {
+        return this.summarize(excerptLength, "WHERE p.title LIKE ?1", "p.id", new Object[] { "%" + title + "%" },
+                0, -1);
+    }
+
+    public List<PageSummaryDto> searchContentSummaries(final String searchTerm, final int excerptLength) {
+        final var ids = this.searchService.rankedIds(SearchService.Target.PAGES, searchTerm, PageRequest.MAX_LIMIT);
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        return inRankOrder(ids, this.summarize(excerptLength, "WHERE p.id IN ?1", "p.id", new Object[] { ids },
+                0, -1), dto -> dto.id);
+    }
+
     public List<PageResponseDto> findByTitleContaining(final String title) {
         return PageEntity.findByTitleContaining(title).stream()
                 .map(PageResponseDto::new)
@@ -33,11 +98,40 @@ public class PageService {
     }
 
     public List<PageResponseDto> searchContent(final String searchTerm) {
-        return PageEntity.searchContent(searchTerm).stream()
+        final var ids = this.searchService.rankedIds(SearchService.Target.PAGES, searchTerm, PageRequest.MAX_LIMIT);
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        return inRankOrder(ids, PageEntity.<PageEntity>list("id IN ?1", ids), entity -> entity.id).stream()
                 .map(PageResponseDto::new)
                 .toList();
     }
 
+    // Helper method to restore the ranking of rows loaded by id
+    private static <T> List<T> inRankOrder(final List<Long> ids, final List<T> rows, final Function<T, Long> idOf) {
+        final Map<Long, T> byId = rows.stream().collect(Collectors.toMap(idOf, row -> row));
+        return ids.stream().map(byId::get).filter(Objects::nonNull).toList();
+    }
+
+    // Helper method to run the summary projection; a negative maxResults means no limit
+    private List<PageSummaryDto> summarize(final int excerptLength, final String where, final String orderBy,
+            final Object[] params, final int firstResult, final int maxResults) {
+        // The length is validated (ListView), so it can be inlined
+        final var excerpt = excerptLength > 0 ? "SUBSTRING(p.content, 1, " + excerptLength + ")"
+                : "CAST(NULL AS String)";
+        final var query = PageEntity.getEntityManager()
+                .createQuery(SUMMARY_PROJECTION.formatted(excerpt) + where + " ORDER BY " + orderBy,
+                        PageSummaryDto.class)
+                .setFirstResult(firstResult);
+        if (maxResults >= 0) {
+            query.setMaxResults(maxResults);
+        }
+        for (var i = 0; i < params.length; i++) {
+            query.setParameter(i + 1, params[i]);
+        }
+        return query.getResultList();
+    }
+
     @Transactional
     public PageResponseDto createPage(final PageDto pageDto) {
         if (pageDto.title == null || pageDto.title.trim().isEmpty()) {
@@ -50,7 +144,9 @@ public class PageService {
         final PageEntity page = new PageEntity();
         page.title = pageDto.title;
         page.content = pageDto.content;
+        page.lastEdit = LocalDateTime.now();
         page.persist();
+        this.payloadCache.invalidate(PayloadCache.PAGES);
 
         return new PageResponseDto(page);
     }
@@ -72,7 +168,9 @@ public class PageService {
         // Complete replacement (PUT semantics)
         existingPage.title = pageDto.title;
         existingPage.content = pageDto.content;
+        existingPage.lastEdit = LocalDateTime.now();
         existingPage.persist();
+        this.payloadCache.invalidate(PayloadCache.PAGES);
 
         return new PageResponseDto(existingPage);
     }
@@ -92,12 +190,15 @@ public class PageService {
             existingPage.content = pageDto.content;
         }
 
+        existingPage.lastEdit = LocalDateTime.now();
         existingPage.persist();
+        this.payloadCache.invalidate(PayloadCache.PAGES);
         return new PageResponseDto(existingPage);
     }
 
     @Transactional
     public boolean deletePage(final Long id) {
+        this.payloadCache.invalidate(PayloadCache.PAGES);
         return PageEntity.deleteById(id);
     }
 }
@@ -0,0 +1,188 @@
+package de.vptr.midas.api.rest.service;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
+
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import de.vptr.midas.api.rest.util.TransactionUtil;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.transaction.TransactionSynchronizationRegistry;
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
+
+/**
+ * Cache of serialized (and, above the gzip threshold, gzipped)
+ * response bodies for hot read-only list endpoints.
+ *
+ * Entries are grouped in regions that the services invalidate on writes, now
+ * and again after the transaction completes; a body built while a write was
+ * in flight is served once but not kept. Entries also expire after a TTL, which
+ * bounds staleness from writes that are not tracked (e.g. a renamed author).
+ */
+@ApplicationScoped
+public class PayloadCache {
+
+    public static final String PUBLISHED_POSTS = "published-posts";
+    public static final String ROOT_CATEGORIES = "root-categories";
+    public static final String PAGES = "pages";
+
+    private static final Logger LOG = LoggerFactory.getLogger(PayloadCache.class);
+
+    private static final String GZIP = "gzip";
+
+    @ConfigProperty(name = "midas.payload-cache.enabled", defaultValue = "true")
+    boolean enabled;
+
+    @ConfigProperty(name = "midas.payload-cache.ttl", defaultValue = "60s")
+    Duration ttl;
+
+    @ConfigProperty(name = "midas.payload-cache.max-entries", defaultValue = "100")
+    int maxEntries;
+
+    @ConfigProperty(name = "midas.payload-cache.gzip-min-size", defaultValue = "1024")
+    int gzipMinSize;
+
+    @Inject
+    ObjectMapper objectMapper;
+
+    @Inject
+    TransactionSynchronizationRegistry transactionSynchronizationRegistry;
+
+    private final Map<String, Region> regions = new ConcurrentHashMap<>();
+
+    /**
+     * Returns the cached body for a key, building it with the loader on a miss
+     *
+     * @param region         the region the services invalidate
+     * @param key            identifies the body within the region (e.g. the
+     *                       query parameters)
+     * @param acceptEncoding the request's Accept-Encoding header
+     * @param loader         loads the object to serialize
+     * @return a JSON response, gzip-encoded if the client accepts it and the
+     *         body is large enough
+     */
+    public Response get(final String region, final String key, final String acceptEncoding,
+            final Supplier<?> loader) {
+        final var gzip = acceptsGzip(acceptEncoding);
+        if (!this.enabled) {
+            return this.serialize(loader.get()).toResponse(gzip);
+        }
+
+        final var cached = this.regions.computeIfAbsent(region, name -> new Region());
+        final var existing = cached.entries.get(key);
+        if (existing != null && !existing.isExpired()) {
+            return existing.toResponse(gzip);
+        }
+
+        final var expectedGeneration = cached.generation.get();
+        final var built = this.serialize(loader.get());
+        if (cached.entries.size() >= this.maxEntries) {
+            cached.entries.clear();
+        }
+        cached.entries.put(key, built);
+        // An invalidation raced with the load; the body may predate the write
+        if (cached.generation.get() != expectedGeneration) {
+            cached.entries.remove(key, built);
+        }
+        LOG.debug("Cached {} byte payload ({} gzipped) for {}/{}", built.json.length,
+                built.gzip != null ? built.gzip.length : "not", region, key);
+        return built.toResponse(gzip);
+    }
+
+    /**
+     * Drops all bodies of a region now and after the current transaction
+     * completes
+     */
+    public void invalidate(final String region) {
+        this.clear(region);
+        TransactionUtil.afterCompletion(this.transactionSynchronizationRegistry, () -> this.clear(region));
+    }
+
+    private void clear(final String region) {
+        final var cached = this.regions.computeIfAbsent(region, name -> new Region());
+        cached.generation.incrementAndGet();
+        cached.entries.clear();
+    }
+
+    private Payload serialize(final Object body) {
+        final byte[] json;
+        try {
+            json = this.objectMapper.writeValueAsBytes(body);
+        } catch (final JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize response body", e);
+        }
+        final var gzip = json.length >= this.gzipMinSize ? compress(json) : null;
+        return new Payload(json, gzip, System.nanoTime() + this.ttl.toNanos());
+    }
+
+    // Helper method to check whether the client accepts gzip (q=0 refuses it)
+    static boolean acceptsGzip(final String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        Boolean gzip = null;
+        Boolean any = null;
+        for (final var coding : acceptEncoding.split(",")) {
+            final var parts = coding.trim().split(";");
+            var refused = false;
+            for (var i = 1; i < parts.length; i++) {
+                refused |= parts[i].replace(" ", "").matches("q=0(\\.0*)?");
+            }
+            final var name = parts[0].trim();
+            if (name.equalsIgnoreCase(GZIP)) {
+                gzip = !refused;
+            } else if (name.equals("*")) {
+                any = !refused;
+            }
+        }
+        return gzip != null ? gzip : Boolean.TRUE.equals(any);
+    }
+
+    private static byte[] compress(final byte[] json) {
+        final var buffer = new ByteArrayOutputStream(json.length / 4);
+        try (var gzip = new GZIPOutputStream(buffer)) {
+            gzip.write(json);
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return buffer.toByteArray();
+    }
+
+    private static final class Region {
+        private final AtomicLong generation = new AtomicLong();
+        private final Map<String, Payload> entries = new ConcurrentHashMap<>();
+    }
+
+    private record Payload(byte[] json, byte[] gzip, long expiresAt) {
+
+        boolean isExpired() {
+            return System.nanoTime() - this.expiresAt > 0;
+        }
+
+        Response toResponse(final boolean acceptsGzip) {
+            // HTTP compression leaves bodies alone that already carry a Content-Encoding
+            final var encoded = acceptsGzip && this.gzip != null;
+            final var builder = Response.ok(encoded ? this.gzip : this.json, MediaType.APPLICATION_JSON_TYPE)
+                    .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+            if (encoded) {
+                builder.header(HttpHeaders.CONTENT_ENCODING, GZIP);
+            }
+            return builder.build();
+        }
+    }
+}
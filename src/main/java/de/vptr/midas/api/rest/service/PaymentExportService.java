@@ -0,0 +1,169 @@
+package de.vptr.midas.api.rest.service;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.function.Consumer;
+
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.hibernate.CacheMode;
+import org.hibernate.ScrollMode;
+import org.hibernate.Session;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import de.vptr.midas.api.rest.dto.PaymentResponseDto;
+import de.vptr.midas.api.rest.entity.PaymentEntity;
+import io.quarkus.narayana.jta.runtime.TransactionConfiguration;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.transaction.Transactional;
+
+/**
+ * Streams all payments to an output stream without materializing them.
+ *
+ * Rows are read through a forward-only cursor with a fixed JDBC fetch size,
+ * mapped one at a time and written straight to the response; the persistence
+ * context is cleared periodically, so heap usage stays flat regardless of the
+ * table size.
+ */
+@ApplicationScoped
+public class PaymentExportService {
+
+    private static final Logger LOG = LoggerFactory.getLogger(PaymentExportService.class);
+
+    private static final String EXPORT_QUERY = "FROM PaymentEntity p"
+            + " LEFT JOIN FETCH p.targetAccount"
+            + " LEFT JOIN FETCH p.sourceAccount"
+            + " LEFT JOIN FETCH p.userId"
+            + " ORDER BY p.id";
+
+    private static final String CSV_HEADER = "id,targetAccountId,targetAccountName,sourceAccountId,"
+            + "sourceAccountName,userId,username,comment,date,amount,created,lastEdit";
+
+    @ConfigProperty(name = "midas.payments.export.fetch-size", defaultValue = "1000")
+    int fetchSize;
+
+    @ConfigProperty(name = "midas.payments.export.clear-interval", defaultValue = "1000")
+    int clearInterval;
+
+    @Inject
+    Session session;
+
+    @Inject
+    ObjectMapper objectMapper;
+
+    /**
+     * Writes all payments as newline-delimited JSON (one object per line)
+     *
+     * @param output the stream to write to; it is flushed but not closed
+     * @return the number of exported payments
+     */
+    @Transactional
+    @TransactionConfiguration(timeoutFromConfigProperty = "midas.payments.export.transaction-timeout")
+    public long exportNdjson(final OutputStream output) throws IOException {
+        final var writer = this.objectMapper.writerFor(PaymentResponseDto.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+
+        try (var generator = this.objectMapper.getFactory().createGenerator(output)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            // Root values are separated by newlines instead of the default space
+            generator.setRootValueSeparator(null);
+
+            return this.forEachPayment(payment -> {
+                try {
+                    writer.writeValue(generator, payment);
+                    generator.writeRaw('\n');
+                } catch (final IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (final UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * Writes all payments as RFC 4180 CSV with a header row
+     *
+     * @param output the stream to write to; it is flushed but not closed
+     * @return the number of exported payments
+     */
+    @Transactional
+    @TransactionConfiguration(timeoutFromConfigProperty = "midas.payments.export.transaction-timeout")
+    public long exportCsv(final OutputStream output) throws IOException {
+        final Writer writer = new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8));
+        writer.write(CSV_HEADER);
+        writer.write("\r\n");
+
+        try {
+            final var count = this.forEachPayment(payment -> {
+                try {
+                    writeCsvRow(writer, payment);
+                } catch (final IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            writer.flush();
+            return count;
+        } catch (final UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    private long forEachPayment(final Consumer<PaymentResponseDto> consumer) {
+        var count = 0L;
+
+        try (var payments = this.session.createSelectionQuery(EXPORT_QUERY, PaymentEntity.class)
+                .setFetchSize(this.fetchSize)
+                .setReadOnly(true)
+                .setCacheMode(CacheMode.IGNORE)
+                .scroll(ScrollMode.FORWARD_ONLY)) {
+            while (payments.next()) {
+                consumer.accept(new PaymentResponseDto(payments.get()));
+
+                // Detach exported rows so the persistence context doesn't grow with the table
+                if (++count % this.clearInterval == 0) {
+                    this.session.clear();
+                }
+            }
+        }
+
+        LOG.debug("Exported {} payment(s)", count);
+        return count;
+    }
+
+    private static void writeCsvRow(final Writer writer, final PaymentResponseDto payment) throws IOException {
+        final Object[] values = {
+                payment.id, payment.targetAccountId, payment.targetAccountName,
+                payment.sourceAccountId, payment.sourceAccountName, payment.userId, payment.username,
+                payment.comment, payment.date, payment.amount, payment.created, payment.lastEdit
+        };
+
+        for (var i = 0; i < values.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            if (values[i] != null) {
+                writer.write(escapeCsv(values[i].toString()));
+            }
+        }
+        writer.write("\r\n");
+    }
+
+    static String escapeCsv(final String value) {
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0
+                && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
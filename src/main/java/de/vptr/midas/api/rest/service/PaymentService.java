@@ -3,15 +3,29 @@ package de.vptr.midas.api.rest.service;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import de.vptr.midas.api.rest.dto.PaginatedResponseDto;
+import de.vptr.midas.api.rest.dto.PaymentBatchResponseDto;
 import de.vptr.midas.api.rest.dto.PaymentDto;
 import de.vptr.midas.api.rest.dto.PaymentResponseDto;
 import de.vptr.midas.api.rest.entity.AccountEntity;
 import de.vptr.midas.api.rest.entity.PaymentEntity;
 import de.vptr.midas.api.rest.entity.UserEntity;
+import de.vptr.midas.api.rest.util.EntityTags;
+import de.vptr.midas.api.rest.util.PageRequest;
+import de.vptr.midas.api.rest.util.ResourceVersion;
 import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
 import jakarta.transaction.Transactional;
 import jakarta.validation.ValidationException;
 import jakarta.ws.rs.WebApplicationException;
@@ -20,51 +34,89 @@ import jakarta.ws.rs.core.Response;
 @ApplicationScoped
 public class PaymentService {
 
+    // Selects exactly the columns of PaymentResponseDto; the outer joins replace
+    // the lazy loads of both accounts and the user (one statement per list)
+    private static final String PROJECTION = "SELECT new de.vptr.midas.api.rest.dto.PaymentResponseDto("
+            + "p.id, t.id, t.name, s.id, s.name, u.id, u.username, "
+            + "p.comment, p.date, p.amount, p.created, p.lastEdit, p.version) "
+            + "FROM PaymentEntity p "
+            + "LEFT JOIN p.targetAccount t "
+            + "LEFT JOIN p.sourceAccount s "
+            + "LEFT JOIN p.userId u ";
+
+    @ConfigProperty(name = "midas.payments.batch.max-size", defaultValue = "5000")
+    int maxBatchSize;
+
+    @Inject
+    AccountBalanceService accountBalanceService;
+
     public List<PaymentResponseDto> getAllPayments() {
-        return PaymentEntity.listAll().stream()
-                .map(entity -> new PaymentResponseDto((PaymentEntity) entity))
-                .toList();
+        return this.list("", "p.id");
+    }
+
+    public PaginatedResponseDto<PaymentResponseDto> getPayments(final PageRequest pageRequest) {
+        return pageRequest.apply(this::project, "p.id", null, new Object[0], dto -> dto.id, Function.identity());
     }
 
     public Optional<PaymentResponseDto> findById(final Long id) {
-        return PaymentEntity.findByIdOptional(id)
-                .map(entity -> new PaymentResponseDto((PaymentEntity) entity));
+        return this.project("WHERE p.id = ?1", "p.id", new Object[] { id }, 0, 1).stream().findFirst();
+    }
+
+    /**
+     * Looks up the version of a payment without joining its accounts and user
+     */
+    public Optional<ResourceVersion> findVersion(final Long id) {
+        return PaymentEntity.getEntityManager()
+                .createQuery("SELECT new de.vptr.midas.api.rest.util.ResourceVersion("
+                        + "p.id, p.version, COALESCE(p.lastEdit, p.created)) "
+                        + "FROM PaymentEntity p WHERE p.id = ?1", ResourceVersion.class)
+                .setParameter(1, id)
+                .getResultStream()
+                .findFirst();
     }
 
     public List<PaymentResponseDto> findByUserId(final Long userId) {
-        return PaymentEntity.findByUserId(userId).stream()
-                .map(PaymentResponseDto::new)
-                .toList();
+        return this.list("WHERE u.id = ?1", "p.id", userId);
     }
 
     public List<PaymentResponseDto> findBySourceAccountId(final Long sourceId) {
-        return PaymentEntity.findBySourceAccountId(sourceId).stream()
-                .map(PaymentResponseDto::new)
-                .toList();
+        return this.list("WHERE s.id = ?1", "p.id", sourceId);
     }
 
     public List<PaymentResponseDto> findByTargetAccountId(final Long targetId) {
-        return PaymentEntity.findByTargetAccountId(targetId).stream()
-                .map(PaymentResponseDto::new)
-                .toList();
+        return this.list("WHERE t.id = ?1", "p.id", targetId);
     }
 
     public List<PaymentResponseDto> findByDateRange(final LocalDate startDate, final LocalDate endDate) {
-        return PaymentEntity.findByDateRange(startDate, endDate).stream()
-                .map(PaymentResponseDto::new)
-                .toList();
+        return this.list("WHERE p.date BETWEEN ?1 AND ?2", "p.id", startDate, endDate);
     }
 
     public List<PaymentResponseDto> findRecentPayments(final int limit) {
-        return PaymentEntity.findRecentPayments(limit).stream()
-                .map(PaymentResponseDto::new)
-                .toList();
+        return this.project("", "p.created DESC", new Object[0], 0, limit);
     }
 
     public List<PaymentResponseDto> findByAmountRange(final BigDecimal minAmount, final BigDecimal maxAmount) {
-        return PaymentEntity.findByAmountRange(minAmount, maxAmount).stream()
-                .map(PaymentResponseDto::new)
-                .toList();
+        return this.list("WHERE p.amount BETWEEN ?1 AND ?2", "p.id", minAmount, maxAmount);
+    }
+
+    // Helper method to run the DTO projection without a row limit
+    private List<PaymentResponseDto> list(final String where, final String orderBy, final Object... params) {
+        return this.project(where, orderBy, params, 0, -1);
+    }
+
+    // Helper method to run the DTO projection; a negative maxResults means no limit
+    private List<PaymentResponseDto> project(final String where, final String orderBy, final Object[] params,
+            final int firstResult, final int maxResults) {
+        final var query = PaymentEntity.getEntityManager()
+                .createQuery(PROJECTION + where + " ORDER BY " + orderBy, PaymentResponseDto.class)
+                .setFirstResult(firstResult);
+        if (maxResults >= 0) {
+            query.setMaxResults(maxResults);
+        }
+        for (var i = 0; i < params.length; i++) {
+            query.setParameter(i + 1, params[i]);
+        }
+        return query.getResultList();
     }
 
     public BigDecimal getTotalAmountByUser(final Long userId) {
@@ -74,25 +126,7 @@ public class PaymentService {
 
     @Transactional
     public PaymentResponseDto createPayment(final PaymentDto paymentDto) {
-        // Validate required fields
-        if (paymentDto.targetAccountId == null) {
-            throw new ValidationException("Target account ID is required");
-        }
-        if (paymentDto.sourceAccountId == null) {
-            throw new ValidationException("Source account ID is required");
-        }
-        if (paymentDto.userId == null) {
-            throw new ValidationException("User ID is required");
-        }
-        if (paymentDto.comment == null || paymentDto.comment.trim().isEmpty()) {
-            throw new ValidationException("Comment is required");
-        }
-        if (paymentDto.date == null) {
-            throw new ValidationException("Date is required");
-        }
-        if (paymentDto.amount == null || paymentDto.amount.compareTo(BigDecimal.ZERO) <= 0) {
-            throw new ValidationException("Amount must be positive");
-        }
+        this.validateRequiredFields(paymentDto);
 
         // Find referenced entities
         final AccountEntity targetAccount = AccountEntity.findById(paymentDto.targetAccountId);
@@ -121,35 +155,107 @@ public class PaymentService {
         payment.lastEdit = payment.created;
 
         payment.persist();
+        this.accountBalanceService.applyPayment(payment);
         return new PaymentResponseDto(payment);
     }
 
+    /**
+     * Creates many payments in one transaction.
+     *
+     * Referenced accounts and users are resolved with one IN query each, and
+     * the inserts are sent as JDBC batches. Invalid items are reported and
+     * skipped; all valid items are created.
+     *
+     * @param paymentDtos the payments to create
+     * @return one result per item, in submission order
+     */
     @Transactional
-    public PaymentResponseDto updatePayment(final Long id, final PaymentDto paymentDto) {
-        // Validate required fields
-        if (paymentDto.targetAccountId == null) {
-            throw new ValidationException("Target account ID is required");
-        }
-        if (paymentDto.sourceAccountId == null) {
-            throw new ValidationException("Source account ID is required");
+    public PaymentBatchResponseDto createPayments(final List<PaymentDto> paymentDtos) {
+        if (paymentDtos == null || paymentDtos.isEmpty()) {
+            throw new ValidationException("At least one payment is required");
         }
-        if (paymentDto.userId == null) {
-            throw new ValidationException("User ID is required");
-        }
-        if (paymentDto.comment == null || paymentDto.comment.trim().isEmpty()) {
-            throw new ValidationException("Comment is required");
+        if (paymentDtos.size() > this.maxBatchSize) {
+            throw new ValidationException("A batch may contain at most " + this.maxBatchSize + " payments");
         }
-        if (paymentDto.date == null) {
-            throw new ValidationException("Date is required");
+
+        final var result = new PaymentBatchResponseDto();
+        result.received = paymentDtos.size();
+
+        final Set<Long> accountIds = new HashSet<>();
+        final Set<Long> userIds = new HashSet<>();
+        for (final var paymentDto : paymentDtos) {
+            if (paymentDto != null) {
+                accountIds.add(paymentDto.targetAccountId);
+                accountIds.add(paymentDto.sourceAccountId);
+                userIds.add(paymentDto.userId);
+            }
         }
-        if (paymentDto.amount == null || paymentDto.amount.compareTo(BigDecimal.ZERO) <= 0) {
-            throw new ValidationException("Amount must be positive");
+        accountIds.remove(null);
+        userIds.remove(null);
+
+        final Map<Long, AccountEntity> accounts = accountIds.isEmpty() ? Map.of()
+                : AccountEntity.<AccountEntity>list("id IN ?1", accountIds).stream()
+                        .collect(Collectors.toMap(account -> account.id, Function.identity()));
+        final Map<Long, UserEntity> users = userIds.isEmpty() ? Map.of()
+                : UserEntity.<UserEntity>list("id IN ?1", userIds).stream()
+                        .collect(Collectors.toMap(user -> user.id, Function.identity()));
+
+        final var now = LocalDateTime.now();
+        final List<PaymentEntity> payments = new ArrayList<>();
+
+        for (var i = 0; i < paymentDtos.size(); i++) {
+            final var paymentDto = paymentDtos.get(i);
+            try {
+                if (paymentDto == null) {
+                    throw new ValidationException("Payment is required");
+                }
+                this.validateRequiredFields(paymentDto);
+
+                final var targetAccount = accounts.get(paymentDto.targetAccountId);
+                if (targetAccount == null) {
+                    throw new ValidationException("Target account not found");
+                }
+                final var sourceAccount = accounts.get(paymentDto.sourceAccountId);
+                if (sourceAccount == null) {
+                    throw new ValidationException("Source account not found");
+                }
+                final var user = users.get(paymentDto.userId);
+                if (user == null) {
+                    throw new ValidationException("User not found");
+                }
+
+                final PaymentEntity payment = new PaymentEntity();
+                payment.targetAccount = targetAccount;
+                payment.sourceAccount = sourceAccount;
+                payment.userId = user;
+                payment.comment = paymentDto.comment;
+                payment.date = paymentDto.date;
+                payment.amount = paymentDto.amount;
+                payment.created = now;
+                payment.lastEdit = now;
+
+                // Ids come from the pooled sequence, the INSERTs are batched on flush
+                payment.persist();
+                payments.add(payment);
+                result.addCreated(i, payment.id);
+            } catch (final ValidationException e) {
+                result.addFailed(i, e.getMessage());
+            }
         }
 
+        this.accountBalanceService.applyPayments(payments);
+        return result;
+    }
+
+    @Transactional
+    public PaymentResponseDto updatePayment(final Long id, final PaymentDto paymentDto) {
+        this.validateRequiredFields(paymentDto);
+
         final PaymentEntity existingPayment = PaymentEntity.findById(id);
         if (existingPayment == null) {
             throw new WebApplicationException("Payment not found", Response.Status.NOT_FOUND);
         }
+        EntityTags.checkVersion(paymentDto.version, existingPayment.version);
 
         // Find referenced entities
         final AccountEntity targetAccount = AccountEntity.findById(paymentDto.targetAccountId);
@@ -167,6 +273,9 @@ public class PaymentService {
             throw new WebApplicationException("User not found", Response.Status.BAD_REQUEST);
         }
 
+        // Remember the old booking; it is moved to the new accounts/amount in one pass below
+        final var previousBooking = AccountBalanceService.Booking.of(existingPayment);
+
         // Complete replacement (PUT semantics)
         existingPayment.targetAccount = targetAccount;
         existingPayment.sourceAccount = sourceAccount;
@@ -176,7 +285,8 @@ public class PaymentService {
         existingPayment.amount = paymentDto.amount;
         existingPayment.lastEdit = LocalDateTime.now();
 
-        existingPayment.persist();
+        existingPayment.persistAndFlush();
+        this.accountBalanceService.adjust(previousBooking, existingPayment);
         return new PaymentResponseDto(existingPayment);
     }
 
@@ -186,6 +296,10 @@ public class PaymentService {
         if (existingPayment == null) {
             throw new WebApplicationException("Payment not found", Response.Status.NOT_FOUND);
         }
+        EntityTags.checkVersion(paymentDto.version, existingPayment.version);
+
+        // Remember the old booking; it is moved to the new accounts/amount in one pass below
+        final var previousBooking = AccountBalanceService.Booking.of(existingPayment);
 
         // Partial update (PATCH semantics) - only update provided fields
         if (paymentDto.targetAccountId != null) {
@@ -220,12 +334,41 @@ public class PaymentService {
         }
 
         existingPayment.lastEdit = LocalDateTime.now();
-        existingPayment.persist();
+        existingPayment.persistAndFlush();
+        this.accountBalanceService.adjust(previousBooking, existingPayment);
         return new PaymentResponseDto(existingPayment);
     }
 
+    private void validateRequiredFields(final PaymentDto paymentDto) {
+        if (paymentDto.targetAccountId == null) {
+            throw new ValidationException("Target account ID is required");
+        }
+        if (paymentDto.sourceAccountId == null) {
+            throw new ValidationException("Source account ID is required");
+        }
+        if (paymentDto.userId == null) {
+            throw new ValidationException("User ID is required");
+        }
+        if (paymentDto.comment == null || paymentDto.comment.trim().isEmpty()) {
+            throw new ValidationException("Comment is required");
+        }
+        if (paymentDto.date == null) {
+            throw new ValidationException("Date is required");
+        }
+        if (paymentDto.amount == null || paymentDto.amount.compareTo(BigDecimal.ZERO) <= 0) {
+            throw new ValidationException("Amount must be positive");
+        }
+    }
+
     @Transactional
     public boolean deletePayment(final Long id) {
-        return PaymentEntity.deleteById(id);
+        final PaymentEntity payment = PaymentEntity.findById(id);
+        if (payment == null) {
+            return false;
+        }
+
+        this.accountBalanceService.revertPayment(payment);
+        payment.delete();
+        return true;
     }
 }
@@ -3,8 +3,15 @@ package de.vptr.midas.api.rest.service;
 import java.util.List;
 import java.util.Optional;
 
+import org.hibernate.SessionFactory;
+
+import de.vptr.midas.api.rest.dto.PostCategoryNodeDto;
+import de.vptr.midas.api.rest.dto.PostCategoryTreeDto;
 import de.vptr.midas.api.rest.entity.PostCategoryEntity;
+import de.vptr.midas.api.rest.util.TransactionUtil;
 import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.transaction.TransactionSynchronizationRegistry;
 import jakarta.transaction.Transactional;
 import jakarta.validation.ValidationException;
 import jakarta.ws.rs.WebApplicationException;
@@ -13,6 +20,23 @@ import jakarta.ws.rs.core.Response;
 @ApplicationScoped
 public class PostCategoryService {
 
+    private static final String CHILDREN_ROLE = PostCategoryEntity.class.getName() + ".children";
+
+    @Inject
+    SessionFactory sessionFactory;
+
+    @Inject
+    TransactionSynchronizationRegistry transactionSynchronizationRegistry;
+
+    @Inject
+    PostCategoryTree categoryTree;
+
+    @Inject
+    PayloadCache payloadCache;
+
+    @Inject
+    CounterService counterService;
+
     public List<PostCategoryEntity> getAllCategories() {
         return PostCategoryEntity.listAll();
     }
@@ -29,6 +53,18 @@ public class PostCategoryService {
         return PostCategoryEntity.findByParentId(parentId);
     }
 
+    public List<PostCategoryTreeDto> getCategoryTree() {
+        return this.categoryTree.getTree();
+    }
+
+    public Optional<PostCategoryTreeDto> getSubtree(final Long id) {
+        return this.categoryTree.getSubtree(id);
+    }
+
+    public Optional<List<PostCategoryNodeDto>> getAncestors(final Long id) {
+        return this.categoryTree.getAncestors(id);
+    }
+
     @Transactional
     public PostCategoryEntity createCategory(final PostCategoryEntity category) {
         // Validate name is provided for creation
@@ -46,6 +82,9 @@ public class PostCategoryService {
         }
 
         category.persist();
+        this.evictChildren(category.parent);
+        this.categoryTree.invalidate();
+        this.payloadCache.invalidate(PayloadCache.ROOT_CATEGORIES);
         return category;
     }
 
@@ -65,6 +104,8 @@ public class PostCategoryService {
         existingCategory.name = category.name;
 
         existingCategory.persist();
+        this.categoryTree.invalidate();
+        this.invalidatePayloads();
         return existingCategory;
     }
 
@@ -82,11 +123,49 @@ public class PostCategoryService {
         // Note: Don't allow parent changes via PATCH for safety
 
         existingCategory.persist();
+        this.categoryTree.invalidate();
+        this.invalidatePayloads();
         return existingCategory;
     }
 
     @Transactional
     public boolean deleteCategory(final Long id) {
-        return PostCategoryEntity.deleteById(id);
+        final PostCategoryEntity category = PostCategoryEntity.findById(id);
+        if (category == null) {
+            return false;
+        }
+
+        // Subcategories and posts are deleted with the category
+        this.counterService.categoriesDeleted(this.categoryTree.getDescendantIds(id).orElse(List.of(id)));
+
+        final var parent = category.parent;
+        category.delete();
+        this.evictChildren(parent);
+        this.categoryTree.invalidate();
+        this.invalidatePayloads();
+        return true;
+    }
+
+    // Helper method to drop the cached list bodies; posts show their category name
+    private void invalidatePayloads() {
+        this.payloadCache.invalidate(PayloadCache.ROOT_CATEGORIES);
+        this.payloadCache.invalidate(PayloadCache.PUBLISHED_POSTS);
+    }
+
+    // Helper method to drop the cached children of a parent category. The child
+    // owns the association, so Hibernate does not evict the parent's collection
+    // by itself. Evicts again after completion, so a concurrent reader cannot
+    // re-populate the cache from the uncommitted state.
+    private void evictChildren(final PostCategoryEntity parent) {
+        if (parent == null) {
+            return;
+        }
+
+        final var parentId = parent.id;
+        final var cache = this.sessionFactory.getCache();
+        cache.evictCollectionData(CHILDREN_ROLE, parentId);
+
+        TransactionUtil.afterCompletion(this.transactionSynchronizationRegistry,
+                () -> cache.evictCollectionData(CHILDREN_ROLE, parentId));
     }
 }
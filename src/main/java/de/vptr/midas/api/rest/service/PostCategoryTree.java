@@ -0,0 +1,267 @@
+package de.vptr.midas.api.rest.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import de.vptr.midas.api.rest.dto.PostCategoryNodeDto;
+import de.vptr.midas.api.rest.dto.PostCategoryTreeDto;
+import de.vptr.midas.api.rest.entity.PostCategoryEntity;
+import de.vptr.midas.api.rest.util.TransactionUtil;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.transaction.TransactionSynchronizationRegistry;
+
+/**
+ * In-memory index of the category hierarchy.
+ *
+ * The whole tree is held as an immutable snapshot of flat arrays (parent,
+ * child adjacency, depth, ancestor path and a depth-first order in which every
+ * subtree is a contiguous range). Category writes invalidate the snapshot
+ * immediately and again after their transaction completes; the next read
+ * rebuilds it with a single query and swaps it in. A rebuild that raced with a
+ * write is used once but not installed.
+ */
+@ApplicationScoped
+public class PostCategoryTree {
+
+    private static final Logger LOG = LoggerFactory.getLogger(PostCategoryTree.class);
+
+    private final AtomicReference<Snapshot> snapshot = new AtomicReference<>();
+
+    private final AtomicLong generation = new AtomicLong();
+
+    @Inject
+    TransactionSynchronizationRegistry transactionSynchronizationRegistry;
+
+    /**
+     * Returns all root categories with their nested subcategories
+     */
+    public List<PostCategoryTreeDto> getTree() {
+        final var current = this.current();
+        return Arrays.stream(current.roots).mapToObj(current::toTree).toList();
+    }
+
+    /**
+     * Returns a category with its nested subcategories
+     */
+    public Optional<PostCategoryTreeDto> getSubtree(final Long categoryId) {
+        final var current = this.current();
+        return current.nodeOf(categoryId).map(current::toTree);
+    }
+
+    /**
+     * Returns the ancestors of a category, root first
+     */
+    public Optional<List<PostCategoryNodeDto>> getAncestors(final Long categoryId) {
+        final var current = this.current();
+        return current.nodeOf(categoryId)
+                .map(node -> Arrays.stream(current.path[node]).mapToObj(current::toNode).toList());
+    }
+
+    /**
+     * Returns the IDs of a category and all its descendants, depth-first
+     */
+    public Optional<List<Long>> getDescendantIds(final Long categoryId) {
+        final var current = this.current();
+        return current.nodeOf(categoryId).map(node -> {
+            final List<Long> ids = new ArrayList<>(current.size[node]);
+            for (var i = current.enter[node]; i < current.enter[node] + current.size[node]; i++) {
+                ids.add(current.ids[current.preorder[i]]);
+            }
+            return ids;
+        });
+    }
+
+    /**
+     * Drops the snapshot now and after the current transaction completes, so
+     * a reader cannot install a tree built from uncommitted data
+     */
+    public void invalidate() {
+        this.evict();
+        TransactionUtil.afterCompletion(this.transactionSynchronizationRegistry, this::evict);
+    }
+
+    private void evict() {
+        this.generation.incrementAndGet();
+        this.snapshot.set(null);
+    }
+
+    private Snapshot current() {
+        final var existing = this.snapshot.get();
+        if (existing != null) {
+            return existing;
+        }
+
+        final var expectedGeneration = this.generation.get();
+        final var built = Snapshot.of(PostCategoryEntity.getEntityManager()
+                .createQuery("SELECT c.id, c.name, p.id FROM PostCategoryEntity c LEFT JOIN c.parent p "
+                        + "ORDER BY c.id", Object[].class)
+                .getResultList());
+
+        if (this.generation.get() == expectedGeneration) {
+            this.snapshot.compareAndSet(null, built);
+        }
+        LOG.debug("Rebuilt category tree with {} categories", built.ids.length);
+        return built;
+    }
+
+    static final class Snapshot {
+        private static final int[] NONE = new int[0];
+
+        private final Map<Long, Integer> index;
+        private final long[] ids;
+        private final String[] names;
+        // Parent node, or -1 for roots
+        private final int[] parent;
+        private final int[][] children;
+        private final int[] depth;
+        // Ancestor nodes, root first
+        private final int[][] path;
+        private final int[] roots;
+        // Depth-first order; the subtree of a node is preorder[enter .. enter + size)
+        private final int[] preorder;
+        private final int[] enter;
+        private final int[] size;
+
+        private Snapshot(final Map<Long, Integer> index, final long[] ids, final String[] names, final int[] parent,
+                final int[][] children, final int[] depth, final int[][] path, final int[] roots,
+                final int[] preorder, final int[] enter, final int[] size) {
+            this.index = index;
+            this.ids = ids;
+            this.names = names;
+            this.parent = parent;
+            this.children = children;
+            this.depth = depth;
+            this.path = path;
+            this.roots = roots;
+            this.preorder = preorder;
+            this.enter = enter;
+            this.size = size;
+        }
+
+        /**
+         * Builds a snapshot from rows of [id, name, parent id], ordered by id
+         */
+        static Snapshot of(final List<Object[]> rows) {
+            final var count = rows.size();
+            final Map<Long, Integer> index = new HashMap<>(count * 2);
+            final var ids = new long[count];
+            final var names = new String[count];
+            for (var i = 0; i < count; i++) {
+                ids[i] = ((Number) rows.get(i)[0]).longValue();
+                names[i] = (String) rows.get(i)[1];
+                index.put(ids[i], i);
+            }
+
+            // Parents and child adjacency (children in id order)
+            final var parent = new int[count];
+            final var childCounts = new int[count];
+            var rootCount = 0;
+            for (var i = 0; i < count; i++) {
+                final var parentId = (Number) rows.get(i)[2];
+                final Integer parentNode = parentId != null ? index.get(parentId.longValue()) : null;
+                parent[i] = parentNode != null ? parentNode : -1;
+                if (parent[i] < 0) {
+                    rootCount++;
+                } else {
+                    childCounts[parent[i]]++;
+                }
+            }
+
+            final var children = new int[count][];
+            for (var i = 0; i < count; i++) {
+                children[i] = childCounts[i] > 0 ? new int[childCounts[i]] : NONE;
+            }
+            final var roots = new int[rootCount];
+            final var filled = new int[count];
+            var rootIndex = 0;
+            for (var i = 0; i < count; i++) {
+                if (parent[i] < 0) {
+                    roots[rootIndex++] = i;
+                } else {
+                    children[parent[i]][filled[parent[i]]++] = i;
+                }
+            }
+
+            // Iterative depth-first walk from the roots
+            final var depth = new int[count];
+            final var path = new int[count][];
+            final var enter = new int[count];
+            final var size = new int[count];
+            final var preorder = new int[count];
+            final var stack = new int[count];
+            var visited = 0;
+            for (var r = 0; r < roots.length; r++) {
+                var top = 0;
+                stack[top++] = roots[r];
+                path[roots[r]] = NONE;
+                while (top > 0) {
+                    final var node = stack[--top];
+                    enter[node] = visited;
+                    preorder[visited++] = node;
+                    for (var c = children[node].length - 1; c >= 0; c--) {
+                        final var child = children[node][c];
+                        depth[child] = depth[node] + 1;
+                        path[child] = Arrays.copyOf(path[node], path[node].length + 1);
+                        path[child][path[node].length] = node;
+                        stack[top++] = child;
+                    }
+                }
+            }
+
+            // Subtree sizes, children before parents
+            for (var i = visited - 1; i >= 0; i--) {
+                final var node = preorder[i];
+                size[node]++;
+                if (parent[node] >= 0) {
+                    size[parent[node]] += size[node];
+                }
+            }
+
+            // Categories in a parent cycle are unreachable from any root
+            if (visited < count) {
+                LOG.warn("{} categories are part of a parent cycle and were left out of the tree", count - visited);
+                for (var i = 0; i < count; i++) {
+                    if (path[i] == null) {
+                        index.remove(ids[i]);
+                    }
+                }
+            }
+
+            return new Snapshot(Map.copyOf(index), ids, names, parent, children, depth, path, roots,
+                    Arrays.copyOf(preorder, visited), enter, size);
+        }
+
+        Optional<Integer> nodeOf(final Long categoryId) {
+            return categoryId != null ? Optional.ofNullable(this.index.get(categoryId)) : Optional.empty();
+        }
+
+        PostCategoryNodeDto toNode(final int node) {
+            return new PostCategoryNodeDto(this.ids[node], this.names[node], this.parentId(node), this.depth[node],
+                    this.pathIds(node));
+        }
+
+        PostCategoryTreeDto toTree(final int node) {
+            final var nested = Arrays.stream(this.children[node]).mapToObj(this::toTree).toList();
+            return new PostCategoryTreeDto(this.ids[node], this.names[node], this.parentId(node), this.depth[node],
+                    this.pathIds(node), nested);
+        }
+
+        private Long parentId(final int node) {
+            return this.parent[node] >= 0 ? this.ids[this.parent[node]] : null;
+        }
+
+        private List<Long> pathIds(final int node) {
+            return Arrays.stream(this.path[node]).mapToObj(ancestor -> this.ids[ancestor]).toList();
+        }
+    }
+}
@@ -4,8 +4,10 @@ import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
+import de.vptr.midas.api.rest.dto.PaginatedResponseDto;
 import de.vptr.midas.api.rest.entity.PostCommentEntity;
 import de.vptr.midas.api.rest.entity.PostEntity;
+import de.vptr.midas.api.rest.util.PageRequest;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 import jakarta.transaction.Transactional;
@@ -19,10 +21,21 @@ public class PostCommentService {
     @Inject
     UserService userService;
 
+    @Inject
+    CounterService counterService;
+
+    @Inject
+    PayloadCache payloadCache;
+
     public List<PostCommentEntity> getAllComments() {
         return PostCommentEntity.listAll();
     }
 
+    public PaginatedResponseDto<PostCommentEntity> getComments(final PageRequest pageRequest) {
+        return pageRequest.apply((query, params) -> PostCommentEntity.<PostCommentEntity>find(query, params),
+                entity -> entity.id, entity -> entity);
+    }
+
     public Optional<PostCommentEntity> findById(final Long id) {
         return PostCommentEntity.findByIdOptional(id);
     }
@@ -75,6 +88,8 @@ public class PostCommentService {
 
         comment.created = LocalDateTime.now();
         comment.persist();
+        this.counterService.commentCreated(comment);
+        this.payloadCache.invalidate(PayloadCache.PUBLISHED_POSTS);
 
         // Return a fresh copy with minimal data to avoid lazy loading issues
         final PostCommentEntity result = new PostCommentEntity();
@@ -154,6 +169,15 @@ public class PostCommentService {
 
     @Transactional
     public boolean deleteComment(final Long id) {
-        return PostCommentEntity.deleteById(id);
+        final PostCommentEntity comment = PostCommentEntity.findById(id);
+        if (comment == null) {
+            return false;
+        }
+
+        this.counterService.commentDeleted(comment);
+        comment.delete();
+        // The published posts list shows comment counts
+        this.payloadCache.invalidate(PayloadCache.PUBLISHED_POSTS);
+        return true;
     }
 }
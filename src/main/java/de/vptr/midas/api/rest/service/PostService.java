@@ -4,12 +4,18 @@ import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
+import de.vptr.midas.api.rest.dto.PaginatedResponseDto;
 import de.vptr.midas.api.rest.dto.PostDto;
 import de.vptr.midas.api.rest.dto.PostResponseDto;
+import de.vptr.midas.api.rest.dto.PostSummaryDto;
 import de.vptr.midas.api.rest.entity.PostCategoryEntity;
 import de.vptr.midas.api.rest.entity.PostEntity;
 import de.vptr.midas.api.rest.entity.UserEntity;
+import de.vptr.midas.api.rest.util.EntityTags;
+import de.vptr.midas.api.rest.util.PageRequest;
+import de.vptr.midas.api.rest.util.ResourceVersion;
 import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
 import jakarta.transaction.Transactional;
 import jakarta.validation.ValidationException;
 import jakarta.ws.rs.WebApplicationException;
@@ -18,14 +24,49 @@ import jakarta.ws.rs.core.Response;
 @ApplicationScoped
 public class PostService {
 
+    // Selects everything but the content column; %s is the excerpt expression
+    private static final String SUMMARY_PROJECTION = "SELECT new de.vptr.midas.api.rest.dto.PostSummaryDto("
+            + "p.id, p.title, %s, u.id, u.username, c.id, c.name, "
+            + "p.published, p.commentable, p.created, p.lastEdit, p.commentCount, p.version) "
+            + "FROM PostEntity p "
+            + "LEFT JOIN p.user u "
+            + "LEFT JOIN p.category c ";
+
+    @Inject
+    CounterService counterService;
+
+    @Inject
+    PostCategoryTree categoryTree;
+
+    @Inject
+    PayloadCache payloadCache;
+
     public List<PostEntity> getAllPosts() {
         return PostEntity.listAll();
     }
 
+    public PaginatedResponseDto<PostResponseDto> getPosts(final PageRequest pageRequest) {
+        return pageRequest.apply((query, params) -> PostEntity.<PostEntity>find(query, params),
+                entity -> entity.id, PostResponseDto::new);
+    }
+
     public Optional<PostEntity> findById(final Long id) {
         return PostEntity.findByIdOptional(id);
     }
 
+    /**
+     * Looks up the version of a post without loading its content
+     */
+    public Optional<ResourceVersion> findVersion(final Long id) {
+        return PostEntity.getEntityManager()
+                .createQuery("SELECT new de.vptr.midas.api.rest.util.ResourceVersion("
+                        + "p.id, p.version, COALESCE(p.lastEdit, p.created)) "
+                        + "FROM PostEntity p WHERE p.id = ?1", ResourceVersion.class)
+                .setParameter(1, id)
+                .getResultStream()
+                .findFirst();
+    }
+
     public List<PostEntity> findPublishedPosts() {
         return PostEntity.find("published = true").list();
     }
@@ -38,6 +79,67 @@ public class PostService {
         return PostEntity.find("category.id", categoryId).list();
     }
 
+    /**
+     * Returns the posts of a category and all its subcategories with one IN
+     * query over the IDs from the category tree
+     */
+    public List<PostEntity> findByCategoryIdIncludingDescendants(final Long categoryId) {
+        return this.categoryTree.getDescendantIds(categoryId)
+                .map(ids -> PostEntity.<PostEntity>list("category.id IN ?1 ORDER BY id", ids))
+                .orElse(List.of());
+    }
+
+    /**
+     * Returns a page of post summaries without loading the content
+     *
+     * @param excerptLength the number of content characters to include, 0 for
+     *                      none
+     */
+    public PaginatedResponseDto<PostSummaryDto> getPostSummaries(final PageRequest pageRequest,
+            final int excerptLength) {
+        return pageRequest.apply((where, orderBy, params, firstResult, maxResults) -> this.summarize(
+                excerptLength, where, orderBy, params, firstResult, maxResults),
+                "p.id", null, new Object[0], dto -> dto.id, dto -> dto);
+    }
+
+    public List<PostSummaryDto> findPublishedSummaries(final int excerptLength) {
+        return this.summarize(excerptLength, "WHERE p.published = true", "p.id", new Object[0], 0, -1);
+    }
+
+    public List<PostSummaryDto> findSummariesByUserId(final Long userId, final int excerptLength) {
+        return this.summarize(excerptLength, "WHERE u.id = ?1", "p.id", new Object[] { userId }, 0, -1);
+    }
+
+    public List<PostSummaryDto> findSummariesByCategoryId(final Long categoryId, final int excerptLength) {
+        return this.summarize(excerptLength, "WHERE c.id = ?1", "p.id", new Object[] { categoryId }, 0, -1);
+    }
+
+    public List<PostSummaryDto> findSummariesByCategoryIdIncludingDescendants(final Long categoryId,
+            final int excerptLength) {
+        return this.categoryTree.getDescendantIds(categoryId)
+                .map(ids -> this.summarize(excerptLength, "WHERE c.id IN ?1", "p.id", new Object[] { ids }, 0, -1))
+                .orElse(List.of());
+    }
+
+    // Helper method to run the summary projection; a negative maxResults means no limit
+    private List<PostSummaryDto> summarize(final int excerptLength, final String where, final String orderBy,
+            final Object[] params, final int firstResult, final int maxResults) {
+        // The length is validated (ListView), so it can be inlined
+        final var excerpt = excerptLength > 0 ? "SUBSTRING(p.content, 1, " + excerptLength + ")"
+                : "CAST(NULL AS String)";
+        final var query = PostEntity.getEntityManager()
+                .createQuery(SUMMARY_PROJECTION.formatted(excerpt) + where + " ORDER BY " + orderBy,
+                        PostSummaryDto.class)
+                .setFirstResult(firstResult);
+        if (maxResults >= 0) {
+            query.setMaxResults(maxResults);
+        }
+        for (var i = 0; i < params.length; i++) {
+            query.setParameter(i + 1, params[i]);
+        }
+        return query.getResultList();
+    }
+
     @Transactional
     public PostResponseDto createPost(final PostDto postDto) {
         // Validate required fields for POST
@@ -75,6 +177,8 @@ public class PostService {
         }
 
         post.persist();
+        this.payloadCache.invalidate(PayloadCache.PUBLISHED_POSTS);
+        this.counterService.postCreated(post);
         return new PostResponseDto(post);
     }
 
@@ -92,6 +196,8 @@ public class PostService {
         if (existingPost == null) {
             throw new WebApplicationException("Post not found", Response.Status.NOT_FOUND);
         }
+        EntityTags.checkVersion(postDto.version, existingPost.version);
+        final var previousUserId = existingPost.user != null ? existingPost.user.id : null;
 
         // Complete replacement (PUT semantics)
         existingPost.title = postDto.title;
@@ -122,7 +228,9 @@ public class PostService {
             existingPost.category = null;
         }
 
-        existingPost.persist();
+        existingPost.persistAndFlush();
+        this.payloadCache.invalidate(PayloadCache.PUBLISHED_POSTS);
+        this.counterService.postAuthorChanged(previousUserId, existingPost);
         return new PostResponseDto(existingPost);
     }
 
@@ -132,6 +240,8 @@ public class PostService {
         if (existingPost == null) {
             throw new WebApplicationException("Post not found", Response.Status.NOT_FOUND);
         }
+        EntityTags.checkVersion(postDto.version, existingPost.version);
+        final var previousUserId = existingPost.user != null ? existingPost.user.id : null;
 
         // Partial update (PATCH semantics) - only update provided fields
         if (postDto.title != null && !postDto.title.trim().isEmpty()) {
@@ -166,12 +276,22 @@ public class PostService {
         }
 
         existingPost.lastEdit = LocalDateTime.now();
-        existingPost.persist();
+        existingPost.persistAndFlush();
+        this.payloadCache.invalidate(PayloadCache.PUBLISHED_POSTS);
+        this.counterService.postAuthorChanged(previousUserId, existingPost);
         return new PostResponseDto(existingPost);
     }
 
     @Transactional
     public boolean deletePost(final Long id) {
-        return PostEntity.deleteById(id);
+        final PostEntity post = PostEntity.findById(id);
+        if (post == null) {
+            return false;
+        }
+
+        this.counterService.postDeleted(post);
+        post.delete();
+        this.payloadCache.invalidate(PayloadCache.PUBLISHED_POSTS);
+        return true;
     }
 }
@@ -0,0 +1,252 @@
+package de.vptr.midas.api.rest.service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import de.vptr.midas.api.rest.dto.PaginatedResponseDto;
+import de.vptr.midas.api.rest.dto.SearchResultDto;
+import de.vptr.midas.api.rest.entity.PostEntity;
+import de.vptr.midas.api.rest.util.PageRequest;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.ws.rs.BadRequestException;
+
+/**
+ * Ranked full-text search over posts, comments and pages.
+ *
+ * Uses the database's own full-text index: MATCH ... AGAINST on the FULLTEXT
+ * keys (MariaDB) or the GIN index on {@code to_tsvector('english', content)}
+ * (PostgreSQL), selected by {@code quarkus.datasource.db-kind}. Only the ids
+ * and scores of one page are ranked in SQL; titles and content are then loaded
+ * for that page alone to build the highlighted snippets.
+ */
+@ApplicationScoped
+public class SearchService {
+
+    private static final String CURSOR_PREFIX = "rank:";
+
+    private static final String MARIADB_SQL = "SELECT t.id, MATCH(t.content) AGAINST(?1) AS score FROM %s t"
+            + " WHERE MATCH(t.content) AGAINST(?1) ORDER BY score DESC, t.id LIMIT ?2 OFFSET ?3";
+    private static final String POSTGRES_SQL = "SELECT t.id, ts_rank(to_tsvector('english', t.content),"
+            + " plainto_tsquery('english', ?1)) AS score FROM %s t"
+            + " WHERE to_tsvector('english', t.content) @@ plainto_tsquery('english', ?1)"
+            + " ORDER BY score DESC, t.id LIMIT ?2 OFFSET ?3";
+
+    /**
+     * Tables with a full-text index on their content column
+     */
+    public enum Target {
+        POSTS("posts"),
+        COMMENTS("post_comments"),
+        PAGES("pages");
+
+        private final String table;
+
+        Target(final String table) {
+            this.table = table;
+        }
+    }
+
+    /**
+     * A ranked row
+     */
+    public record Hit(Long id, double score) {
+    }
+
+    @ConfigProperty(name = "quarkus.datasource.db-kind")
+    String dbKind;
+
+    @ConfigProperty(name = "midas.search.highlight-length", defaultValue = "200")
+    int highlightLength;
+
+    /**
+     * Searches post content
+     *
+     * @param query  the search terms
+     * @param limit  the page size
+     * @param cursor the {@code nextCursor} of the previous page
+     * @param offset the number of hits to skip (alternative to the cursor)
+     * @return one page of hits, most relevant first
+     */
+    public PaginatedResponseDto<SearchResultDto> searchPosts(final String query, final Integer limit,
+            final String cursor, final Long offset) {
+        return this.search(Target.POSTS, query, limit, cursor, offset,
+                "SELECT p.id, CAST(NULL AS Long), p.title, p.content, u.username, p.created FROM PostEntity p"
+                        + " LEFT JOIN p.user u WHERE p.id IN ?1");
+    }
+
+    /**
+     * Searches comment content
+     *
+     * @see #searchPosts(String, Integer, String, Long)
+     */
+    public PaginatedResponseDto<SearchResultDto> searchComments(final String query, final Integer limit,
+            final String cursor, final Long offset) {
+        return this.search(Target.COMMENTS, query, limit, cursor, offset,
+                "SELECT c.id, p.id, p.title, c.content, u.username, c.created FROM PostCommentEntity c"
+                        + " JOIN c.post p LEFT JOIN c.user u WHERE c.id IN ?1");
+    }
+
+    /**
+     * Returns the ids of the rows matching the query, most relevant first
+     */
+    public List<Long> rankedIds(final Target target, final String query, final int maxResults) {
+        return this.rank(target, query, maxResults, 0).stream().map(Hit::id).toList();
+    }
+
+    /**
+     * Ranks the rows of a table against the query
+     *
+     * @return at most {@code maxResults} hits after skipping {@code offset}
+     */
+    @SuppressWarnings("unchecked")
+    public List<Hit> rank(final Target target, final String query, final int maxResults, final long offset) {
+        final var sql = this.isPostgres() ? POSTGRES_SQL : MARIADB_SQL;
+        final List<Object[]> rows = PostEntity.getEntityManager()
+                .createNativeQuery(sql.formatted(target.table))
+                .setParameter(1, query)
+                .setParameter(2, maxResults)
+                .setParameter(3, offset)
+                .getResultList();
+        return rows.stream()
+                .map(row -> new Hit(((Number) row[0]).longValue(), ((Number) row[1]).doubleValue()))
+                .toList();
+    }
+
+    private PaginatedResponseDto<SearchResultDto> search(final Target target, final String query,
+            final Integer limit, final String cursor, final Long offset, final String detailsQuery) {
+        if (query == null || query.isBlank()) {
+            throw new BadRequestException("Search query parameter 'q' is required");
+        }
+        if (cursor != null && offset != null) {
+            throw new BadRequestException("Parameters 'cursor' and 'offset' cannot be combined");
+        }
+        // Validates limit and offset
+        final var page = PageRequest.of(limit, null, cursor != null ? decodeCursor(cursor) : offset);
+        final var start = page.getOffset() != null ? page.getOffset() : 0L;
+
+        // One extra hit to find out whether a next page exists
+        final var hits = this.rank(target, query, page.getLimit() + 1, start);
+        final var hasMore = hits.size() > page.getLimit();
+        final var pageHits = hasMore ? hits.subList(0, page.getLimit()) : hits;
+
+        final Map<Long, Object[]> details = new HashMap<>();
+        if (!pageHits.isEmpty()) {
+            PostEntity.getEntityManager()
+                    .createQuery(detailsQuery, Object[].class)
+                    .setParameter(1, pageHits.stream().map(Hit::id).toList())
+                    .getResultList()
+                    .forEach(row -> details.put((Long) row[0], row));
+        }
+
+        final var terms = terms(query);
+        final var items = pageHits.stream()
+                .filter(hit -> details.containsKey(hit.id()))
+                .map(hit -> {
+                    final var row = details.get(hit.id());
+                    return new SearchResultDto(hit.id(), (Long) row[1], (String) row[2], (String) row[4],
+                            (LocalDateTime) row[5], hit.score(),
+                            highlight((String) row[3], terms, this.highlightLength));
+                })
+                .toList();
+        return new PaginatedResponseDto<>(items, page.getLimit(), page.getOffset(),
+                hasMore ? encodeCursor(start + page.getLimit()) : null);
+    }
+
+    private boolean isPostgres() {
+        return this.dbKind.startsWith("postgres");
+    }
+
+    // Helper method to split a query into lower-case search terms
+    static List<String> terms(final String query) {
+        return Arrays.stream(query.toLowerCase().split("[^\\p{L}\\p{N}]+"))
+                .filter(term -> term.length() >= 2)
+                .distinct()
+                .toList();
+    }
+
+    /**
+     * Cuts a snippet of at most {@code maxLength} characters around the first
+     * matched term and wraps all matched terms (and words starting with them)
+     * in {@code <mark>}; the rest is HTML-escaped
+     */
+    static String highlight(final String content, final List<String> terms, final int maxLength) {
+        if (content == null) {
+            return null;
+        }
+        final var pattern = terms.isEmpty() ? null
+                : Pattern.compile("\\b(?:" + terms.stream().map(Pattern::quote).collect(Collectors.joining("|"))
+                        + ")[\\p{L}\\p{N}]*", Pattern.CASE_INSENSITIVE | Pattern.UNICODE_CASE | Pattern.UNICODE_CHARACTER_CLASS);
+
+        var start = 0;
+        if (pattern != null) {
+            final var first = pattern.matcher(content);
+            if (first.find()) {
+                start = Math.max(0, first.start() - maxLength / 4);
+            }
+        }
+        final var end = Math.min(content.length(), start + maxLength);
+        start = Math.max(0, Math.min(start, end - maxLength));
+        final var snippet = content.substring(start, end);
+
+        final var result = new StringBuilder(snippet.length() + 32);
+        if (start > 0) {
+            result.append('…');
+        }
+        var position = 0;
+        if (pattern != null) {
+            final var matcher = pattern.matcher(snippet);
+            while (matcher.find()) {
+                escape(snippet.substring(position, matcher.start()), result);
+                result.append("<mark>");
+                escape(matcher.group(), result);
+                result.append("</mark>");
+                position = matcher.end();
+            }
+        }
+        escape(snippet.substring(position), result);
+        if (end < content.length()) {
+            result.append('…');
+        }
+        return result.toString();
+    }
+
+    private static void escape(final String text, final StringBuilder out) {
+        for (var i = 0; i < text.length(); i++) {
+            final var c = text.charAt(i);
+            switch (c) {
+                case '&' -> out.append("&amp;");
+                case '<' -> out.append("&lt;");
+                case '>' -> out.append("&gt;");
+                case '"' -> out.append("&quot;");
+                case '\'' -> out.append("&#39;");
+                default -> out.append(c);
+            }
+        }
+    }
+
+    private static String encodeCursor(final long offset) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((CURSOR_PREFIX + offset).getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static Long decodeCursor(final String cursor) {
+        try {
+            final var decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            if (!decoded.startsWith(CURSOR_PREFIX)) {
+                throw new IllegalArgumentException();
+            }
+            return Long.parseLong(decoded.substring(CURSOR_PREFIX.length()));
+        } catch (final IllegalArgumentException e) {
+            throw new BadRequestException("Parameter 'cursor' is invalid");
+        }
+    }
+}
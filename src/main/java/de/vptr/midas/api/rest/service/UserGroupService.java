@@ -10,6 +10,7 @@ import de.vptr.midas.api.rest.entity.UserEntity;
 import de.vptr.midas.api.rest.entity.UserGroupEntity;
 import de.vptr.midas.api.rest.entity.UserGroupMetaEntity;
 import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
 import jakarta.transaction.Transactional;
 import jakarta.validation.ValidationException;
 import jakarta.ws.rs.WebApplicationException;
@@ -18,6 +19,9 @@ import jakarta.ws.rs.core.Response;
 @ApplicationScoped
 public class UserGroupService {
 
+    @Inject
+    CounterService counterService;
+
     public List<UserGroupResponseDto> getAllGroups() {
         return UserGroupEntity.listAll().stream()
                 .map(entity -> new UserGroupResponseDto((UserGroupEntity) entity))
@@ -123,6 +127,7 @@ public class UserGroupService {
         meta.group = group;
         meta.timestamp = LocalDateTime.now();
         meta.persist();
+        this.counterService.groupMemberAdded(groupId);
 
         return meta;
     }
@@ -134,6 +139,7 @@ public class UserGroupService {
             return false;
         }
         meta.delete();
+        this.counterService.groupMemberRemoved(groupId);
         return true;
     }
 
@@ -6,7 +6,11 @@ import java.util.Optional;
 import de.vptr.midas.api.rest.dto.UserRankDto;
 import de.vptr.midas.api.rest.dto.UserRankResponseDto;
 import de.vptr.midas.api.rest.entity.UserRankEntity;
+import de.vptr.midas.api.rest.util.EntityTags;
+import de.vptr.midas.api.rest.util.ResourceVersion;
+import de.vptr.midas.api.security.RankPermissionCache;
 import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
 import jakarta.transaction.Transactional;
 import jakarta.ws.rs.WebApplicationException;
 import jakarta.ws.rs.core.Response;
@@ -14,6 +18,9 @@ import jakarta.ws.rs.core.Response;
 @ApplicationScoped
 public class UserRankService {
 
+    @Inject
+    RankPermissionCache rankPermissionCache;
+
     public List<UserRankEntity> getAllRanks() {
         return UserRankEntity.listAll();
     }
@@ -22,6 +29,18 @@ public class UserRankService {
         return UserRankEntity.findByIdOptional(id);
     }
 
+    /**
+     * Looks up the version of a rank without loading it
+     */
+    public Optional<ResourceVersion> findVersion(final Long id) {
+        return UserRankEntity.getEntityManager()
+                .createQuery("SELECT new de.vptr.midas.api.rest.util.ResourceVersion(e.id, e.version) "
+                        + "FROM UserRankEntity e WHERE e.id = ?1", ResourceVersion.class)
+                .setParameter(1, id)
+                .getResultStream()
+                .findFirst();
+    }
+
     public Optional<UserRankEntity> findByName(final String name) {
         return UserRankEntity.find("name", name).firstResultOptional();
     }
@@ -60,6 +79,7 @@ public class UserRankService {
         rank.userRankEdit = rankDto.userRankEdit != null ? rankDto.userRankEdit : false;
 
         rank.persist();
+        this.rankPermissionCache.invalidateRank(rank.id);
         return new UserRankResponseDto(rank);
     }
 
@@ -69,6 +89,7 @@ public class UserRankService {
         if (existingRank == null) {
             throw new WebApplicationException("User rank not found", Response.Status.NOT_FOUND);
         }
+        EntityTags.checkVersion(rankDto.version, existingRank.version);
 
         // Complete replacement (PUT semantics)
         existingRank.name = rankDto.name;
@@ -97,7 +118,8 @@ public class UserRankService {
         existingRank.userRankDelete = rankDto.userRankDelete != null ? rankDto.userRankDelete : false;
         existingRank.userRankEdit = rankDto.userRankEdit != null ? rankDto.userRankEdit : false;
 
-        existingRank.persist();
+        existingRank.persistAndFlush();
+        this.rankPermissionCache.invalidateRank(existingRank.id);
         return new UserRankResponseDto(existingRank);
     }
 
@@ -107,6 +129,7 @@ public class UserRankService {
         if (existingRank == null) {
             throw new WebApplicationException("User rank not found", Response.Status.NOT_FOUND);
         }
+        EntityTags.checkVersion(rankDto.version, existingRank.version);
 
         // Partial update (PATCH semantics) - only update provided fields
         if (rankDto.name != null)
@@ -160,12 +183,14 @@ public class UserRankService {
         if (rankDto.userRankEdit != null)
             existingRank.userRankEdit = rankDto.userRankEdit;
 
-        existingRank.persist();
+        existingRank.persistAndFlush();
+        this.rankPermissionCache.invalidateRank(existingRank.id);
         return new UserRankResponseDto(existingRank);
     }
 
     @Transactional
     public boolean deleteRank(final Long id) {
+        this.rankPermissionCache.invalidateRank(id);
         return UserRankEntity.deleteById(id);
     }
 }
@@ -4,11 +4,15 @@ import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
+import de.vptr.midas.api.rest.dto.PaginatedResponseDto;
 import de.vptr.midas.api.rest.dto.UserDto;
 import de.vptr.midas.api.rest.dto.UserResponseDto;
 import de.vptr.midas.api.rest.entity.UserEntity;
 import de.vptr.midas.api.rest.entity.UserRankEntity;
+import de.vptr.midas.api.rest.util.PageRequest;
+import de.vptr.midas.api.security.CredentialCache;
 import de.vptr.midas.api.security.PasswordHashingService;
+import de.vptr.midas.api.security.RankPermissionCache;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 import jakarta.transaction.Transactional;
@@ -22,10 +26,27 @@ public class UserService {
     @Inject
     PasswordHashingService passwordHashingService;
 
+    @Inject
+    CredentialCache credentialCache;
+
+    @Inject
+    RankPermissionCache rankPermissionCache;
+
+    @Inject
+    PayloadCache payloadCache;
+
+    @Inject
+    CounterService counterService;
+
     public List<UserEntity> getAllUsers() {
         return UserEntity.listAll();
     }
 
+    public PaginatedResponseDto<UserResponseDto> getUsers(final PageRequest pageRequest) {
+        return pageRequest.apply((query, params) -> UserEntity.<UserEntity>find(query, params),
+                entity -> entity.id, UserResponseDto::new);
+    }
+
     public Optional<UserEntity> findByUsername(final String username) {
         return UserEntity.find("username", username).firstResultOptional();
     }
@@ -103,6 +124,10 @@ public class UserService {
             throw new WebApplicationException("User not found", Response.Status.NOT_FOUND);
         }
 
+        // Cached credentials and roles must not outlive a password, salt, ban, activation or rank change
+        this.credentialCache.invalidate(existingUser.username);
+        this.rankPermissionCache.invalidateUser(existingUser.username);
+
         // Complete replacement (PUT semantics)
         existingUser.username = userDto.username;
         existingUser.email = userDto.email;
@@ -146,6 +171,10 @@ public class UserService {
             throw new WebApplicationException("User not found", Response.Status.NOT_FOUND);
         }
 
+        // Cached credentials and roles must not outlive a password, salt, ban, activation or rank change
+        this.credentialCache.invalidate(existingUser.username);
+        this.rankPermissionCache.invalidateUser(existingUser.username);
+
         // Partial update (PATCH semantics) - only update provided fields
         if (userDto.username != null && !userDto.username.trim().isEmpty()) {
             existingUser.username = userDto.username;
@@ -193,7 +222,18 @@ public class UserService {
 
     @Transactional
     public boolean deleteUser(final Long id) {
-        return UserEntity.deleteById(id);
+        final UserEntity user = UserEntity.findById(id);
+        if (user == null) {
+            return false;
+        }
+
+        this.credentialCache.invalidate(user.username);
+        this.rankPermissionCache.invalidateUser(user.username);
+        this.counterService.userDeleted(user);
+        user.delete();
+        // The published posts list shows author names and comment counts
+        this.payloadCache.invalidate(PayloadCache.PUBLISHED_POSTS);
+        return true;
     }
 
     public List<UserEntity> findActiveUsers() {
@@ -0,0 +1,100 @@
+package de.vptr.midas.api.rest.util;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.ws.rs.core.CacheControl;
+import jakarta.ws.rs.core.EntityTag;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Request;
+import jakarta.ws.rs.core.Response;
+
+/**
+ * Answers GET requests with ETag and Last-Modified validators and returns
+ * 304 Not Modified when the client's copy is still current
+ * (If-None-Match / If-Modified-Since).
+ */
+public class ConditionalGet {
+
+    private static final int TAG_BYTES = 16;
+
+    private ConditionalGet() {
+    }
+
+    /**
+     * Evaluates the preconditions against a version looked up with a
+     * lightweight query; the body is only loaded if it has to be sent.
+     */
+    public static <T> Response ofVersion(final Request request, final Optional<ResourceVersion> version,
+            final Supplier<Optional<T>> loader) {
+        if (version.isEmpty()) {
+            return ResponseUtil.notFound();
+        }
+        if (!version.get().isKnown()) {
+            return ResponseUtil.okOrNotFound(loader.get());
+        }
+
+        final var eTag = version.get().entityTag();
+        final var lastModified = version.get().lastModifiedDate();
+        final var notModified = lastModified != null
+                ? request.evaluatePreconditions(lastModified, eTag)
+                : request.evaluatePreconditions(eTag);
+        if (notModified != null) {
+            return notModified.tag(eTag).lastModified(lastModified).cacheControl(revalidate()).build();
+        }
+
+        return loader.get()
+                .map(body -> Response.ok(body).tag(eTag).lastModified(lastModified).cacheControl(revalidate()).build())
+                .orElse(ResponseUtil.notFound());
+    }
+
+    /**
+     * Evaluates the preconditions against a hash of the serialized body, for
+     * resources without a modification time. Saves egress, not the lookup.
+     */
+    public static <T> Response ofRepresentation(final Request request, final ObjectMapper objectMapper,
+            final Optional<T> body) {
+        if (body.isEmpty()) {
+            return ResponseUtil.notFound();
+        }
+
+        final byte[] json;
+        try {
+            json = objectMapper.writeValueAsBytes(body.get());
+        } catch (final JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize response body", e);
+        }
+
+        final var eTag = new EntityTag(digest(json));
+        final var notModified = request.evaluatePreconditions(eTag);
+        if (notModified != null) {
+            return notModified.tag(eTag).cacheControl(revalidate()).build();
+        }
+        return Response.ok(json, MediaType.APPLICATION_JSON_TYPE).tag(eTag).cacheControl(revalidate()).build();
+    }
+
+    // Helper method to let clients keep a private copy that must be revalidated before use
+    private static CacheControl revalidate() {
+        final var cacheControl = new CacheControl();
+        cacheControl.setPrivate(true);
+        cacheControl.setNoCache(true);
+        cacheControl.setNoTransform(false);
+        return cacheControl;
+    }
+
+    private static String digest(final byte[] json) {
+        try {
+            final var hash = MessageDigest.getInstance("SHA-256").digest(json);
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(Arrays.copyOf(hash, TAG_BYTES));
+        } catch (final NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
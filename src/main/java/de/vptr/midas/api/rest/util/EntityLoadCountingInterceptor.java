@@ -0,0 +1,32 @@
+package de.vptr.midas.api.rest.util;
+
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.hibernate.Interceptor;
+import org.hibernate.type.Type;
+
+import io.quarkus.hibernate.orm.PersistenceUnitExtension;
+import jakarta.enterprise.context.ApplicationScoped;
+
+/**
+ * Counts the entities Hibernate materializes into the statistics of the
+ * current request. DTO projections do not load entities and are not counted.
+ */
+@PersistenceUnitExtension
+@ApplicationScoped
+public class EntityLoadCountingInterceptor implements Interceptor {
+
+    @ConfigProperty(name = "midas.sql-budget.enabled", defaultValue = "true")
+    boolean enabled;
+
+    @Override
+    public boolean onLoad(final Object entity, final Object id, final Object[] state, final String[] propertyNames,
+            final Type[] types) {
+        if (this.enabled) {
+            final var statistics = RequestStatistics.current();
+            if (statistics != null) {
+                statistics.entityLoad();
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,65 @@
+package de.vptr.midas.api.rest.util;
+
+import jakarta.ws.rs.WebApplicationException;
+import jakarta.ws.rs.core.EntityTag;
+import jakarta.ws.rs.core.Response;
+
+/**
+ * ETags of versioned entities ({@code "<id>-<version>"}) and the If-Match
+ * checks that turn them into optimistic locks.
+ */
+public class EntityTags {
+
+    private EntityTags() {
+    }
+
+    public static EntityTag of(final Long id, final Long version) {
+        return new EntityTag(id + "-" + version);
+    }
+
+    /**
+     * Reads the version a client expects from its If-Match header
+     *
+     * @param id      the ID of the resource being written
+     * @param ifMatch the If-Match header value
+     * @return the expected version, or null for {@code *} (any version)
+     * @throws WebApplicationException 428 if the header is missing, 412 if it
+     *                                 holds no strong ETag of this resource
+     */
+    public static Long expectedVersion(final Long id, final String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank()) {
+            throw new WebApplicationException("If-Match header is required", Response.Status.PRECONDITION_REQUIRED);
+        }
+        if (ifMatch.trim().equals("*")) {
+            return null;
+        }
+
+        final var prefix = "\"" + id + "-";
+        for (final var candidate : ifMatch.split(",")) {
+            final var tag = candidate.trim();
+            // Weak tags never match strongly
+            if (tag.startsWith(prefix) && tag.endsWith("\"") && tag.length() > prefix.length() + 1) {
+                try {
+                    return Long.parseLong(tag.substring(prefix.length(), tag.length() - 1));
+                } catch (final NumberFormatException e) {
+                    // Not one of our tags, try the next
+                }
+            }
+        }
+        throw preconditionFailed();
+    }
+
+    /**
+     * Fails with 412 if the entity has moved on from the expected version; a
+     * null expectation skips the check
+     */
+    public static void checkVersion(final Long expectedVersion, final Long currentVersion) {
+        if (expectedVersion != null && !expectedVersion.equals(currentVersion)) {
+            throw preconditionFailed();
+        }
+    }
+
+    private static WebApplicationException preconditionFailed() {
+        return new WebApplicationException("Resource has been modified", Response.Status.PRECONDITION_FAILED);
+    }
+}
@@ -0,0 +1,48 @@
+package de.vptr.midas.api.rest.util;
+
+import jakarta.ws.rs.BadRequestException;
+
+/**
+ * Representation requested for list endpoints via {@code ?view=}.
+ *
+ * {@code full} (the default) returns complete entities; {@code summary}
+ * returns a projection without the content column, optionally with an excerpt
+ * of the first {@code ?excerpt=} characters.
+ */
+public enum ListView {
+    FULL,
+    SUMMARY;
+
+    public static final int MAX_EXCERPT_LENGTH = 1000;
+
+    /**
+     * Parses the {@code view} query parameter
+     *
+     * @throws BadRequestException if the view is unknown
+     */
+    public static ListView of(final String view) {
+        if (view == null || view.isBlank() || view.equalsIgnoreCase("full")) {
+            return FULL;
+        }
+        if (view.equalsIgnoreCase("summary")) {
+            return SUMMARY;
+        }
+        throw new BadRequestException("Parameter 'view' must be 'full' or 'summary'");
+    }
+
+    /**
+     * Validates the {@code excerpt} query parameter
+     *
+     * @return the excerpt length, 0 for no excerpt
+     * @throws BadRequestException if the length is out of range
+     */
+    public static int excerptLength(final Integer excerpt) {
+        if (excerpt == null) {
+            return 0;
+        }
+        if (excerpt < 0 || excerpt > MAX_EXCERPT_LENGTH) {
+            throw new BadRequestException("Parameter 'excerpt' must be between 0 and " + MAX_EXCERPT_LENGTH);
+        }
+        return excerpt;
+    }
+}
@@ -0,0 +1,38 @@
+package de.vptr.midas.api.rest.util;
+
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.config.MeterFilter;
+import io.micrometer.core.instrument.distribution.DistributionStatisticConfig;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.inject.Produces;
+import jakarta.inject.Singleton;
+
+/**
+ * Publishes percentile histograms for the request timers and the midas.*
+ * timers, so p95/p99 can be aggregated across instances in Prometheus.
+ */
+@ApplicationScoped
+public class MeterFilterProducer {
+
+    private static final String HTTP_SERVER_REQUESTS = "http.server.requests";
+    private static final String MIDAS_PREFIX = "midas.";
+
+    @Produces
+    @Singleton
+    public MeterFilter percentileHistograms() {
+        return new MeterFilter() {
+            @Override
+            public DistributionStatisticConfig configure(final Meter.Id id,
+                    final DistributionStatisticConfig config) {
+                final var name = id.getName();
+                if (!name.equals(HTTP_SERVER_REQUESTS) && !name.startsWith(MIDAS_PREFIX)) {
+                    return config;
+                }
+                return DistributionStatisticConfig.builder()
+                        .percentilesHistogram(true)
+                        .build()
+                        .merge(config);
+            }
+        };
+    }
+}
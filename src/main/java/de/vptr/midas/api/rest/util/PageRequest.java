@@ -0,0 +1,182 @@
+package de.vptr.midas.api.rest.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+import de.vptr.midas.api.rest.dto.PaginatedResponseDto;
+import io.quarkus.hibernate.orm.panache.PanacheQuery;
+import jakarta.ws.rs.BadRequestException;
+
+/**
+ * Paging parameters of a list request.
+ *
+ * Pages are ordered by id. Clients follow the opaque {@code nextCursor}
+ * (keyset paging, constant cost per page); {@code offset} is accepted as a
+ * fallback but gets slower the deeper it goes.
+ */
+public class PageRequest {
+
+    public static final int DEFAULT_LIMIT = 50;
+    public static final int MAX_LIMIT = 500;
+    // firstResult is an int, and the last row of the page (offset + limit) must fit as well
+    public static final long MAX_OFFSET = Integer.MAX_VALUE - MAX_LIMIT - 1;
+
+    private static final String CURSOR_PREFIX = "id:";
+
+    private final int limit;
+    private final Long afterId;
+    private final Long offset;
+
+    private PageRequest(final int limit, final Long afterId, final Long offset) {
+        this.limit = limit;
+        this.afterId = afterId;
+        this.offset = offset;
+    }
+
+    /**
+     * Creates a page request from query parameters
+     *
+     * @param limit  the page size, defaults to {@value #DEFAULT_LIMIT}
+     * @param cursor the opaque cursor returned as {@code nextCursor}
+     * @param offset the number of rows to skip (fallback to cursors)
+     * @return the page request
+     * @throws BadRequestException if the parameters are invalid
+     */
+    public static PageRequest of(final Integer limit, final String cursor, final Long offset) {
+        final var effectiveLimit = limit != null ? limit : DEFAULT_LIMIT;
+        if (effectiveLimit < 1 || effectiveLimit > MAX_LIMIT) {
+            throw new BadRequestException("Parameter 'limit' must be between 1 and " + MAX_LIMIT);
+        }
+        if (cursor != null && offset != null) {
+            throw new BadRequestException("Parameters 'cursor' and 'offset' cannot be combined");
+        }
+        if (offset != null && offset < 0) {
+            throw new BadRequestException("Parameter 'offset' must not be negative");
+        }
+        if (offset != null && offset > MAX_OFFSET) {
+            throw new BadRequestException("Parameter 'offset' must not exceed " + MAX_OFFSET);
+        }
+
+        return new PageRequest(effectiveLimit, cursor != null ? decodeCursor(cursor) : null, offset);
+    }
+
+    public static PageRequest first(final int limit) {
+        return of(limit, null, null);
+    }
+
+    public static String encodeCursor(final Long id) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((CURSOR_PREFIX + id).getBytes(StandardCharsets.UTF_8));
+    }
+
+    static Long decodeCursor(final String cursor) {
+        try {
+            final var decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            if (!decoded.startsWith(CURSOR_PREFIX)) {
+                throw new IllegalArgumentException();
+            }
+            return Long.parseLong(decoded.substring(CURSOR_PREFIX.length()));
+        } catch (final IllegalArgumentException e) {
+            throw new BadRequestException("Parameter 'cursor' is invalid");
+        }
+    }
+
+    public int getLimit() {
+        return this.limit;
+    }
+
+    public Long getAfterId() {
+        return this.afterId;
+    }
+
+    public Long getOffset() {
+        return this.offset;
+    }
+
+    /**
+     * Runs a paged Panache query and maps the results.
+     *
+     * @param finder the entity's find method, e.g. {@code (q, p) -> PaymentEntity.find(q, p)}
+     * @param filter an optional HQL condition using positional parameters (?1, ?2, ...)
+     * @param params the parameters of the filter
+     * @param idOf   returns the id of an entity
+     * @param mapper maps an entity to its response representation
+     * @return the page envelope
+     */
+    public <E, D> PaginatedResponseDto<D> apply(final BiFunction<String, Object[], PanacheQuery<E>> finder,
+            final String filter, final Object[] params, final Function<E, Long> idOf,
+            final Function<E, D> mapper) {
+        return this.apply((where, orderBy, queryParams, firstResult, maxResults) -> finder
+                .apply((where.isEmpty() ? "" : where + " ") + "ORDER BY " + orderBy, queryParams)
+                .range(firstResult, firstResult + maxResults - 1)
+                .list(), "id", filter, params, idOf, mapper);
+    }
+
+    /**
+     * Runs a paged query through a custom loader (e.g. a DTO projection) and
+     * maps the results.
+     *
+     * One extra row is fetched to find out whether a next page exists.
+     *
+     * @param loader runs the query for the given condition, order and row range
+     * @param idPath the HQL path of the id, e.g. {@code p.id}
+     * @param filter an optional HQL condition using positional parameters (?1, ?2, ...)
+     * @param params the parameters of the filter
+     * @param idOf   returns the id of a row
+     * @param mapper maps a row to its response representation
+     * @return the page envelope
+     */
+    public <E, D> PaginatedResponseDto<D> apply(final RowLoader<E> loader, final String idPath,
+            final String filter, final Object[] params, final Function<E, Long> idOf,
+            final Function<E, D> mapper) {
+        final List<Object> queryParams = new ArrayList<>(Arrays.asList(params));
+        final List<String> conditions = new ArrayList<>();
+
+        if (filter != null && !filter.isBlank()) {
+            conditions.add("(" + filter + ")");
+        }
+        if (this.afterId != null) {
+            queryParams.add(this.afterId);
+            conditions.add(idPath + " > ?" + queryParams.size());
+        }
+
+        final var where = conditions.isEmpty() ? "" : "WHERE " + String.join(" AND ", conditions);
+        final var firstRow = this.offset != null ? this.offset.intValue() : 0;
+        final List<E> rows = loader.load(where, idPath, queryParams.toArray(), firstRow, this.limit + 1);
+
+        final var hasMore = rows.size() > this.limit;
+        final var pageRows = hasMore ? rows.subList(0, this.limit) : rows;
+        final var nextCursor = hasMore ? encodeCursor(idOf.apply(pageRows.get(pageRows.size() - 1))) : null;
+
+        return new PaginatedResponseDto<>(pageRows.stream().map(mapper).toList(), this.limit, this.offset,
+                nextCursor);
+    }
+
+    /**
+     * Shorthand for {@link #apply} without a filter
+     */
+    public <E, D> PaginatedResponseDto<D> apply(final BiFunction<String, Object[], PanacheQuery<E>> finder,
+            final Function<E, Long> idOf, final Function<E, D> mapper) {
+        return this.apply(finder, null, new Object[0], idOf, mapper);
+    }
+
+    /**
+     * Loads one page of rows
+     */
+    @FunctionalInterface
+    public interface RowLoader<E> {
+        /**
+         * @param where       the WHERE clause (including the keyword), or an empty string
+         * @param orderBy     the ORDER BY expression
+         * @param params      the positional parameters
+         * @param firstResult the first row to return
+         * @param maxResults  the maximum number of rows to return
+         */
+        List<E> load(String where, String orderBy, Object[] params, int firstResult, int maxResults);
+    }
+}
@@ -0,0 +1,84 @@
+package de.vptr.midas.api.rest.util;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+import io.quarkus.arc.Arc;
+import jakarta.enterprise.context.RequestScoped;
+
+/**
+ * SQL statements and entity loads of the current HTTP request, grouped by
+ * query shape. Counting starts once the request reaches the JAX-RS filter
+ * chain, so authentication does not skew the numbers.
+ */
+@RequestScoped
+public class RequestStatistics {
+
+    private static final int MAX_SHAPE_LENGTH = 200;
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final Pattern PARAMETER_LIST = Pattern.compile("\\(\\?(,\\s*\\?)+\\)");
+
+    private boolean started;
+    private int statements;
+    private int entityLoads;
+    private final Map<String, Integer> shapes = new HashMap<>();
+
+    /**
+     * Returns the statistics of the current request, or null outside of a
+     * request (scheduled jobs, startup)
+     */
+    static RequestStatistics current() {
+        final var container = Arc.container();
+        if (container == null || !container.requestContext().isActive()) {
+            return null;
+        }
+        final var statistics = container.instance(RequestStatistics.class).get();
+        // Method call, not field access: the instance is a client proxy
+        return statistics.isStarted() ? statistics : null;
+    }
+
+    void start() {
+        this.started = true;
+    }
+
+    boolean isStarted() {
+        return this.started;
+    }
+
+    void statement(final String sql) {
+        this.statements++;
+        this.shapes.merge(shapeOf(sql), 1, Integer::sum);
+    }
+
+    void entityLoad() {
+        this.entityLoads++;
+    }
+
+    public int getStatements() {
+        return this.statements;
+    }
+
+    public int getEntityLoads() {
+        return this.entityLoads;
+    }
+
+    /**
+     * @return the query shapes with their execution counts, most frequent
+     *         first
+     */
+    public Map<String, Integer> getShapes() {
+        final Map<String, Integer> sorted = new LinkedHashMap<>();
+        this.shapes.entrySet().stream()
+                .sorted(Map.Entry.<String, Integer>comparingByValue().reversed())
+                .forEach(entry -> sorted.put(entry.getKey(), entry.getValue()));
+        return sorted;
+    }
+
+    // Helper method to group statements that only differ in their IN list size
+    static String shapeOf(final String sql) {
+        final var shape = PARAMETER_LIST.matcher(WHITESPACE.matcher(sql.trim()).replaceAll(" ")).replaceAll("(?...)");
+        return shape.length() > MAX_SHAPE_LENGTH ? shape.substring(0, MAX_SHAPE_LENGTH) + "..." : shape;
+    }
+}
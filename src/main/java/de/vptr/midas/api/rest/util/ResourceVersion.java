@@ -0,0 +1,47 @@
+package de.vptr.midas.api.rest.util;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.Date;
+
+import jakarta.ws.rs.core.EntityTag;
+
+/**
+ * Identifies the state of a single row without loading it, for conditional
+ * requests. Services select it with a constructor expression.
+ *
+ * @param id           the row ID
+ * @param version      the optimistic lock version, or null if unversioned
+ * @param lastModified the last modification time, or null if unknown
+ */
+public record ResourceVersion(Long id, Long version, LocalDateTime lastModified) {
+
+    public ResourceVersion(final Long id, final LocalDateTime lastModified) {
+        this(id, null, lastModified);
+    }
+
+    public ResourceVersion(final Long id, final Long version) {
+        this(id, version, null);
+    }
+
+    public boolean isKnown() {
+        return this.version != null || this.lastModified != null;
+    }
+
+    // Strong validator, changes with every write to the row
+    public EntityTag entityTag() {
+        if (this.version != null) {
+            return EntityTags.of(this.id, this.version);
+        }
+        return new EntityTag(this.id + "-" + this.lastModified.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli());
+    }
+
+    // HTTP dates have second precision
+    public Date lastModifiedDate() {
+        if (this.lastModified == null) {
+            return null;
+        }
+        return Date.from(this.lastModified.atZone(ZoneId.systemDefault()).toInstant().truncatedTo(ChronoUnit.SECONDS));
+    }
+}
@@ -2,6 +2,7 @@ package de.vptr.midas.api.rest.util;
 
 import java.util.Optional;
 
+import jakarta.ws.rs.core.EntityTag;
 import jakarta.ws.rs.core.Response;
 
 public class ResponseUtil {
@@ -28,6 +29,10 @@ public class ResponseUtil {
         return entity == null ? noContent() : Response.status(Response.Status.OK).entity(entity).build();
     }
 
+    public static <T> Response ok(final T entity, final EntityTag tag) {
+        return entity == null ? noContent() : Response.status(Response.Status.OK).entity(entity).tag(tag).build();
+    }
+
     public static <T> Response okOrNotFound(final Optional<T> entity) {
         return entity.map(Response::ok)
                 .map(Response.ResponseBuilder::build)
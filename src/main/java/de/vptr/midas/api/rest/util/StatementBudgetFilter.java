@@ -0,0 +1,72 @@
+package de.vptr.midas.api.rest.util;
+
+import java.util.stream.Collectors;
+
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import jakarta.inject.Inject;
+import jakarta.ws.rs.container.ContainerRequestContext;
+import jakarta.ws.rs.container.ContainerRequestFilter;
+import jakarta.ws.rs.container.ContainerResponseContext;
+import jakarta.ws.rs.container.ContainerResponseFilter;
+import jakarta.ws.rs.ext.Provider;
+
+/**
+ * Starts counting SQL statements per request and logs requests that exceed
+ * the statement budget together with their query shapes, which makes N+1
+ * patterns (one statement per row of a list) easy to spot.
+ *
+ * Streaming responses (e.g. the payment export) run their queries after this
+ * filter and are only partially counted.
+ */
+@Provider
+public class StatementBudgetFilter implements ContainerRequestFilter, ContainerResponseFilter {
+
+    public static final String STATEMENTS_HEADER = "X-SQL-Statements";
+    public static final String ENTITY_LOADS_HEADER = "X-Entity-Loads";
+
+    private static final Logger LOG = LoggerFactory.getLogger(StatementBudgetFilter.class);
+
+    @ConfigProperty(name = "midas.sql-budget.enabled", defaultValue = "true")
+    boolean enabled;
+
+    @ConfigProperty(name = "midas.sql-budget.max-statements", defaultValue = "25")
+    int maxStatements;
+
+    @ConfigProperty(name = "midas.sql-budget.headers", defaultValue = "false")
+    boolean headers;
+
+    @Inject
+    RequestStatistics statistics;
+
+    @Override
+    public void filter(final ContainerRequestContext requestContext) {
+        if (this.enabled) {
+            this.statistics.start();
+        }
+    }
+
+    @Override
+    public void filter(final ContainerRequestContext requestContext, final ContainerResponseContext responseContext) {
+        if (!this.enabled || !this.statistics.isStarted()) {
+            return;
+        }
+
+        final var statements = this.statistics.getStatements();
+        if (this.headers) {
+            responseContext.getHeaders().putSingle(STATEMENTS_HEADER, statements);
+            responseContext.getHeaders().putSingle(ENTITY_LOADS_HEADER, this.statistics.getEntityLoads());
+        }
+
+        if (statements > this.maxStatements) {
+            LOG.warn("{} {} executed {} SQL statements (budget {}), loaded {} entities:\n{}",
+                    requestContext.getMethod(), requestContext.getUriInfo().getPath(), statements,
+                    this.maxStatements, this.statistics.getEntityLoads(),
+                    this.statistics.getShapes().entrySet().stream()
+                            .map(entry -> String.format("  %4dx %s", entry.getValue(), entry.getKey()))
+                            .collect(Collectors.joining("\n")));
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package de.vptr.midas.api.rest.util;
+
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import io.quarkus.hibernate.orm.PersistenceUnitExtension;
+import jakarta.enterprise.context.ApplicationScoped;
+
+/**
+ * Counts every JDBC statement Hibernate prepares, including lazy loads, into
+ * the statistics of the current request. The SQL is passed through unchanged.
+ */
+@PersistenceUnitExtension
+@ApplicationScoped
+public class StatementCountingInspector implements StatementInspector {
+
+    @ConfigProperty(name = "midas.sql-budget.enabled", defaultValue = "true")
+    boolean enabled;
+
+    @Override
+    public String inspect(final String sql) {
+        if (this.enabled) {
+            final var statistics = RequestStatistics.current();
+            if (statistics != null) {
+                statistics.statement(sql);
+            }
+        }
+        return sql;
+    }
+}
@@ -0,0 +1,32 @@
+package de.vptr.midas.api.rest.util;
+
+import jakarta.transaction.Status;
+import jakarta.transaction.Synchronization;
+import jakarta.transaction.TransactionSynchronizationRegistry;
+
+public class TransactionUtil {
+    private TransactionUtil() {
+    }
+
+    /**
+     * Runs the action once the current transaction has completed, whether it
+     * committed or rolled back, or right away when no transaction is active
+     */
+    public static void afterCompletion(final TransactionSynchronizationRegistry registry, final Runnable action) {
+        if (registry.getTransactionStatus() != Status.STATUS_ACTIVE) {
+            action.run();
+            return;
+        }
+
+        registry.registerInterposedSynchronization(new Synchronization() {
+            @Override
+            public void beforeCompletion() {
+            }
+
+            @Override
+            public void afterCompletion(final int status) {
+                action.run();
+            }
+        });
+    }
+}
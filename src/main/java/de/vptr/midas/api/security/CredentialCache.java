@@ -0,0 +1,156 @@
+package de.vptr.midas.api.security;
+
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import jakarta.enterprise.context.ApplicationScoped;
+
+/**
+ * Bounded, TTL-evicting cache of successful password verifications.
+ *
+ * Entries never hold the plain text password. Instead the supplied password is
+ * digested with HMAC-SHA256 using a secret that only lives in this process, so
+ * a cache hit costs one HMAC instead of a full PBKDF2 derivation.
+ */
+@ApplicationScoped
+public class CredentialCache {
+
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
+    private static final int SECRET_LENGTH = 32; // 32 bytes = 256 bits
+    private static final int EVICTION_BATCH_DIVISOR = 10; // drop 10% of max size once full
+
+    @ConfigProperty(name = "midas.security.credential-cache.enabled", defaultValue = "true")
+    boolean enabled;
+
+    @ConfigProperty(name = "midas.security.credential-cache.ttl", defaultValue = "5m")
+    Duration ttl;
+
+    @ConfigProperty(name = "midas.security.credential-cache.max-size", defaultValue = "10000")
+    int maxSize;
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+    private final SecretKeySpec secret;
+
+    private final ThreadLocal<Mac> macs = ThreadLocal.withInitial(this::createMac);
+
+    public CredentialCache() {
+        final var key = new byte[SECRET_LENGTH];
+        new SecureRandom().nextBytes(key);
+        this.secret = new SecretKeySpec(key, HMAC_ALGORITHM);
+    }
+
+    /**
+     * Checks whether the given password has recently been verified for the user
+     *
+     * @param username   the username
+     * @param password   the plain text password supplied by the client
+     * @param storedHash the password hash currently stored for the user
+     * @return true if a live entry matches both the password and the stored hash
+     */
+    public boolean isVerified(final String username, final String password, final String storedHash) {
+        if (!this.enabled || username == null || password == null || storedHash == null) {
+            return false;
+        }
+
+        final var entry = this.entries.get(username);
+        if (entry == null) {
+            return false;
+        }
+
+        if (entry.expiresAt < System.nanoTime()) {
+            this.entries.remove(username, entry);
+            return false;
+        }
+
+        return entry.storedHash.equals(storedHash) && MessageDigest.isEqual(entry.digest, this.digest(password));
+    }
+
+    /**
+     * Remembers a successful verification
+     *
+     * @param username   the username
+     * @param password   the plain text password that was verified
+     * @param storedHash the password hash it was verified against
+     */
+    public void put(final String username, final String password, final String storedHash) {
+        if (!this.enabled || username == null || password == null || storedHash == null) {
+            return;
+        }
+
+        if (this.entries.size() >= this.maxSize && !this.entries.containsKey(username)) {
+            this.evict();
+        }
+
+        this.entries.put(username, new Entry(this.digest(password), storedHash, System.nanoTime() + this.ttl.toNanos()));
+    }
+
+    /**
+     * Drops the cached verification of a user, e.g. after a password change or ban
+     *
+     * @param username the username
+     */
+    public void invalidate(final String username) {
+        if (username != null) {
+            this.entries.remove(username);
+        }
+    }
+
+    public void invalidateAll() {
+        this.entries.clear();
+    }
+
+    public int size() {
+        return this.entries.size();
+    }
+
+    private void evict() {
+        final var now = System.nanoTime();
+        this.entries.values().removeIf(entry -> entry.expiresAt < now);
+        if (this.entries.size() < this.maxSize) {
+            return;
+        }
+
+        // Still full: drop the batch closest to expiry in one scan, so the following puts do not scan again
+        final var batch = Math.max(1, this.maxSize / EVICTION_BATCH_DIVISOR);
+        final var oldest = new PriorityQueue<Map.Entry<String, Entry>>(batch + 1,
+                Comparator.comparingLong((final Map.Entry<String, Entry> candidate) -> candidate.getValue().expiresAt)
+                        .reversed());
+        for (final var candidate : this.entries.entrySet()) {
+            oldest.offer(candidate);
+            if (oldest.size() > batch) {
+                oldest.poll();
+            }
+        }
+        oldest.forEach(candidate -> this.entries.remove(candidate.getKey(), candidate.getValue()));
+    }
+
+    private byte[] digest(final String password) {
+        return this.macs.get().doFinal(password.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private Mac createMac() {
+        try {
+            final var mac = Mac.getInstance(HMAC_ALGORITHM);
+            mac.init(this.secret);
+            return mac;
+        } catch (final GeneralSecurityException e) {
+            throw new IllegalStateException("Failed to initialize " + HMAC_ALGORITHM, e);
+        }
+    }
+
+    private record Entry(byte[] digest, String storedHash, long expiresAt) {
+    }
+}
@@ -0,0 +1,41 @@
+package de.vptr.midas.api.security;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.eclipse.microprofile.context.ManagedExecutor;
+
+import io.quarkus.virtual.threads.VirtualThreads;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+/**
+ * Executor for blocking identity work (credential checks, rank lookups).
+ *
+ * Runs on virtual threads when {@code midas.threads.virtual} is enabled and on
+ * the shared worker pool otherwise, so bursts of authentications don't
+ * saturate the platform worker threads.
+ */
+@ApplicationScoped
+public class IdentityExecutor implements Executor {
+
+    @ConfigProperty(name = "midas.threads.virtual", defaultValue = "false")
+    boolean virtualThreads;
+
+    @Inject
+    ManagedExecutor managedExecutor;
+
+    @Inject
+    @VirtualThreads
+    ExecutorService virtualThreadExecutor;
+
+    @Override
+    public void execute(final Runnable command) {
+        if (this.virtualThreads) {
+            this.virtualThreadExecutor.execute(command);
+        } else {
+            this.managedExecutor.execute(command);
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package de.vptr.midas.api.security;
+
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.sql.DataSource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.quarkus.scheduler.Scheduled;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+/**
+ * Write-behind recorder for {@code users.last_login}.
+ *
+ * Logins are coalesced per user in memory (the latest timestamp wins) and
+ * written in one batched statement per flush interval, so authenticated read
+ * traffic no longer turns into a write transaction on the users table.
+ */
+@ApplicationScoped
+public class LastLoginRecorder {
+
+    private static final Logger LOG = LoggerFactory.getLogger(LastLoginRecorder.class);
+
+    private static final String UPDATE_SQL = "UPDATE users SET last_login = ? WHERE id = ?";
+
+    private final Map<Long, LocalDateTime> pending = new ConcurrentHashMap<>();
+
+    private volatile Instant lastRun = Instant.now();
+
+    @Inject
+    DataSource dataSource;
+
+    /**
+     * Records a login; only the latest login per user and interval is written
+     *
+     * @param userId    the user ID
+     * @param lastLogin the login timestamp
+     */
+    public void record(final Long userId, final LocalDateTime lastLogin) {
+        if (userId != null && lastLogin != null) {
+            this.pending.merge(userId, lastLogin, (a, b) -> a.isAfter(b) ? a : b);
+        }
+    }
+
+    @Scheduled(every = "${midas.security.last-login.flush-interval:30s}",
+            concurrentExecution = Scheduled.ConcurrentExecution.SKIP)
+    void scheduledFlush() {
+        this.flush();
+    }
+
+    /**
+     * Writes all pending logins in a single batched statement
+     *
+     * @return the number of users written
+     */
+    public synchronized int flush() {
+        this.lastRun = Instant.now();
+        if (this.pending.isEmpty()) {
+            return 0;
+        }
+
+        // Drain entry by entry so logins recorded meanwhile stay pending
+        final Map<Long, LocalDateTime> batch = new HashMap<>();
+        for (final var userId : this.pending.keySet()) {
+            final var lastLogin = this.pending.remove(userId);
+            if (lastLogin != null) {
+                batch.put(userId, lastLogin);
+            }
+        }
+
+        try (var connection = this.dataSource.getConnection();
+                var statement = connection.prepareStatement(UPDATE_SQL)) {
+            for (final var entry : batch.entrySet()) {
+                statement.setTimestamp(1, Timestamp.valueOf(entry.getValue()));
+                statement.setLong(2, entry.getKey());
+                statement.addBatch();
+            }
+            statement.executeBatch();
+        } catch (final SQLException e) {
+            LOG.warn("Failed to flush {} last login timestamp(s), will retry", batch.size(), e);
+            batch.forEach((userId, lastLogin) -> this.record(userId, lastLogin));
+            return 0;
+        }
+
+        LOG.debug("Flushed {} last login timestamp(s)", batch.size());
+        return batch.size();
+    }
+
+    public int getPendingCount() {
+        return this.pending.size();
+    }
+
+    /**
+     * @return when the last flush ran (successful, failed or with nothing to
+     *         write), or startup time if none has run yet
+     */
+    public Instant getLastRun() {
+        return this.lastRun;
+    }
+}
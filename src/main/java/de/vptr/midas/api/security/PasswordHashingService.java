@@ -8,6 +8,7 @@ import java.util.Base64;
 import javax.crypto.SecretKeyFactory;
 import javax.crypto.spec.PBEKeySpec;
 
+import io.micrometer.core.annotation.Timed;
 import jakarta.enterprise.context.ApplicationScoped;
 
 @ApplicationScoped
@@ -36,6 +37,7 @@ public class PasswordHashingService {
      * @param salt     the salt as a Base64 encoded string
      * @return the hashed password as a Base64 encoded string
      */
+    @Timed(value = "midas.security.password.hash", description = "PBKDF2 password hashing")
     public String hashPassword(final String password, final String salt)
             throws NoSuchAlgorithmException, InvalidKeySpecException {
         final var saltBytes = Base64.getDecoder().decode(salt);
@@ -0,0 +1,184 @@
+package de.vptr.midas.api.security;
+
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import de.vptr.midas.api.rest.entity.UserRankEntity;
+import de.vptr.midas.api.rest.util.TransactionUtil;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.transaction.TransactionSynchronizationRegistry;
+
+/**
+ * In-memory rank permission table.
+ *
+ * Each rank's 24 permission columns are encoded as a bitmask and mapped to a
+ * shared, immutable role set, while a username to rank id map lets warm users
+ * be augmented without touching the database. Write paths invalidate entries
+ * immediately and again after their transaction completes, so a concurrent
+ * reader cannot re-populate stale data from an uncommitted state. Each
+ * invalidation also bumps a generation counter; a lookup that started before
+ * it is not kept, so roles read before a rank change cannot outlive it.
+ */
+@ApplicationScoped
+public class RankPermissionCache {
+
+    /**
+     * Role names in bit order. String literals are interned by the JVM, so all
+     * role sets share the same instances.
+     */
+    static final String[] ROLES = {
+            "page:add", "page:delete", "page:edit",
+            "post:add", "post:delete", "post:edit",
+            "post-category:add", "post-category:delete", "post-category:edit",
+            "post-comment:add", "post-comment:delete", "post-comment:edit",
+            "user:add", "user:delete", "user:edit",
+            "user-group:add", "user-group:delete", "user-group:edit",
+            "user-account:add", "user-account:delete", "user-account:edit",
+            "user-rank:add", "user-rank:delete", "user-rank:edit"
+    };
+
+    private final Map<Long, RankPermissions> ranks = new ConcurrentHashMap<>();
+
+    private final Map<String, Long> userRanks = new ConcurrentHashMap<>();
+
+    private final Map<Integer, Set<String>> roleSets = new ConcurrentHashMap<>();
+
+    private final AtomicLong generation = new AtomicLong();
+
+    @Inject
+    TransactionSynchronizationRegistry transactionSynchronizationRegistry;
+
+    /**
+     * Encodes the permission columns of a rank as a bitmask (bit i = ROLES[i])
+     */
+    static int maskOf(final UserRankEntity rank) {
+        final Boolean[] permissions = {
+                rank.pageAdd, rank.pageDelete, rank.pageEdit,
+                rank.postAdd, rank.postDelete, rank.postEdit,
+                rank.postCategoryAdd, rank.postCategoryDelete, rank.postCategoryEdit,
+                rank.postCommentAdd, rank.postCommentDelete, rank.postCommentEdit,
+                rank.userAdd, rank.userDelete, rank.userEdit,
+                rank.userGroupAdd, rank.userGroupDelete, rank.userGroupEdit,
+                rank.userAccountAdd, rank.userAccountDelete, rank.userAccountEdit,
+                rank.userRankAdd, rank.userRankDelete, rank.userRankEdit
+        };
+
+        var mask = 0;
+        for (var i = 0; i < permissions.length; i++) {
+            if (Boolean.TRUE.equals(permissions[i])) {
+                mask |= 1 << i;
+            }
+        }
+        return mask;
+    }
+
+    /**
+     * Returns the shared, immutable role set for a permission bitmask
+     */
+    Set<String> rolesOf(final int mask) {
+        return this.roleSets.computeIfAbsent(mask, m -> {
+            final Set<String> roles = new LinkedHashSet<>();
+            for (var i = 0; i < ROLES.length; i++) {
+                if ((m & (1 << i)) != 0) {
+                    roles.add(ROLES[i]);
+                }
+            }
+            return Set.copyOf(roles);
+        });
+    }
+
+    /**
+     * Looks up the roles of a user without touching the database
+     *
+     * @param username the username
+     * @return the roles, or null if the user or their rank is not cached
+     */
+    public Set<String> findRoles(final String username) {
+        final var rankId = this.userRanks.get(username);
+        if (rankId == null) {
+            return null;
+        }
+
+        final var permissions = this.ranks.get(rankId);
+        return permissions != null ? permissions.roles() : null;
+    }
+
+    /**
+     * Returns the current generation; read it before loading a rank from the
+     * database and pass it to {@link #remember}
+     */
+    public long generation() {
+        return this.generation.get();
+    }
+
+    /**
+     * Caches the rank of a user and returns the corresponding roles
+     *
+     * @param username           the username
+     * @param rank               the (managed) rank of the user
+     * @param expectedGeneration the generation read before the rank was loaded
+     * @return the roles granted by the rank
+     */
+    public Set<String> remember(final String username, final UserRankEntity rank, final long expectedGeneration) {
+        final var mask = maskOf(rank);
+        final var permissions = new RankPermissions(mask, this.rolesOf(mask));
+
+        if (rank.id == null || this.generation.get() != expectedGeneration) {
+            return permissions.roles();
+        }
+
+        this.ranks.put(rank.id, permissions);
+        this.userRanks.put(username, rank.id);
+
+        // An invalidation that ran meanwhile may have missed the entries put above
+        if (this.generation.get() != expectedGeneration) {
+            this.ranks.remove(rank.id, permissions);
+            this.userRanks.remove(username, rank.id);
+        }
+
+        return permissions.roles();
+    }
+
+    public void invalidateRank(final Long rankId) {
+        if (rankId == null) {
+            return;
+        }
+        this.evictRank(rankId);
+        TransactionUtil.afterCompletion(this.transactionSynchronizationRegistry, () -> this.evictRank(rankId));
+    }
+
+    public void invalidateUser(final String username) {
+        if (username == null) {
+            return;
+        }
+        this.evictUser(username);
+        TransactionUtil.afterCompletion(this.transactionSynchronizationRegistry, () -> this.evictUser(username));
+    }
+
+    public void invalidateAll() {
+        this.generation.incrementAndGet();
+        this.ranks.clear();
+        this.userRanks.clear();
+    }
+
+    public int size() {
+        return this.userRanks.size();
+    }
+
+    private void evictRank(final Long rankId) {
+        this.generation.incrementAndGet();
+        this.ranks.remove(rankId);
+    }
+
+    private void evictUser(final String username) {
+        this.generation.incrementAndGet();
+        this.userRanks.remove(username);
+    }
+
+    private record RankPermissions(int mask, Set<String> roles) {
+    }
+}
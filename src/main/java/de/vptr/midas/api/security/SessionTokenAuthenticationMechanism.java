@@ -0,0 +1,50 @@
+package de.vptr.midas.api.security;
+
+import java.util.Set;
+
+import io.quarkus.security.credential.TokenCredential;
+import io.quarkus.security.identity.IdentityProviderManager;
+import io.quarkus.security.identity.SecurityIdentity;
+import io.quarkus.security.identity.request.AuthenticationRequest;
+import io.quarkus.security.identity.request.TokenAuthenticationRequest;
+import io.quarkus.vertx.http.runtime.security.ChallengeData;
+import io.quarkus.vertx.http.runtime.security.HttpAuthenticationMechanism;
+import io.smallrye.mutiny.Uni;
+import io.vertx.ext.web.RoutingContext;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.ws.rs.core.HttpHeaders;
+
+/**
+ * Extracts session tokens from {@code Authorization: Bearer <token>} headers.
+ * Requests without a bearer token are left to the Basic mechanism.
+ */
+@ApplicationScoped
+public class SessionTokenAuthenticationMechanism implements HttpAuthenticationMechanism {
+
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    @Override
+    public Uni<SecurityIdentity> authenticate(final RoutingContext context,
+            final IdentityProviderManager identityProviderManager) {
+        final var header = context.request().getHeader(HttpHeaders.AUTHORIZATION);
+
+        if (header == null || !header.regionMatches(true, 0, BEARER_PREFIX, 0, BEARER_PREFIX.length())) {
+            return Uni.createFrom().nullItem();
+        }
+
+        final var token = header.substring(BEARER_PREFIX.length()).trim();
+        return identityProviderManager.authenticate(
+                new TokenAuthenticationRequest(new TokenCredential(token, "bearer")));
+    }
+
+    @Override
+    public Uni<ChallengeData> getChallenge(final RoutingContext context) {
+        // Let the Basic mechanism send its challenge
+        return Uni.createFrom().nullItem();
+    }
+
+    @Override
+    public Set<Class<? extends AuthenticationRequest>> getCredentialTypes() {
+        return Set.of(TokenAuthenticationRequest.class);
+    }
+}
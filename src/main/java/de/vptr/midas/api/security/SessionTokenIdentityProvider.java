@@ -0,0 +1,47 @@
+package de.vptr.midas.api.security;
+
+import io.quarkus.security.AuthenticationFailedException;
+import io.quarkus.security.identity.AuthenticationRequestContext;
+import io.quarkus.security.identity.IdentityProvider;
+import io.quarkus.security.identity.SecurityIdentity;
+import io.quarkus.security.identity.request.TokenAuthenticationRequest;
+import io.quarkus.security.runtime.QuarkusPrincipal;
+import io.quarkus.security.runtime.QuarkusSecurityIdentity;
+import io.smallrye.mutiny.Uni;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+@ApplicationScoped
+public class SessionTokenIdentityProvider implements IdentityProvider<TokenAuthenticationRequest> {
+
+    @Inject
+    SessionTokenService sessionTokenService;
+
+    @Override
+    public Class<TokenAuthenticationRequest> getRequestType() {
+        return TokenAuthenticationRequest.class;
+    }
+
+    @Override
+    public Uni<SecurityIdentity> authenticate(final TokenAuthenticationRequest request,
+            final AuthenticationRequestContext context) {
+
+        // Signature and expiry checks are cheap and non-blocking, no need to hop threads
+        return Uni.createFrom().item(() -> this.authenticateToken(request.getToken().getToken()));
+    }
+
+    SecurityIdentity authenticateToken(final String token) {
+        final var claims = this.sessionTokenService.verify(token)
+                .orElseThrow(() -> new AuthenticationFailedException("Invalid session token"));
+
+        final var builder = QuarkusSecurityIdentity.builder()
+                .setPrincipal(new QuarkusPrincipal(claims.sub()))
+                .addAttribute(SessionTokenService.TOKEN_ATTRIBUTE, Boolean.TRUE);
+
+        if (claims.roles() != null) {
+            builder.addRoles(claims.roles());
+        }
+
+        return builder.build();
+    }
+}
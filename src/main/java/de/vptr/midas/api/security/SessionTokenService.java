@@ -0,0 +1,148 @@
+package de.vptr.midas.api.security;
+
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Optional;
+import java.util.Set;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+/**
+ * Issues and validates self-contained, HMAC-signed session tokens.
+ *
+ * A token has the form {@code base64url(claims).base64url(signature)} and
+ * carries the username, the role set and the expiry, so validating it needs
+ * no database round trip. Role or ban changes therefore only take effect once
+ * the token expires; keep the TTL short.
+ */
+@ApplicationScoped
+public class SessionTokenService {
+
+    /**
+     * Identity attribute marking identities that were built from a session token
+     */
+    public static final String TOKEN_ATTRIBUTE = "midas.session-token";
+
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
+    private static final int SECRET_LENGTH = 32; // 32 bytes = 256 bits
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    @ConfigProperty(name = "midas.security.session-token.ttl", defaultValue = "1h")
+    Duration ttl;
+
+    /**
+     * Shared signing secret (Base64). Must be set when running more than one
+     * replica; otherwise a random per-process secret is used.
+     */
+    @ConfigProperty(name = "midas.security.session-token.secret")
+    Optional<String> configuredSecret;
+
+    @Inject
+    ObjectMapper objectMapper;
+
+    private SecretKeySpec secret;
+
+    private final ThreadLocal<Mac> macs = ThreadLocal.withInitial(this::createMac);
+
+    @PostConstruct
+    void init() {
+        final byte[] key;
+        if (this.configuredSecret.isPresent() && !this.configuredSecret.get().isBlank()) {
+            key = Base64.getDecoder().decode(this.configuredSecret.get());
+        } else {
+            key = new byte[SECRET_LENGTH];
+            new SecureRandom().nextBytes(key);
+        }
+        this.secret = new SecretKeySpec(key, HMAC_ALGORITHM);
+    }
+
+    /**
+     * Issues a signed token for the given user
+     *
+     * @param username the username
+     * @param roles    the roles granted to the user
+     * @return the issued token
+     */
+    public SessionToken issue(final String username, final Set<String> roles) {
+        final var expiresAt = Instant.now().plus(this.ttl).getEpochSecond();
+        final var claims = new Claims(username, Set.copyOf(roles), expiresAt);
+
+        try {
+            final var payload = ENCODER.encodeToString(this.objectMapper.writeValueAsBytes(claims));
+            final var signature = ENCODER.encodeToString(this.sign(payload));
+            return new SessionToken(payload + "." + signature, expiresAt);
+        } catch (final Exception e) {
+            throw new IllegalStateException("Failed to issue session token", e);
+        }
+    }
+
+    /**
+     * Validates a token's signature and expiry
+     *
+     * @param token the token as sent by the client
+     * @return the claims if the token is valid, empty otherwise
+     */
+    public Optional<Claims> verify(final String token) {
+        if (token == null || token.isEmpty()) {
+            return Optional.empty();
+        }
+
+        final var separator = token.indexOf('.');
+        if (separator <= 0 || separator == token.length() - 1) {
+            return Optional.empty();
+        }
+
+        final var payload = token.substring(0, separator);
+
+        try {
+            final var signature = DECODER.decode(token.substring(separator + 1));
+            if (!MessageDigest.isEqual(signature, this.sign(payload))) {
+                return Optional.empty();
+            }
+
+            final var claims = this.objectMapper.readValue(DECODER.decode(payload), Claims.class);
+            if (claims.sub() == null || claims.exp() < Instant.now().getEpochSecond()) {
+                return Optional.empty();
+            }
+            return Optional.of(claims);
+        } catch (final Exception e) {
+            return Optional.empty();
+        }
+    }
+
+    private byte[] sign(final String payload) {
+        return this.macs.get().doFinal(payload.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    private Mac createMac() {
+        try {
+            final var mac = Mac.getInstance(HMAC_ALGORITHM);
+            mac.init(this.secret);
+            return mac;
+        } catch (final GeneralSecurityException e) {
+            throw new IllegalStateException("Failed to initialize " + HMAC_ALGORITHM, e);
+        }
+    }
+
+    public record Claims(String sub, Set<String> roles, long exp) {
+    }
+
+    public record SessionToken(String token, long expiresAt) {
+    }
+}
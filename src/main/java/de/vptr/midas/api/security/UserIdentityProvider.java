@@ -2,9 +2,8 @@ package de.vptr.midas.api.security;
 
 import java.time.LocalDateTime;
 
-import org.eclipse.microprofile.context.ManagedExecutor;
-
 import de.vptr.midas.api.rest.entity.UserEntity;
+import io.micrometer.core.annotation.Timed;
 import io.quarkus.security.AuthenticationFailedException;
 import io.quarkus.security.identity.AuthenticationRequestContext;
 import io.quarkus.security.identity.IdentityProvider;
@@ -15,21 +14,23 @@ import io.quarkus.security.runtime.QuarkusSecurityIdentity;
 import io.smallrye.mutiny.Uni;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
-import jakarta.persistence.EntityManager;
 import jakarta.transaction.Transactional;
 
 @ApplicationScoped
 public class UserIdentityProvider implements IdentityProvider<UsernamePasswordAuthenticationRequest> {
 
     @Inject
-    ManagedExecutor executor;
+    IdentityExecutor executor;
 
     @Inject
-    EntityManager entityManager;
+    LastLoginRecorder lastLoginRecorder;
 
     @Inject
     PasswordHashingService passwordHashingService;
 
+    @Inject
+    CredentialCache credentialCache;
+
     @Override
     public Class<UsernamePasswordAuthenticationRequest> getRequestType() {
         return UsernamePasswordAuthenticationRequest.class;
@@ -45,14 +46,22 @@ public class UserIdentityProvider implements IdentityProvider<UsernamePasswordAu
         return Uni.createFrom().item(() -> this.authenticateUser(username, password)).runSubscriptionOn(this.executor);
     }
 
+    @Timed(value = "midas.security.authenticate", description = "Username/password authentication")
     @Transactional
     SecurityIdentity authenticateUser(final String username, final String password) {
         final UserEntity user = UserEntity.find("username = ?1", username).firstResult();
 
-        if (user == null || !this.passwordHashingService.verifyPassword(password, user.password, user.salt)) {
+        if (user == null) {
             throw new AuthenticationFailedException("Invalid credentials");
         }
 
+        if (!this.credentialCache.isVerified(username, password, user.password)) {
+            if (!this.passwordHashingService.verifyPassword(password, user.password, user.salt)) {
+                throw new AuthenticationFailedException("Invalid credentials");
+            }
+            this.credentialCache.put(username, password, user.password);
+        }
+
         if (user.banned) {
             throw new AuthenticationFailedException("User is banned");
         }
@@ -61,11 +70,8 @@ public class UserIdentityProvider implements IdentityProvider<UsernamePasswordAu
             throw new AuthenticationFailedException("User is not activated");
         }
 
-        // Update lastLogin without triggering validation
-        this.entityManager.createQuery("UPDATE UserEntity u SET u.lastLogin = :now WHERE u.id = :id")
-                .setParameter("now", LocalDateTime.now())
-                .setParameter("id", user.id)
-                .executeUpdate();
+        // Written behind in batches, so read traffic doesn't lock the users row
+        this.lastLoginRecorder.record(user.id, LocalDateTime.now());
 
         return QuarkusSecurityIdentity.builder()
                 .setPrincipal(new QuarkusPrincipal(username))
@@ -1,12 +1,10 @@
 package de.vptr.midas.api.security;
 
-import java.util.HashSet;
 import java.util.Set;
 
-import org.eclipse.microprofile.context.ManagedExecutor;
-
 import de.vptr.midas.api.rest.entity.UserEntity;
 import de.vptr.midas.api.rest.entity.UserRankEntity;
+import io.micrometer.core.annotation.Timed;
 import io.quarkus.security.identity.AuthenticationRequestContext;
 import io.quarkus.security.identity.SecurityIdentity;
 import io.quarkus.security.identity.SecurityIdentityAugmentor;
@@ -20,101 +18,56 @@ import jakarta.transaction.Transactional;
 public class UserRankIdentityAugmentor implements SecurityIdentityAugmentor {
 
     @Inject
-    ManagedExecutor executor;
+    IdentityExecutor executor;
+
+    @Inject
+    RankPermissionCache rankPermissionCache;
 
     @Override
     public Uni<SecurityIdentity> augment(final SecurityIdentity identity, final AuthenticationRequestContext context) {
-        if (identity.isAnonymous()) {
+        // Session token identities already carry their roles
+        if (identity.isAnonymous() || identity.getAttribute(SessionTokenService.TOKEN_ATTRIBUTE) != null) {
             return Uni.createFrom().item(identity);
         }
 
         final var username = identity.getPrincipal().getName();
 
+        // Warm users are served from memory, without a transaction or thread hop
+        final var cachedRoles = this.rankPermissionCache.findRoles(username);
+        if (cachedRoles != null) {
+            return Uni.createFrom().item(this.withRoles(identity, cachedRoles));
+        }
+
         return Uni.createFrom().item(() -> this.augmentIdentity(identity, username)).runSubscriptionOn(this.executor);
     }
 
+    @Timed(value = "midas.security.augment", description = "Rank role lookup for identities not in the cache")
     @Transactional
     SecurityIdentity augmentIdentity(final SecurityIdentity identity, final String username) {
+        final var cachedRoles = this.rankPermissionCache.findRoles(username);
+        if (cachedRoles != null) {
+            return this.withRoles(identity, cachedRoles);
+        }
+
+        final var expectedGeneration = this.rankPermissionCache.generation();
         final UserEntity user = UserEntity.find("username", username).firstResult();
 
         if (user == null || user.rank == null) {
             return identity;
         }
 
-        final Set<String> roles = this.buildRolesFromUserRank(user.rank);
+        final Set<String> roles = this.rankPermissionCache.remember(username, user.rank, expectedGeneration);
 
-        return QuarkusSecurityIdentity.builder(identity)
-                .addRoles(roles)
-                .build();
+        return this.withRoles(identity, roles);
     }
 
     Set<String> buildRolesFromUserRank(final UserRankEntity rank) {
-        final Set<String> roles = new HashSet<>();
-
-        // Page permissions
-        if (Boolean.TRUE.equals(rank.pageAdd))
-            roles.add("page:add");
-        if (Boolean.TRUE.equals(rank.pageDelete))
-            roles.add("page:delete");
-        if (Boolean.TRUE.equals(rank.pageEdit))
-            roles.add("page:edit");
-
-        // Post permissions
-        if (Boolean.TRUE.equals(rank.postAdd))
-            roles.add("post:add");
-        if (Boolean.TRUE.equals(rank.postDelete))
-            roles.add("post:delete");
-        if (Boolean.TRUE.equals(rank.postEdit))
-            roles.add("post:edit");
-
-        // Post category permissions
-        if (Boolean.TRUE.equals(rank.postCategoryAdd))
-            roles.add("post-category:add");
-        if (Boolean.TRUE.equals(rank.postCategoryDelete))
-            roles.add("post-category:delete");
-        if (Boolean.TRUE.equals(rank.postCategoryEdit))
-            roles.add("post-category:edit");
-
-        // Post comment permissions
-        if (Boolean.TRUE.equals(rank.postCommentAdd))
-            roles.add("post-comment:add");
-        if (Boolean.TRUE.equals(rank.postCommentDelete))
-            roles.add("post-comment:delete");
-        if (Boolean.TRUE.equals(rank.postCommentEdit))
-            roles.add("post-comment:edit");
-
-        // User permissions
-        if (Boolean.TRUE.equals(rank.userAdd))
-            roles.add("user:add");
-        if (Boolean.TRUE.equals(rank.userDelete))
-            roles.add("user:delete");
-        if (Boolean.TRUE.equals(rank.userEdit))
-            roles.add("user:edit");
-
-        // User group permissions
-        if (Boolean.TRUE.equals(rank.userGroupAdd))
-            roles.add("user-group:add");
-        if (Boolean.TRUE.equals(rank.userGroupDelete))
-            roles.add("user-group:delete");
-        if (Boolean.TRUE.equals(rank.userGroupEdit))
-            roles.add("user-group:edit");
-
-        // User account permissions
-        if (Boolean.TRUE.equals(rank.userAccountAdd))
-            roles.add("user-account:add");
-        if (Boolean.TRUE.equals(rank.userAccountDelete))
-            roles.add("user-account:delete");
-        if (Boolean.TRUE.equals(rank.userAccountEdit))
-            roles.add("user-account:edit");
-
-        // User rank permissions
-        if (Boolean.TRUE.equals(rank.userRankAdd))
-            roles.add("user-rank:add");
-        if (Boolean.TRUE.equals(rank.userRankDelete))
-            roles.add("user-rank:delete");
-        if (Boolean.TRUE.equals(rank.userRankEdit))
-            roles.add("user-rank:edit");
-
-        return roles;
+        return this.rankPermissionCache.rolesOf(RankPermissionCache.maskOf(rank));
+    }
+
+    private SecurityIdentity withRoles(final SecurityIdentity identity, final Set<String> roles) {
+        return QuarkusSecurityIdentity.builder(identity)
+                .addRoles(roles)
+                .build();
     }
 }
@@ -16,7 +16,8 @@ SET time_zone = "+00:00";
 CREATE TABLE `pages` (
   `id` bigint UNSIGNED NOT NULL,
   `title` varchar(255) NOT NULL,
-  `content` longtext NOT NULL
+  `content` longtext NOT NULL,
+  `last_edit` datetime DEFAULT NULL ON UPDATE current_timestamp()
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
 
 --
@@ -38,7 +39,9 @@ CREATE TABLE `posts` (
   `published` tinyint(1) NOT NULL DEFAULT 0,
   `commentable` tinyint(1) NOT NULL DEFAULT 0,
   `created` datetime NOT NULL DEFAULT current_timestamp(),
-  `last_edit` datetime DEFAULT NULL ON UPDATE current_timestamp()
+  `last_edit` datetime DEFAULT NULL ON UPDATE current_timestamp(),
+  `comment_count` int NOT NULL DEFAULT 0,
+  `version` bigint NOT NULL DEFAULT 0
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
 
 --
@@ -107,7 +110,9 @@ CREATE TABLE `users` (
   `activation_key` varchar(255) COLLATE utf8mb4_unicode_ci DEFAULT NULL,
   `last_ip` varchar(45) COLLATE utf8mb4_unicode_ci DEFAULT NULL,
   `created` datetime NOT NULL DEFAULT current_timestamp(),
-  `last_login` datetime NOT NULL DEFAULT current_timestamp()
+  `last_login` datetime NOT NULL DEFAULT current_timestamp(),
+  `post_count` int NOT NULL DEFAULT 0,
+  `comment_count` int NOT NULL DEFAULT 0
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
 
 --
@@ -136,7 +141,10 @@ INSERT INTO `users` (`id`, `username`, `password`, `salt`, `rank_id`, `activated
 
 CREATE TABLE `user_accounts` (
   `id` bigint UNSIGNED NOT NULL,
-  `name` varchar(255) NOT NULL
+  `name` varchar(255) NOT NULL,
+  `balance` decimal(15,2) NOT NULL DEFAULT 0.00,
+  `user_count` int NOT NULL DEFAULT 0,
+  `version` bigint NOT NULL DEFAULT 0
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
 
 --
@@ -172,7 +180,8 @@ CREATE TABLE `user_accounts_meta` (
 
 CREATE TABLE `user_groups` (
   `id` bigint UNSIGNED NOT NULL,
-  `name` varchar(255) NOT NULL
+  `name` varchar(255) NOT NULL,
+  `user_count` int NOT NULL DEFAULT 0
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
 
 --
@@ -202,12 +211,18 @@ CREATE TABLE `user_groups_meta` (
 
 -- --------------------------------------------------------
 
+--
+-- Sequence for table `user_payments` (allocated by Hibernate in pooled blocks of 50)
+--
+
+CREATE SEQUENCE `user_payments_seq` START WITH 1 INCREMENT BY 50;
+
 --
 -- Structure for table `user_payments`
 --
 
 CREATE TABLE `user_payments` (
-  `id` bigint UNSIGNED NOT NULL,
+  `id` bigint UNSIGNED NOT NULL DEFAULT nextval(`user_payments_seq`),
   `target_id` bigint UNSIGNED DEFAULT NULL,
   `source_id` bigint UNSIGNED DEFAULT NULL,
   `user_id` bigint UNSIGNED,
@@ -215,7 +230,8 @@ CREATE TABLE `user_payments` (
   `date` date NOT NULL DEFAULT curdate(),
   `amount` decimal(15,2) NOT NULL DEFAULT 0.00,
   `created` datetime NOT NULL DEFAULT current_timestamp(),
-  `last_edit` datetime DEFAULT NULL ON UPDATE current_timestamp()
+  `last_edit` datetime DEFAULT NULL ON UPDATE current_timestamp(),
+  `version` bigint NOT NULL DEFAULT 0
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
 
 --
@@ -260,7 +276,8 @@ CREATE TABLE `user_ranks` (
   `user_account_edit` tinyint(1) NOT NULL DEFAULT 0,
   `user_rank_add` tinyint(1) NOT NULL DEFAULT 0,
   `user_rank_delete` tinyint(1) NOT NULL DEFAULT 0,
-  `user_rank_edit` tinyint(1) NOT NULL DEFAULT 0
+  `user_rank_edit` tinyint(1) NOT NULL DEFAULT 0,
+  `version` bigint NOT NULL DEFAULT 0
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
 
 --
@@ -424,12 +441,6 @@ ALTER TABLE `user_groups`
 ALTER TABLE `user_groups_meta`
   MODIFY `id` bigint UNSIGNED NOT NULL AUTO_INCREMENT;
 
---
--- AUTO_INCREMENT for table `user_payments`
---
-ALTER TABLE `user_payments`
-  MODIFY `id` bigint UNSIGNED NOT NULL AUTO_INCREMENT;
-
 --
 -- AUTO_INCREMENT for table `user_ranks`
 --
@@ -4,7 +4,8 @@ SET timezone = 'UTC';
 CREATE TABLE pages (
     id BIGSERIAL PRIMARY KEY,
     title VARCHAR(255) NOT NULL,
-    content TEXT NOT NULL
+    content TEXT NOT NULL,
+    last_edit TIMESTAMP
 );
 
 -- Full-text search index for pages content
@@ -37,7 +38,8 @@ CREATE TABLE user_ranks (
     user_account_edit BOOLEAN NOT NULL DEFAULT FALSE,
     user_rank_add BOOLEAN NOT NULL DEFAULT FALSE,
     user_rank_delete BOOLEAN NOT NULL DEFAULT FALSE,
-    user_rank_edit BOOLEAN NOT NULL DEFAULT FALSE
+    user_rank_edit BOOLEAN NOT NULL DEFAULT FALSE,
+    version BIGINT NOT NULL DEFAULT 0
 );
 
 -- Table: users
@@ -54,6 +56,8 @@ CREATE TABLE users (
     last_ip VARCHAR(45) DEFAULT NULL,
     created TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
     last_login TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    post_count INTEGER NOT NULL DEFAULT 0,
+    comment_count INTEGER NOT NULL DEFAULT 0,
     FOREIGN KEY (rank_id) REFERENCES user_ranks(id) ON UPDATE CASCADE
 );
 
@@ -76,6 +80,8 @@ CREATE TABLE posts (
     commentable BOOLEAN NOT NULL DEFAULT FALSE,
     created TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
     last_edit TIMESTAMP,
+    comment_count INTEGER NOT NULL DEFAULT 0,
+    version BIGINT NOT NULL DEFAULT 0,
     FOREIGN KEY (user_id) REFERENCES users(id) ON DELETE SET NULL ON UPDATE CASCADE,
     FOREIGN KEY (category_id) REFERENCES post_categories(id) ON DELETE SET NULL ON UPDATE CASCADE
 );
@@ -100,7 +106,10 @@ CREATE INDEX idx_post_comments_content_fts ON post_comments USING gin(to_tsvecto
 -- Table: user_accounts
 CREATE TABLE user_accounts (
     id BIGSERIAL PRIMARY KEY,
-    name VARCHAR(255) NOT NULL
+    name VARCHAR(255) NOT NULL,
+    balance DECIMAL(15,2) NOT NULL DEFAULT 0.00,
+    user_count INTEGER NOT NULL DEFAULT 0,
+    version BIGINT NOT NULL DEFAULT 0
 );
 
 -- Table: user_accounts_meta
@@ -117,7 +126,8 @@ CREATE TABLE user_accounts_meta (
 -- Table: user_groups
 CREATE TABLE user_groups (
     id BIGSERIAL PRIMARY KEY,
-    name VARCHAR(255) NOT NULL
+    name VARCHAR(255) NOT NULL,
+    user_count INTEGER NOT NULL DEFAULT 0
 );
 
 -- Table: user_groups_meta
@@ -131,9 +141,12 @@ CREATE TABLE user_groups_meta (
     FOREIGN KEY (group_id) REFERENCES user_groups(id) ON DELETE CASCADE ON UPDATE CASCADE
 );
 
+-- Sequence for user_payments (allocated by Hibernate in pooled blocks of 50)
+CREATE SEQUENCE user_payments_seq START WITH 1 INCREMENT BY 50;
+
 -- Table: user_payments
 CREATE TABLE user_payments (
-    id BIGSERIAL PRIMARY KEY,
+    id BIGINT PRIMARY KEY DEFAULT nextval('user_payments_seq'),
     target_id BIGINT,
     source_id BIGINT,
     user_id BIGINT,
@@ -142,6 +155,7 @@ CREATE TABLE user_payments (
     amount DECIMAL(15,2) NOT NULL DEFAULT 0.00,
     created TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
     last_edit TIMESTAMP,
+    version BIGINT NOT NULL DEFAULT 0,
     FOREIGN KEY (user_id) REFERENCES users(id) ON DELETE SET NULL ON UPDATE CASCADE,
     FOREIGN KEY (source_id) REFERENCES user_accounts(id) ON DELETE SET NULL ON UPDATE CASCADE,
     FOREIGN KEY (target_id) REFERENCES user_accounts(id) ON DELETE SET NULL ON UPDATE CASCADE
@@ -176,12 +190,29 @@ BEGIN
 END;
 $$ LANGUAGE plpgsql;
 
+-- Counter maintenance only changes comment_count and version, which is not an edit of the post
+CREATE OR REPLACE FUNCTION update_posts_last_edit()
+RETURNS TRIGGER AS $$
+BEGIN
+    IF to_jsonb(NEW) - 'comment_count' - 'version' - 'last_edit'
+            IS DISTINCT FROM to_jsonb(OLD) - 'comment_count' - 'version' - 'last_edit' THEN
+        NEW.last_edit = CURRENT_TIMESTAMP;
+    END IF;
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
 CREATE TRIGGER posts_update_last_edit
     BEFORE UPDATE ON posts
     FOR EACH ROW
-    EXECUTE FUNCTION update_last_edit();
+    EXECUTE FUNCTION update_posts_last_edit();
 
 CREATE TRIGGER user_payments_update_last_edit
     BEFORE UPDATE ON user_payments
     FOR EACH ROW
     EXECUTE FUNCTION update_last_edit();
+
+CREATE TRIGGER pages_update_last_edit
+    BEFORE UPDATE ON pages
+    FOR EACH ROW
+    EXECUTE FUNCTION update_last_edit();
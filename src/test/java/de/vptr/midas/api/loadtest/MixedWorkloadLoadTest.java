@@ -0,0 +1,208 @@
+package de.vptr.midas.api.loadtest;
+
+import static de.vptr.midas.api.util.TestUtil.ADMIN_PASSWORD;
+import static de.vptr.midas.api.util.TestUtil.ADMIN_USERNAME;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.sql.SQLException;
+import java.util.Base64;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Function;
+
+import javax.sql.DataSource;
+
+import org.eclipse.microprofile.config.ConfigProvider;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import de.vptr.midas.api.rest.service.AccountBalanceService;
+import de.vptr.midas.api.rest.service.CounterService;
+import de.vptr.midas.api.util.LoadGenerator;
+import de.vptr.midas.api.util.LoadGenerator.LabeledRequest;
+import de.vptr.midas.api.util.LoadGenerator.LoadResult;
+import de.vptr.midas.api.util.LoadTestDataSeeder;
+import de.vptr.midas.api.util.LoadTestDataSeeder.SeededData;
+import de.vptr.midas.api.util.LoadTestDataSeeder.Volumes;
+import de.vptr.midas.api.util.TestDataBuilder;
+import io.quarkus.test.junit.QuarkusTest;
+import jakarta.inject.Inject;
+
+/**
+ * Drives a weighted mix of read and write requests against seeded data and
+ * reports p50/p95/p99 latency and RPS per endpoint.
+ *
+ * Volumes, concurrency and request count are configurable through
+ * {@code midas.loadtest.*}; results are appended to
+ * {@code target/load-test/mixed-workload.csv}.
+ *
+ * Run with: ./mvnw test -Ploadtest -Dtest=MixedWorkloadLoadTest
+ * (add -Ploadtest,loadtest-postgres for PostgreSQL)
+ */
+@QuarkusTest
+@EnabledIfSystemProperty(named = "midas.loadtest", matches = "true")
+class MixedWorkloadLoadTest {
+
+    private static final Logger LOG = LoggerFactory.getLogger(MixedWorkloadLoadTest.class);
+
+    private static final Path RESULTS = Path.of("target", "load-test", "mixed-workload.csv");
+
+    @ConfigProperty(name = "midas.loadtest.users", defaultValue = "1000")
+    int users;
+
+    @ConfigProperty(name = "midas.loadtest.accounts", defaultValue = "200")
+    int accounts;
+
+    @ConfigProperty(name = "midas.loadtest.payments", defaultValue = "50000")
+    int payments;
+
+    @ConfigProperty(name = "midas.loadtest.posts", defaultValue = "5000")
+    int posts;
+
+    @ConfigProperty(name = "midas.loadtest.comments", defaultValue = "20000")
+    int comments;
+
+    @ConfigProperty(name = "midas.loadtest.concurrency", defaultValue = "64")
+    int concurrency;
+
+    @ConfigProperty(name = "midas.loadtest.requests", defaultValue = "20000")
+    int requests;
+
+    @ConfigProperty(name = "quarkus.datasource.db-kind")
+    String dbKind;
+
+    @Inject
+    DataSource dataSource;
+
+    @Inject
+    CounterService counterService;
+
+    @Inject
+    AccountBalanceService accountBalanceService;
+
+    private LoadTestDataSeeder seeder;
+    private SeededData data;
+    private String baseUrl;
+    private String authorization;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        this.seeder = new LoadTestDataSeeder(this.dataSource);
+        this.seeder.cleanup();
+
+        final var start = System.nanoTime();
+        this.data = this.seeder.seed(new Volumes(this.users, this.accounts, this.payments, this.posts,
+                this.comments));
+        this.counterService.repairCounters();
+        this.accountBalanceService.rebuildBalances();
+        LOG.info("[{}] seeded {} users, {} accounts, {} payments, {} posts, {} comments in {}ms", this.dbKind,
+                this.users, this.accounts, this.payments, this.posts, this.comments,
+                (System.nanoTime() - start) / 1_000_000);
+
+        this.baseUrl = ConfigProvider.getConfig().getValue("test.url", String.class) + "/api/v1";
+        this.authorization = "Basic " + Base64.getEncoder()
+                .encodeToString((ADMIN_USERNAME + ":" + ADMIN_PASSWORD).getBytes(StandardCharsets.UTF_8));
+    }
+
+    @AfterEach
+    void tearDown() throws SQLException {
+        this.seeder.cleanup();
+        this.counterService.repairCounters();
+    }
+
+    @Test
+    void testMixedWorkload() throws Exception {
+        final List<Step> steps = List.of(
+                new Step("GET /posts?view=summary", 20, random -> this.get("/posts?view=summary&limit=50")),
+                new Step("GET /posts/published", 10, random -> this.get("/posts/published?view=summary")),
+                new Step("GET /posts/{id}", 20, random -> this.get("/posts/" + this.pick(this.data.postIds()))),
+                new Step("GET /posts/search", 5, random -> this.get("/posts/search?q=lorem&limit=20")),
+                new Step("GET /payments", 10, random -> this.get("/payments?limit=50")),
+                new Step("GET /accounts/{id}", 10,
+                        random -> this.get("/accounts/" + this.pick(this.data.accountIds()))),
+                new Step("POST /comments", 15, random -> this.post("/comments",
+                        TestDataBuilder.createPostCommentJson(LoadTestDataSeeder.MARKER + " comment",
+                                this.pick(this.data.postIds())))),
+                new Step("POST /payments", 10, random -> this.post("/payments",
+                        TestDataBuilder.createPaymentJson(this.pick(this.data.accountIds()),
+                                this.pick(this.data.accountIds()), 1L, "12.34",
+                                LoadTestDataSeeder.MARKER + " payment", "2024-06-01"))));
+        final var totalWeight = steps.stream().mapToInt(Step::weight).sum();
+
+        // Warm up caches, connection pool and JIT
+        new LoadGenerator(8).runMixed(500, () -> this.next(steps, totalWeight));
+
+        final var results = new LoadGenerator(this.concurrency)
+                .runMixed(this.requests, () -> this.next(steps, totalWeight));
+
+        var errors = 0;
+        for (final var entry : results.entrySet()) {
+            LOG.info("[{}] {} {}", this.dbKind, entry.getKey(), entry.getValue());
+            errors += entry.getValue().errors();
+        }
+        this.writeResults(results);
+
+        assertEquals(0, errors, "failed requests");
+    }
+
+    private LabeledRequest next(final List<Step> steps, final int totalWeight) {
+        final var random = ThreadLocalRandom.current();
+        var roll = random.nextInt(totalWeight);
+        for (final var step : steps) {
+            roll -= step.weight();
+            if (roll < 0) {
+                return new LabeledRequest(step.label(), step.request().apply(random));
+            }
+        }
+        throw new IllegalStateException("Weights do not add up");
+    }
+
+    private long pick(final List<Long> ids) {
+        return ids.get(ThreadLocalRandom.current().nextInt(ids.size()));
+    }
+
+    private HttpRequest get(final String path) {
+        return HttpRequest.newBuilder(URI.create(this.baseUrl + path))
+                .header("Authorization", this.authorization)
+                .GET()
+                .build();
+    }
+
+    private HttpRequest post(final String path, final String json) {
+        return HttpRequest.newBuilder(URI.create(this.baseUrl + path))
+                .header("Authorization", this.authorization)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(json))
+                .build();
+    }
+
+    private void writeResults(final Map<String, LoadResult> results) throws IOException {
+        Files.createDirectories(RESULTS.getParent());
+        if (!Files.exists(RESULTS)) {
+            Files.writeString(RESULTS, "db,concurrency,endpoint,requests,errors,rps,p50_ms,p95_ms,p99_ms\n");
+        }
+        final var lines = new StringBuilder();
+        results.forEach((endpoint, result) -> lines.append(String.format(Locale.ROOT,
+                "%s,%d,%s,%d,%d,%.1f,%.2f,%.2f,%.2f%n", this.dbKind, this.concurrency, endpoint,
+                result.requests(), result.errors(), result.requestsPerSecond(), result.percentileMillis(50),
+                result.percentileMillis(95), result.percentileMillis(99))));
+        Files.writeString(RESULTS, lines, StandardOpenOption.APPEND);
+    }
+
+    private record Step(String label, int weight, Function<ThreadLocalRandom, HttpRequest> request) {
+    }
+}
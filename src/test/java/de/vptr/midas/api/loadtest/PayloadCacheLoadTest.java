@@ -0,0 +1,134 @@
+package de.vptr.midas.api.loadtest;
+
+import static de.vptr.midas.api.util.TestUtil.ADMIN_PASSWORD;
+import static de.vptr.midas.api.util.TestUtil.ADMIN_USERNAME;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import java.util.Base64;
+
+import javax.sql.DataSource;
+
+import org.eclipse.microprofile.config.ConfigProvider;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import de.vptr.midas.api.rest.service.PayloadCache;
+import de.vptr.midas.api.util.LoadGenerator;
+import io.quarkus.test.junit.QuarkusTest;
+import jakarta.inject.Inject;
+
+/**
+ * Measures bytes on the wire and p99 latency of {@code /posts/published} with
+ * and without gzip, and with the payload cache hit versus invalidated before
+ * every request, on {@value #POSTS} seeded published posts.
+ *
+ * Run with: ./mvnw test -Dmidas.loadtest=true -Dtest=PayloadCacheLoadTest
+ */
+@QuarkusTest
+@EnabledIfSystemProperty(named = "midas.loadtest", matches = "true")
+class PayloadCacheLoadTest {
+
+    private static final Logger LOG = LoggerFactory.getLogger(PayloadCacheLoadTest.class);
+
+    private static final int POSTS = 1_000;
+    private static final int CONCURRENCY = 32;
+    private static final int REQUESTS = 2_000;
+    private static final String MARKER = "payload-cache-load-test";
+
+    @Inject
+    DataSource dataSource;
+
+    @Inject
+    PayloadCache payloadCache;
+
+    private URI uri;
+    private String authorization;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        this.deleteGeneratedData();
+
+        try (var connection = this.dataSource.getConnection();
+                var statement = connection.prepareStatement(
+                        "INSERT INTO posts (title, content, user_id, published, commentable) VALUES (?, ?, 1, ?, ?)")) {
+            for (var i = 0; i < POSTS; i++) {
+                statement.setString(1, MARKER);
+                statement.setString(2, ("Lorem ipsum dolor sit amet, post " + i + ". ").repeat(20));
+                statement.setBoolean(3, true);
+                statement.setBoolean(4, true);
+                statement.addBatch();
+            }
+            statement.executeBatch();
+        }
+        this.payloadCache.invalidate(PayloadCache.PUBLISHED_POSTS);
+
+        final var baseUrl = ConfigProvider.getConfig().getValue("test.url", String.class);
+        this.uri = URI.create(baseUrl + "/api/v1/posts/published");
+        this.authorization = "Basic " + Base64.getEncoder()
+                .encodeToString((ADMIN_USERNAME + ":" + ADMIN_PASSWORD).getBytes(StandardCharsets.UTF_8));
+    }
+
+    @AfterEach
+    void tearDown() throws SQLException {
+        this.deleteGeneratedData();
+        this.payloadCache.invalidate(PayloadCache.PUBLISHED_POSTS);
+    }
+
+    @Test
+    void testBytesOnTheWireAndLatency() throws Exception {
+        // The JDK client does not decompress, so the body length is what was sent
+        final var client = HttpClient.newHttpClient();
+        final var identity = client.send(this.request("identity"), HttpResponse.BodyHandlers.ofByteArray());
+        final var gzip = client.send(this.request("gzip"), HttpResponse.BodyHandlers.ofByteArray());
+
+        assertEquals(200, identity.statusCode());
+        assertEquals("gzip", gzip.headers().firstValue("Content-Encoding").orElse(null));
+        assertTrue(gzip.body().length < identity.body().length);
+        LOG.info("bytes on the wire: identity={} gzip={} ({}%)", identity.body().length, gzip.body().length,
+                100 * gzip.body().length / identity.body().length);
+
+        // Warm up connection pool and JIT
+        new LoadGenerator(8).run(200, () -> this.request("gzip"));
+
+        final var cached = new LoadGenerator(CONCURRENCY).run(REQUESTS, () -> this.request("gzip"));
+        LOG.info("[cached, gzip] {}", cached);
+
+        final var cachedIdentity = new LoadGenerator(CONCURRENCY).run(REQUESTS, () -> this.request("identity"));
+        LOG.info("[cached, identity] {}", cachedIdentity);
+
+        final var invalidated = new LoadGenerator(CONCURRENCY).run(REQUESTS, () -> {
+            this.payloadCache.invalidate(PayloadCache.PUBLISHED_POSTS);
+            return this.request("gzip");
+        });
+        LOG.info("[invalidated, gzip] {}", invalidated);
+
+        assertEquals(0, cached.errors() + cachedIdentity.errors() + invalidated.errors());
+    }
+
+    private HttpRequest request(final String acceptEncoding) {
+        return HttpRequest.newBuilder(this.uri)
+                .header("Authorization", this.authorization)
+                .header("Accept-Encoding", acceptEncoding)
+                .GET()
+                .build();
+    }
+
+    private void deleteGeneratedData() throws SQLException {
+        try (var connection = this.dataSource.getConnection();
+                var posts = connection.prepareStatement("DELETE FROM posts WHERE title = ?")) {
+            posts.setString(1, MARKER);
+            posts.executeUpdate();
+        }
+    }
+}
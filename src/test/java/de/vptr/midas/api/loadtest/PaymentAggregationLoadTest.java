@@ -0,0 +1,135 @@
+package de.vptr.midas.api.loadtest;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import de.vptr.midas.api.rest.entity.PaymentEntity;
+import de.vptr.midas.api.rest.service.AccountService;
+import de.vptr.midas.api.rest.service.PaymentService;
+import io.quarkus.test.junit.QuarkusTest;
+import jakarta.inject.Inject;
+
+/**
+ * Compares the database aggregates behind {@code /payments/user/{id}/total}
+ * and {@code /accounts/{id}/summary} with hydrating every payment entity and
+ * summing in Java, on a seeded history of {@value #PAYMENTS} payments.
+ *
+ * Run with: ./mvnw test -Dmidas.loadtest=true -Dtest=PaymentAggregationLoadTest
+ */
+@QuarkusTest
+@EnabledIfSystemProperty(named = "midas.loadtest", matches = "true")
+class PaymentAggregationLoadTest {
+
+    private static final Logger LOG = LoggerFactory.getLogger(PaymentAggregationLoadTest.class);
+
+    private static final int PAYMENTS = 100_000;
+    private static final int BATCH_SIZE = 10_000;
+    private static final int ITERATIONS = 20;
+    private static final long USER_ID = 1L;
+    private static final String MARKER = "aggregation-load-test";
+
+    @Inject
+    DataSource dataSource;
+
+    @Inject
+    PaymentService paymentService;
+
+    @Inject
+    AccountService accountService;
+
+    private long accountId;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        this.deleteGeneratedData();
+
+        try (var connection = this.dataSource.getConnection()) {
+            try (var statement = connection.prepareStatement("INSERT INTO user_accounts (name) VALUES (?)",
+                    Statement.RETURN_GENERATED_KEYS)) {
+                statement.setString(1, MARKER);
+                statement.executeUpdate();
+                try (var keys = statement.getGeneratedKeys()) {
+                    keys.next();
+                    this.accountId = keys.getLong(1);
+                }
+            }
+
+            try (var statement = connection.prepareStatement(
+                    "INSERT INTO user_payments (user_id, source_id, comment, date, amount) VALUES (?, ?, ?, ?, ?)")) {
+                for (var i = 1; i <= PAYMENTS; i++) {
+                    statement.setLong(1, USER_ID);
+                    statement.setLong(2, this.accountId);
+                    statement.setString(3, MARKER);
+                    statement.setDate(4, Date.valueOf(LocalDate.of(2024, 1, 1).plusDays(i % 365)));
+                    statement.setBigDecimal(5, BigDecimal.valueOf(i % 1000, 2));
+                    statement.addBatch();
+                    if (i % BATCH_SIZE == 0) {
+                        statement.executeBatch();
+                    }
+                }
+            }
+        }
+    }
+
+    @AfterEach
+    void tearDown() throws SQLException {
+        this.deleteGeneratedData();
+    }
+
+    @Test
+    void testAggregatesAgainstHydration() {
+        // Hydrating baseline: load every payment of the user and sum in Java
+        final var hydrated = this.measure("user total (hydrated)",
+                () -> PaymentEntity.findByUserId(USER_ID).stream()
+                        .map(p -> p.amount)
+                        .reduce(BigDecimal.ZERO, BigDecimal::add));
+
+        final var aggregated = this.measure("user total (SUM)",
+                () -> this.paymentService.getTotalAmountByUser(USER_ID));
+
+        this.measure("account summary", () -> this.accountService.getAccountSummary(this.accountId));
+
+        assertEquals(0, hydrated.compareTo(aggregated));
+    }
+
+    private <T> T measure(final String name, final Supplier<T> action) {
+        // Warm-up
+        T result = action.get();
+
+        final var start = System.nanoTime();
+        for (var i = 0; i < ITERATIONS; i++) {
+            result = action.get();
+        }
+        final var averageMicros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - start) / ITERATIONS;
+
+        LOG.info("{}: {}us per call over {} payments", name, averageMicros, PAYMENTS);
+        return result;
+    }
+
+    private void deleteGeneratedData() throws SQLException {
+        try (var connection = this.dataSource.getConnection();
+                var payments = connection.prepareStatement("DELETE FROM user_payments WHERE comment = ?");
+                var accounts = connection.prepareStatement("DELETE FROM user_accounts WHERE name = ?")) {
+            payments.setString(1, MARKER);
+            payments.executeUpdate();
+            accounts.setString(1, MARKER);
+            accounts.executeUpdate();
+        }
+    }
+}
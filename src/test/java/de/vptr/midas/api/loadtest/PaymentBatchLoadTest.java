@@ -0,0 +1,127 @@
+package de.vptr.midas.api.loadtest;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.math.BigDecimal;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import de.vptr.midas.api.rest.dto.PaymentDto;
+import de.vptr.midas.api.rest.service.PaymentService;
+import io.quarkus.test.junit.QuarkusTest;
+import jakarta.inject.Inject;
+
+/**
+ * Compares the throughput of creating payments one by one with
+ * {@link PaymentService#createPayments(List)} (IN lookups, JDBC batching).
+ *
+ * Run with: ./mvnw test -Dmidas.loadtest=true -Dtest=PaymentBatchLoadTest
+ */
+@QuarkusTest
+@EnabledIfSystemProperty(named = "midas.loadtest", matches = "true")
+class PaymentBatchLoadTest {
+
+    private static final Logger LOG = LoggerFactory.getLogger(PaymentBatchLoadTest.class);
+
+    private static final int PAYMENTS = 2_000;
+    private static final int ACCOUNTS = 20;
+    private static final long USER_ID = 1L;
+    private static final String MARKER = "batch-load-test";
+
+    @Inject
+    DataSource dataSource;
+
+    @Inject
+    PaymentService paymentService;
+
+    private final List<Long> accountIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        this.deleteGeneratedData();
+
+        try (var connection = this.dataSource.getConnection();
+                var statement = connection.prepareStatement("INSERT INTO user_accounts (name) VALUES (?)",
+                        Statement.RETURN_GENERATED_KEYS)) {
+            for (var i = 0; i < ACCOUNTS; i++) {
+                statement.setString(1, MARKER);
+                statement.executeUpdate();
+                try (var keys = statement.getGeneratedKeys()) {
+                    keys.next();
+                    this.accountIds.add(keys.getLong(1));
+                }
+            }
+        }
+    }
+
+    @AfterEach
+    void tearDown() throws SQLException {
+        this.deleteGeneratedData();
+    }
+
+    @Test
+    void testBatchAgainstSingleInserts() {
+        final var payments = this.generatePayments();
+
+        // Warm-up
+        this.paymentService.createPayments(payments.subList(0, 100));
+
+        var start = System.nanoTime();
+        for (final var payment : payments) {
+            this.paymentService.createPayment(payment);
+        }
+        final var singleSeconds = (System.nanoTime() - start) / 1e9;
+
+        start = System.nanoTime();
+        final var result = this.paymentService.createPayments(payments);
+        final var batchSeconds = (System.nanoTime() - start) / 1e9;
+
+        assertEquals(PAYMENTS, result.created);
+        assertEquals(0, result.failed);
+
+        LOG.info("Single inserts: {} payments in {}s ({} payments/s)", PAYMENTS, String.format("%.2f", singleSeconds),
+                Math.round(PAYMENTS / singleSeconds));
+        LOG.info("Batch insert:   {} payments in {}s ({} payments/s), {} created, {} failed", PAYMENTS,
+                String.format("%.2f", batchSeconds), Math.round(PAYMENTS / batchSeconds), result.created,
+                result.failed);
+    }
+
+    private List<PaymentDto> generatePayments() {
+        final List<PaymentDto> payments = new ArrayList<>();
+        for (var i = 0; i < PAYMENTS; i++) {
+            final var payment = new PaymentDto();
+            payment.sourceAccountId = this.accountIds.get(i % ACCOUNTS);
+            payment.targetAccountId = this.accountIds.get((i + 1) % ACCOUNTS);
+            payment.userId = USER_ID;
+            payment.comment = MARKER;
+            payment.date = LocalDate.now();
+            payment.amount = BigDecimal.valueOf(100 + i, 2);
+            payments.add(payment);
+        }
+        return payments;
+    }
+
+    private void deleteGeneratedData() throws SQLException {
+        try (var connection = this.dataSource.getConnection();
+                var payments = connection.prepareStatement("DELETE FROM user_payments WHERE comment = ?");
+                var accounts = connection.prepareStatement("DELETE FROM user_accounts WHERE name = ?")) {
+            payments.setString(1, MARKER);
+            payments.executeUpdate();
+            accounts.setString(1, MARKER);
+            accounts.executeUpdate();
+        }
+        this.accountIds.clear();
+    }
+}
@@ -0,0 +1,138 @@
+package de.vptr.midas.api.loadtest;
+
+import static de.vptr.midas.api.util.TestUtil.ADMIN_PASSWORD;
+import static de.vptr.midas.api.util.TestUtil.ADMIN_USERNAME;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.lang.management.ManagementFactory;
+import java.math.BigDecimal;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.sql.Date;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.Base64;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.sql.DataSource;
+
+import org.eclipse.microprofile.config.ConfigProvider;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.quarkus.test.junit.QuarkusTest;
+import jakarta.inject.Inject;
+
+/**
+ * Exports one million generated payments through {@code /payments/export}
+ * and checks that every row arrives while the heap stays small.
+ *
+ * Run with: ./mvnw test -Dmidas.loadtest=true -Dtest=PaymentExportLoadTest -DargLine=-Xmx256m
+ */
+@QuarkusTest
+@EnabledIfSystemProperty(named = "midas.loadtest", matches = "true")
+class PaymentExportLoadTest {
+
+    private static final Logger LOG = LoggerFactory.getLogger(PaymentExportLoadTest.class);
+
+    private static final int PAYMENTS = 1_000_000;
+    private static final int BATCH_SIZE = 10_000;
+    private static final String MARKER = "export-load-test";
+
+    @Inject
+    DataSource dataSource;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        this.deleteGeneratedPayments();
+
+        try (var connection = this.dataSource.getConnection();
+                var statement = connection.prepareStatement(
+                        "INSERT INTO user_payments (user_id, comment, date, amount) VALUES (1, ?, ?, ?)")) {
+            final var date = Date.valueOf(LocalDate.of(2024, 1, 1));
+            for (var i = 1; i <= PAYMENTS; i++) {
+                statement.setString(1, MARKER);
+                statement.setDate(2, date);
+                statement.setBigDecimal(3, BigDecimal.valueOf(i, 2));
+                statement.addBatch();
+                if (i % BATCH_SIZE == 0) {
+                    statement.executeBatch();
+                }
+            }
+        }
+    }
+
+    @AfterEach
+    void tearDown() throws SQLException {
+        this.deleteGeneratedPayments();
+    }
+
+    @Test
+    void testExportMillionPayments() throws Exception {
+        // given
+        final var expected = this.countPayments();
+        final var baseUrl = ConfigProvider.getConfig().getValue("test.url", String.class);
+        final var request = HttpRequest.newBuilder(URI.create(baseUrl + "/api/v1/payments/export?format=ndjson"))
+                .header("Authorization", "Basic " + Base64.getEncoder()
+                        .encodeToString((ADMIN_USERNAME + ":" + ADMIN_PASSWORD).getBytes(StandardCharsets.UTF_8)))
+                .GET()
+                .build();
+
+        final var memory = ManagementFactory.getMemoryMXBean();
+        final var peakHeap = new AtomicLong();
+        final var sampler = Executors.newSingleThreadScheduledExecutor();
+        sampler.scheduleAtFixedRate(
+                () -> peakHeap.accumulateAndGet(memory.getHeapMemoryUsage().getUsed(), Math::max),
+                0, 50, TimeUnit.MILLISECONDS);
+
+        // when
+        final var start = System.nanoTime();
+        var lines = 0L;
+        try {
+            final var response = HttpClient.newHttpClient().send(request, HttpResponse.BodyHandlers.ofInputStream());
+            assertEquals(200, response.statusCode());
+
+            try (var reader = new BufferedReader(new InputStreamReader(response.body(), StandardCharsets.UTF_8))) {
+                while (reader.readLine() != null) {
+                    lines++;
+                }
+            }
+        } finally {
+            sampler.shutdownNow();
+        }
+
+        // then
+        assertEquals(expected, lines);
+        LOG.info("Exported {} payments in {}ms, peak heap {}MB of {}MB", lines,
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start), peakHeap.get() >> 20,
+                memory.getHeapMemoryUsage().getMax() >> 20);
+    }
+
+    private long countPayments() throws SQLException {
+        try (var connection = this.dataSource.getConnection();
+                var statement = connection.prepareStatement("SELECT COUNT(*) FROM user_payments");
+                var result = statement.executeQuery()) {
+            result.next();
+            return result.getLong(1);
+        }
+    }
+
+    private void deleteGeneratedPayments() throws SQLException {
+        try (var connection = this.dataSource.getConnection();
+                var statement = connection.prepareStatement("DELETE FROM user_payments WHERE comment = ?")) {
+            statement.setString(1, MARKER);
+            statement.executeUpdate();
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package de.vptr.midas.api.loadtest;
+
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import io.quarkus.test.junit.QuarkusTest;
+
+@QuarkusTest
+@EnabledIfSystemProperty(named = "midas.loadtest", matches = "true")
+class PlatformThreadLoadTest extends ThreadModeLoadTest {
+
+    @Override
+    String mode() {
+        return "platform";
+    }
+}
@@ -0,0 +1,89 @@
+package de.vptr.midas.api.loadtest;
+
+import static de.vptr.midas.api.util.TestUtil.ADMIN_PASSWORD;
+import static de.vptr.midas.api.util.TestUtil.ADMIN_USERNAME;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Base64;
+import java.util.Locale;
+
+import org.eclipse.microprofile.config.ConfigProvider;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import de.vptr.midas.api.util.LoadGenerator;
+import de.vptr.midas.api.util.LoadGenerator.LoadResult;
+
+/**
+ * Drives the blocking resources against the Dev Services database with
+ * increasing concurrency and records p99 latency and the highest concurrency
+ * that was served without errors within the latency budget.
+ *
+ * Subclasses select the thread mode; results are appended to
+ * {@code target/load-test/thread-modes.csv} for comparison.
+ *
+ * Run with: ./mvnw test -Dmidas.loadtest=true -Dtest='*ThreadLoadTest'
+ */
+abstract class ThreadModeLoadTest {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ThreadModeLoadTest.class);
+
+    private static final int[] CONCURRENCY_LEVELS = { 16, 64, 256, 512 };
+    private static final int REQUESTS_PER_CLIENT = 20;
+    private static final double P99_BUDGET_MILLIS = 1000;
+    private static final Path RESULTS = Path.of("target", "load-test", "thread-modes.csv");
+
+    abstract String mode();
+
+    @Test
+    void testThreadModeUnderLoad() throws Exception {
+        final var baseUrl = ConfigProvider.getConfig().getValue("test.url", String.class);
+        final var uri = URI.create(baseUrl + "/api/v1/posts");
+        final var authorization = "Basic " + Base64.getEncoder()
+                .encodeToString((ADMIN_USERNAME + ":" + ADMIN_PASSWORD).getBytes(StandardCharsets.UTF_8));
+
+        // Warm up caches, connection pool and JIT
+        new LoadGenerator(8).run(200, () -> this.request(uri, authorization));
+
+        var maxConcurrency = 0;
+        for (final var concurrency : CONCURRENCY_LEVELS) {
+            final var result = new LoadGenerator(concurrency)
+                    .run(concurrency * REQUESTS_PER_CLIENT, () -> this.request(uri, authorization));
+
+            LOG.info("[{}] concurrency={} {}", this.mode(), concurrency, result);
+            this.writeResult(concurrency, result);
+
+            if (result.errors() == 0 && result.percentileMillis(99) <= P99_BUDGET_MILLIS) {
+                maxConcurrency = concurrency;
+            }
+        }
+
+        LOG.info("[{}] max concurrency within p99 budget of {}ms: {}", this.mode(), P99_BUDGET_MILLIS,
+                maxConcurrency);
+    }
+
+    private HttpRequest request(final URI uri, final String authorization) {
+        return HttpRequest.newBuilder(uri)
+                .header("Authorization", authorization)
+                .GET()
+                .build();
+    }
+
+    private void writeResult(final int concurrency, final LoadResult result) throws IOException {
+        Files.createDirectories(RESULTS.getParent());
+        if (!Files.exists(RESULTS)) {
+            Files.writeString(RESULTS, "mode,concurrency,requests,errors,rps,p50_ms,p95_ms,p99_ms\n");
+        }
+        Files.writeString(RESULTS, String.format(Locale.ROOT, "%s,%d,%d,%d,%.1f,%.2f,%.2f,%.2f%n",
+                this.mode(), concurrency, result.requests(), result.errors(), result.requestsPerSecond(),
+                result.percentileMillis(50), result.percentileMillis(95), result.percentileMillis(99)),
+                StandardOpenOption.APPEND);
+    }
+}
@@ -0,0 +1,27 @@
+package de.vptr.midas.api.loadtest;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import io.quarkus.test.junit.QuarkusTest;
+import io.quarkus.test.junit.QuarkusTestProfile;
+import io.quarkus.test.junit.TestProfile;
+
+@QuarkusTest
+@TestProfile(VirtualThreadLoadTest.VirtualThreadProfile.class)
+@EnabledIfSystemProperty(named = "midas.loadtest", matches = "true")
+class VirtualThreadLoadTest extends ThreadModeLoadTest {
+
+    @Override
+    String mode() {
+        return "virtual";
+    }
+
+    public static class VirtualThreadProfile implements QuarkusTestProfile {
+        @Override
+        public Map<String, String> getConfigOverrides() {
+            return Map.of("midas.threads.virtual", "true");
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package de.vptr.midas.api.rest.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import de.vptr.midas.api.rest.entity.AccountEntity;
+import de.vptr.midas.api.rest.entity.PaymentEntity;
+import de.vptr.midas.api.rest.entity.PostCategoryEntity;
+import de.vptr.midas.api.rest.entity.PostEntity;
+import de.vptr.midas.api.rest.entity.UserEntity;
+import de.vptr.midas.api.rest.entity.UserRankEntity;
+
+/**
+ * Detached entities with typical field sizes for the DTO and JSON benchmarks
+ */
+final class BenchmarkEntities {
+
+    private static final LocalDateTime CREATED = LocalDateTime.of(2025, 1, 1, 12, 0);
+
+    private BenchmarkEntities() {
+    }
+
+    static PostEntity post(final long id) {
+        final var user = new UserEntity();
+        user.id = 1L;
+        user.username = "author";
+
+        final var category = new PostCategoryEntity();
+        category.id = 2L;
+        category.name = "News";
+
+        final var post = new PostEntity();
+        post.id = id;
+        post.title = "Post title " + id;
+        post.content = "Lorem ipsum dolor sit amet, consectetur adipiscing elit. ".repeat(40);
+        post.user = user;
+        post.category = category;
+        post.published = true;
+        post.commentable = true;
+        post.created = CREATED;
+        post.lastEdit = CREATED.plusHours(1);
+        post.commentCount = 3;
+        post.version = 1L;
+        return post;
+    }
+
+    static PaymentEntity payment(final long id) {
+        final var source = new AccountEntity();
+        source.id = 1L;
+        source.name = "Checking";
+
+        final var target = new AccountEntity();
+        target.id = 2L;
+        target.name = "Savings";
+
+        final var user = new UserEntity();
+        user.id = 1L;
+        user.username = "payer";
+
+        final var payment = new PaymentEntity();
+        payment.id = id;
+        payment.sourceAccount = source;
+        payment.targetAccount = target;
+        payment.userId = user;
+        payment.comment = "Monthly transfer " + id;
+        payment.date = LocalDate.of(2025, 1, 1);
+        payment.amount = new BigDecimal("1234.56");
+        payment.created = CREATED;
+        payment.lastEdit = CREATED;
+        payment.version = 0L;
+        return payment;
+    }
+
+    static UserRankEntity rank(final long id) {
+        final var rank = new UserRankEntity();
+        rank.id = id;
+        rank.name = "Editor";
+        rank.pageAdd = rank.pageEdit = true;
+        rank.postAdd = rank.postEdit = rank.postDelete = true;
+        rank.postCommentAdd = rank.postCommentEdit = rank.postCommentDelete = true;
+        rank.version = 0L;
+        return rank;
+    }
+}
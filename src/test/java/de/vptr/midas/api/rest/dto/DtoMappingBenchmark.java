@@ -0,0 +1,58 @@
+package de.vptr.midas.api.rest.dto;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import de.vptr.midas.api.rest.entity.PaymentEntity;
+import de.vptr.midas.api.rest.entity.PostEntity;
+import de.vptr.midas.api.rest.entity.UserRankEntity;
+
+/**
+ * Measures the entity-to-DTO constructors used by every read endpoint.
+ *
+ * Run with: ./mvnw test -Pbenchmark -Dbenchmark.includes=DtoMappingBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DtoMappingBenchmark {
+
+    private PaymentEntity payment;
+    private PostEntity post;
+    private UserRankEntity rank;
+
+    @Setup
+    public void setUp() {
+        this.payment = BenchmarkEntities.payment(1L);
+        this.post = BenchmarkEntities.post(1L);
+        this.rank = BenchmarkEntities.rank(1L);
+    }
+
+    @Benchmark
+    public PaymentResponseDto paymentResponseDto() {
+        return new PaymentResponseDto(this.payment);
+    }
+
+    @Benchmark
+    public PostResponseDto postResponseDto() {
+        return new PostResponseDto(this.post);
+    }
+
+    @Benchmark
+    public UserRankResponseDto userRankResponseDto() {
+        return new UserRankResponseDto(this.rank);
+    }
+}
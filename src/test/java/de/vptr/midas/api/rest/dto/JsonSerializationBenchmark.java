@@ -0,0 +1,78 @@
+package de.vptr.midas.api.rest.dto;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+/**
+ * Measures Jackson serialization of list payloads as returned by the paged
+ * list endpoints, with the mapper configured like the Quarkus default.
+ *
+ * Run with: ./mvnw test -Pbenchmark -Dbenchmark.includes=JsonSerializationBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JsonSerializationBenchmark {
+
+    @Param({ "50", "500" })
+    public int size;
+
+    private ObjectMapper objectMapper;
+    private PaginatedResponseDto<PostResponseDto> posts;
+    private PaginatedResponseDto<PostSummaryDto> postSummaries;
+    private PaginatedResponseDto<PaymentResponseDto> payments;
+
+    @Setup
+    public void setUp() {
+        this.objectMapper = new ObjectMapper()
+                .findAndRegisterModules()
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+        final List<PostResponseDto> postItems = LongStream.rangeClosed(1, this.size)
+                .mapToObj(id -> new PostResponseDto(BenchmarkEntities.post(id)))
+                .toList();
+        this.posts = new PaginatedResponseDto<>(postItems, this.size, null, "cursor");
+        this.postSummaries = new PaginatedResponseDto<>(postItems.stream()
+                .map(p -> new PostSummaryDto(p.id, p.title, null, p.userId, p.username, p.categoryId,
+                        p.categoryName, p.published, p.commentable, p.created, p.lastEdit, p.commentsCount,
+                        p.version))
+                .toList(), this.size, null, "cursor");
+        this.payments = new PaginatedResponseDto<>(LongStream.rangeClosed(1, this.size)
+                .mapToObj(id -> new PaymentResponseDto(BenchmarkEntities.payment(id)))
+                .toList(), this.size, null, "cursor");
+    }
+
+    @Benchmark
+    public byte[] serializePosts() throws Exception {
+        return this.objectMapper.writeValueAsBytes(this.posts);
+    }
+
+    @Benchmark
+    public byte[] serializePostSummaries() throws Exception {
+        return this.objectMapper.writeValueAsBytes(this.postSummaries);
+    }
+
+    @Benchmark
+    public byte[] serializePayments() throws Exception {
+        return this.objectMapper.writeValueAsBytes(this.payments);
+    }
+}
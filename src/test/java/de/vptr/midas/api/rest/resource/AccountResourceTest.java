@@ -21,6 +21,21 @@ class AccountResourceTest {
         testAuthorizedGetWithJson(ENDPOINT_URL);
     }
 
+    @Test
+    void testGetAccountSummary_unauthorized() {
+        testUnauthorizedAccess(ENDPOINT_URL + "/1/summary");
+    }
+
+    @Test
+    void testGetAccountSummary_authorized() {
+        testAuthorizedGetWithExistingResourceAndJson(ENDPOINT_URL + "/" + createTestAccount() + "/summary");
+    }
+
+    @Test
+    void testGetAccountSummary_authorizedWithNonExistentAccount() {
+        testAuthorizedGetWithNonExistentResource(ENDPOINT_URL + "/999/summary");
+    }
+
     @Test
     void testGetUserAccountById_unauthorized() {
         testUnauthorizedAccess(ENDPOINT_URL + "/1");
@@ -1,5 +1,8 @@
 package de.vptr.midas.api.rest.resource;
 
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.notNullValue;
+
 import org.junit.jupiter.api.Test;
 
 import de.vptr.midas.api.util.TestUtil;
@@ -46,4 +49,69 @@ class AuthResourceTest {
         .then()
         .statusCode(401);
   }
+
+  @Test
+  void testLogin_validAuth() {
+    TestUtil.authenticatedRequest()
+        .when()
+        .post(ENDPOINT_URL + "/login")
+        .then()
+        .statusCode(200)
+        .body("token", notNullValue())
+        .body("tokenType", equalTo("Bearer"));
+  }
+
+  @Test
+  void testLogin_noAuth() {
+    TestUtil.given()
+        .when()
+        .post(ENDPOINT_URL + "/login")
+        .then()
+        .statusCode(401);
+  }
+
+  @Test
+  void testLogin_tokenAuthenticatesFollowUpRequests() {
+    final String token = TestUtil.authenticatedRequest()
+        .when()
+        .post(ENDPOINT_URL + "/login")
+        .then()
+        .statusCode(200)
+        .extract().path("token");
+
+    TestUtil.given()
+        .header("Authorization", "Bearer " + token)
+        .when()
+        .get("/api/v1/users/me")
+        .then()
+        .statusCode(200)
+        .body("username", equalTo(TestUtil.ADMIN_USERNAME));
+  }
+
+  @Test
+  void testLogin_bearerTokenCannotRenew() {
+    final String token = TestUtil.authenticatedRequest()
+        .when()
+        .post(ENDPOINT_URL + "/login")
+        .then()
+        .statusCode(200)
+        .extract().path("token");
+
+    TestUtil.given()
+        .header("Authorization", "Bearer " + token)
+        .when()
+        .post(ENDPOINT_URL + "/login")
+        .then()
+        .statusCode(401);
+  }
+
+  @Test
+  void testLogin_tamperedTokenIsRejected() {
+    TestUtil.given()
+        .header("Authorization", "Bearer not.valid")
+        .when()
+        .head(ENDPOINT_URL)
+        .then()
+        .statusCode(401);
+  }
 }
@@ -0,0 +1,22 @@
+package de.vptr.midas.api.rest.resource;
+
+import static de.vptr.midas.api.util.TestUtil.*;
+
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.test.junit.QuarkusTest;
+
+@QuarkusTest
+class CacheResourceTest {
+    private static final String ENDPOINT_URL = "/api/v1/cache/statistics";
+
+    @Test
+    void testGetStatistics_unauthorized() {
+        testUnauthorizedAccess(ENDPOINT_URL);
+    }
+
+    @Test
+    void testGetStatistics_authorized() {
+        testAuthorizedGetWithJson(ENDPOINT_URL);
+    }
+}
@@ -1,5 +1,8 @@
 package de.vptr.midas.api.rest.resource;
 
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.is;
+
 import org.junit.jupiter.api.Test;
 
 import de.vptr.midas.api.util.TestUtil;
@@ -17,4 +20,27 @@ class HealthResourceTest {
         .then()
         .statusCode(200);
   }
+
+  @Test
+  void testReadiness() {
+    TestUtil.given()
+        .when()
+        .get("/q/health/ready")
+        .then()
+        .statusCode(200)
+        .body("status", is("UP"))
+        .body("checks.name", hasItem("database"))
+        .body("checks.name", hasItem("auth-caches"));
+  }
+
+  @Test
+  void testLiveness() {
+    TestUtil.given()
+        .when()
+        .get("/q/health/live")
+        .then()
+        .statusCode(200)
+        .body("status", is("UP"))
+        .body("checks.name", hasItem("last-login-flusher"));
+  }
 }
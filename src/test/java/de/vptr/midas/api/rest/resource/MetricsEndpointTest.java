@@ -0,0 +1,58 @@
+package de.vptr.midas.api.rest.resource;
+
+import static de.vptr.midas.api.util.TestUtil.*;
+import static org.hamcrest.Matchers.containsString;
+
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.test.junit.QuarkusTest;
+
+@QuarkusTest
+class MetricsEndpointTest {
+    private static final String ENDPOINT_URL = "/q/metrics";
+
+    @Test
+    void testMetrics_requestAndSecurityTimers() {
+        // given - a failed login is never served from the credential cache
+        given().auth().basic(ADMIN_USERNAME, "wrong-password")
+                .when()
+                .get("/api/v1/posts")
+                .then()
+                .statusCode(401);
+        authenticatedRequest()
+                .when()
+                .get("/api/v1/posts")
+                .then()
+                .statusCode(200);
+
+        // when / then
+        given()
+                .when()
+                .get(ENDPOINT_URL)
+                .then()
+                .statusCode(200)
+                .body(containsString("http_server_requests_seconds_bucket"))
+                .body(containsString("uri=\"/api/v1/posts\""))
+                .body(containsString("midas_security_password_hash_seconds_bucket"))
+                .body(containsString("midas_security_authenticate_seconds_bucket"));
+    }
+
+    @Test
+    void testMetrics_hibernateAndConnectionPool() {
+        // given
+        authenticatedRequest()
+                .when()
+                .get("/api/v1/posts")
+                .then()
+                .statusCode(200);
+
+        // when / then
+        given()
+                .when()
+                .get(ENDPOINT_URL)
+                .then()
+                .statusCode(200)
+                .body(containsString("hibernate_"))
+                .body(containsString("agroal_"));
+    }
+}
@@ -1,6 +1,7 @@
 package de.vptr.midas.api.rest.resource;
 
 import static de.vptr.midas.api.util.TestDataBuilder.*;
+import static org.hamcrest.Matchers.is;
 
 import org.junit.jupiter.api.Test;
 
@@ -22,6 +23,29 @@ class PageResourceTest {
         TestUtil.testAuthorizedGetWithJson(ENDPOINT_URL);
     }
 
+    @Test
+    void testGetAllPages_summaryView() {
+        TestUtil.authenticatedRequest()
+                .queryParam("view", "summary")
+                .queryParam("excerpt", 10)
+                .when()
+                .get(ENDPOINT_URL)
+                .then()
+                .statusCode(200)
+                .body("items.findAll { it.containsKey('content') }.size()", is(0));
+    }
+
+    @Test
+    void testGetAllPages_excerptTooLong() {
+        TestUtil.authenticatedRequest()
+                .queryParam("view", "summary")
+                .queryParam("excerpt", 100000)
+                .when()
+                .get(ENDPOINT_URL)
+                .then()
+                .statusCode(400);
+    }
+
     @Test
     void testGetPageById_unauthorized() {
         TestUtil.testUnauthorizedAccess(ENDPOINT_URL + "/1");
@@ -37,6 +61,22 @@ class PageResourceTest {
         TestUtil.testAuthorizedGetWithNonExistentResource(ENDPOINT_URL + "/999");
     }
 
+    @Test
+    void testGetPageById_ifNoneMatch() {
+        // given
+        final Integer id = TestUtil.authenticatedJsonRequest()
+                .body(TestDataBuilder.createDefaultPageJson())
+                .when()
+                .post(ENDPOINT_URL)
+                .then()
+                .statusCode(201)
+                .extract()
+                .path("id");
+
+        // when / then
+        TestUtil.testConditionalGetWithEntityTag(ENDPOINT_URL + "/" + id);
+    }
+
     @Test
     void testCreatePage_unauthorized() {
         final String pageJson = TestDataBuilder.createDefaultPageJson();
@@ -2,6 +2,10 @@ package de.vptr.midas.api.rest.resource;
 
 import static de.vptr.midas.api.util.TestDataBuilder.*;
 import static de.vptr.midas.api.util.TestUtil.*;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.startsWith;
 
 import org.junit.jupiter.api.Test;
 
@@ -22,6 +26,49 @@ class PaymentResourceTest {
         testAuthorizedGetWithJson(ENDPOINT_URL);
     }
 
+    @Test
+    void testGetAllUserPayments_singleStatement() {
+        assertStatementCount(testAuthorizedGetWithJson(ENDPOINT_URL), 1);
+    }
+
+    @Test
+    void testExportPayments_unauthorized() {
+        testUnauthorizedAccess(ENDPOINT_URL + "/export");
+    }
+
+    @Test
+    void testExportPayments_ndjson() {
+        authenticatedRequest()
+                .when()
+                .get(ENDPOINT_URL + "/export")
+                .then()
+                .statusCode(200)
+                .contentType(containsString("application/x-ndjson"))
+                .header("Content-Disposition", containsString("payments.ndjson"));
+    }
+
+    @Test
+    void testExportPayments_csv() {
+        authenticatedRequest()
+                .queryParam("format", "csv")
+                .when()
+                .get(ENDPOINT_URL + "/export")
+                .then()
+                .statusCode(200)
+                .contentType(containsString("text/csv"))
+                .body(startsWith("id,targetAccountId,targetAccountName,"));
+    }
+
+    @Test
+    void testExportPayments_invalidFormat() {
+        authenticatedRequest()
+                .queryParam("format", "xml")
+                .when()
+                .get(ENDPOINT_URL + "/export")
+                .then()
+                .statusCode(400);
+    }
+
     @Test
     void testGetPaymentById_unauthorized() {
         testUnauthorizedAccess(ENDPOINT_URL + "/1");
@@ -34,7 +81,8 @@ class PaymentResourceTest {
 
     @Test
     void testGetPaymentById_authorizedWithNonExistentPayment() {
-        testAuthorizedGetWithNonExistentResource(ENDPOINT_URL + "/999");
+        // Only the version lookup runs
+        assertStatementCount(testAuthorizedGetWithNonExistentResource(ENDPOINT_URL + "/999"), 1);
     }
 
     @Test
@@ -52,6 +100,11 @@ class PaymentResourceTest {
                 .contentType(ContentType.JSON);
     }
 
+    @Test
+    void testGetPaymentsByUser_singleStatement() {
+        assertStatementCount(testAuthorizedGetWithJson(ENDPOINT_URL + "/user/1"), 1);
+    }
+
     @Test
     void testGetRecentPayments_unauthorized() {
         testUnauthorizedAccess(ENDPOINT_URL + "/recent?limit=10");
@@ -72,6 +125,33 @@ class PaymentResourceTest {
         testAuthorizedPostWithCreation(ENDPOINT_URL, createPaymentJsonWithTestAccounts());
     }
 
+    @Test
+    void testCreatePaymentBatch_unauthorized() {
+        testUnauthorizedPost(ENDPOINT_URL + "/batch", "[" + createPaymentJsonWithTestAccounts() + "]");
+    }
+
+    @Test
+    void testCreatePaymentBatch_authorized() {
+        final var payment = createPaymentJsonWithTestAccounts();
+
+        authenticatedJsonRequest()
+                .body("[" + payment + "," + payment + "," + createEmptyJson() + "]")
+                .when()
+                .post(ENDPOINT_URL + "/batch")
+                .then()
+                .statusCode(200)
+                .body("received", is(3))
+                .body("created", is(2))
+                .body("failed", is(1))
+                .body("items[0].id", notNullValue())
+                .body("items[2].error", notNullValue());
+    }
+
+    @Test
+    void testCreatePaymentBatch_authorizedWithEmptyList() {
+        testAuthorizedPostWithValidationError(ENDPOINT_URL + "/batch", "[]");
+    }
+
     @Test
     void testCreatePayment_authorizedWithInsufficientRole() {
         testAuthorizedPostWithInsufficientRole(ENDPOINT_URL, createPaymentJsonWithTestAccounts());
@@ -31,6 +31,26 @@ class PostCategoryResourceTest {
         testAuthorizedGetWithJson(ENDPOINT_URL + "/root");
     }
 
+    @Test
+    void testGetCategoryTree_unauthorized() {
+        testUnauthorizedAccess(ENDPOINT_URL + "/tree");
+    }
+
+    @Test
+    void testGetCategoryTree_authorized() {
+        testAuthorizedGetWithJson(ENDPOINT_URL + "/tree");
+    }
+
+    @Test
+    void testGetSubtree_authorizedWithNonExistentCategory() {
+        testAuthorizedGetWithNonExistentResource(ENDPOINT_URL + "/999999/tree");
+    }
+
+    @Test
+    void testGetAncestors_authorizedWithNonExistentCategory() {
+        testAuthorizedGetWithNonExistentResource(ENDPOINT_URL + "/999999/ancestors");
+    }
+
     @Test
     void testGetCategoryById_unauthorized() {
         testUnauthorizedAccess(ENDPOINT_URL + "/1");
@@ -2,6 +2,11 @@ package de.vptr.midas.api.rest.resource;
 
 import static de.vptr.midas.api.util.TestDataBuilder.*;
 import static de.vptr.midas.api.util.TestUtil.*;
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.notNullValue;
 
 import org.junit.jupiter.api.Test;
 
@@ -21,6 +26,102 @@ class PostResourceTest {
         testAuthorizedGetWithJson(ENDPOINT_URL);
     }
 
+    @Test
+    void testGetAllPosts_pageEnvelope() {
+        authenticatedRequest()
+                .queryParam("limit", 1)
+                .when()
+                .get(ENDPOINT_URL)
+                .then()
+                .statusCode(200)
+                .body("limit", is(1))
+                .body("items.size()", lessThanOrEqualTo(1));
+    }
+
+    @Test
+    void testGetAllPosts_limitTooLarge() {
+        authenticatedRequest()
+                .queryParam("limit", 100000)
+                .when()
+                .get(ENDPOINT_URL)
+                .then()
+                .statusCode(400);
+    }
+
+    @Test
+    void testGetAllPosts_offsetTooLarge() {
+        authenticatedRequest()
+                .queryParam("offset", 3_000_000_000L)
+                .when()
+                .get(ENDPOINT_URL)
+                .then()
+                .statusCode(400);
+    }
+
+    @Test
+    void testGetAllPosts_invalidCursor() {
+        authenticatedRequest()
+                .queryParam("cursor", "not-a-cursor")
+                .when()
+                .get(ENDPOINT_URL)
+                .then()
+                .statusCode(400);
+    }
+
+    @Test
+    void testGetAllPosts_summaryView() {
+        authenticatedRequest()
+                .queryParam("view", "summary")
+                .queryParam("limit", 1)
+                .when()
+                .get(ENDPOINT_URL)
+                .then()
+                .statusCode(200)
+                .body("items.size()", lessThanOrEqualTo(1))
+                .body("items.findAll { it.containsKey('content') }.size()", is(0));
+    }
+
+    @Test
+    void testGetAllPosts_invalidView() {
+        authenticatedRequest()
+                .queryParam("view", "compact")
+                .when()
+                .get(ENDPOINT_URL)
+                .then()
+                .statusCode(400);
+    }
+
+    @Test
+    void testGetPostsByUser_summaryViewWithExcerpt() {
+        // given
+        createTestPost();
+
+        // when / then
+        authenticatedRequest()
+                .queryParam("view", "summary")
+                .queryParam("excerpt", 4)
+                .when()
+                .get(ENDPOINT_URL + "/user/1")
+                .then()
+                .statusCode(200)
+                .body("excerpt", hasItem("Test"))
+                .body("findAll { it.containsKey('content') }.size()", is(0));
+    }
+
+    @Test
+    void testSearchPosts_unauthorized() {
+        testUnauthorizedAccess(ENDPOINT_URL + "/search?q=test");
+    }
+
+    @Test
+    void testSearchPosts_missingQuery() {
+        authenticatedRequest()
+                .when()
+                .get(ENDPOINT_URL + "/search")
+                .then()
+                .statusCode(400);
+    }
+
     @Test
     void testGetPublishedPosts_unauthorized() {
         testUnauthorizedAccess(ENDPOINT_URL + "/published");
@@ -46,6 +147,33 @@ class PostResourceTest {
         testAuthorizedGetWithNonExistentResource(ENDPOINT_URL + "/999");
     }
 
+    @Test
+    void testGetPost_ifNoneMatch() {
+        testConditionalGetWithEntityTag(ENDPOINT_URL + "/" + createTestPost());
+    }
+
+    @Test
+    void testGetPost_ifModifiedSince() {
+        // given
+        final var endpoint = ENDPOINT_URL + "/" + createTestPost();
+        final var lastModified = authenticatedRequest()
+                .when()
+                .get(endpoint)
+                .then()
+                .statusCode(200)
+                .header("Last-Modified", notNullValue())
+                .extract()
+                .header("Last-Modified");
+
+        // when / then
+        authenticatedRequest()
+                .header("If-Modified-Since", lastModified)
+                .when()
+                .get(endpoint)
+                .then()
+                .statusCode(304);
+    }
+
     @Test
     void testGetPostsByUser_unauthorized() {
         testUnauthorizedAccess(ENDPOINT_URL + "/user/1");
@@ -101,6 +229,50 @@ class PostResourceTest {
         testUnauthorizedPut(ENDPOINT_URL + "/1", createUpdatedPostJson());
     }
 
+    @Test
+    void testPatchPost_withoutIfMatch() {
+        authenticatedJsonRequest()
+                .body(createDefaultPostPatchJson())
+                .when()
+                .patch(ENDPOINT_URL + "/" + createTestPost())
+                .then()
+                .statusCode(428);
+    }
+
+    @Test
+    void testPatchPost_withIfMatch() {
+        // given
+        final var endpoint = ENDPOINT_URL + "/" + createTestPost();
+        final var eTag = authenticatedRequest().when().get(endpoint).then().statusCode(200).extract().header("ETag");
+
+        // when
+        final var newETag = authenticatedJsonRequest()
+                .header("If-Match", eTag)
+                .body(createDefaultPostPatchJson())
+                .when()
+                .patch(endpoint)
+                .then()
+                .statusCode(200)
+                .header("ETag", not(eTag))
+                .extract()
+                .header("ETag");
+
+        // then: the old ETag is stale, the new one is current
+        authenticatedJsonRequest()
+                .header("If-Match", eTag)
+                .body(createDefaultPostPatchJson())
+                .when()
+                .patch(endpoint)
+                .then()
+                .statusCode(412);
+        authenticatedRequest()
+                .header("If-None-Match", newETag)
+                .when()
+                .get(endpoint)
+                .then()
+                .statusCode(304);
+    }
+
     @Test
     void testPatchPost_unauthorized() {
         testUnauthorizedPatch(ENDPOINT_URL + "/1", createDefaultPostPatchJson());
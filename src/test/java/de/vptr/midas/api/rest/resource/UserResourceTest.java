@@ -108,6 +108,11 @@ class UserResourceTest {
         testAuthorizedGetWithNonExistentResource(ENDPOINT_URL + "/999");
     }
 
+    @Test
+    void testGetUserById_ifNoneMatch() {
+        testConditionalGetWithEntityTag(ENDPOINT_URL + "/1");
+    }
+
     @Test
     void testUpdateUser_unauthorized() {
         testUnauthorizedPut(ENDPOINT_URL + "/1", createDefaultUserUpdateJson());
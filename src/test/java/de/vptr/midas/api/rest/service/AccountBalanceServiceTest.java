@@ -0,0 +1,158 @@
+package de.vptr.midas.api.rest.service;
+
+import static de.vptr.midas.api.util.ServiceTestDataBuilder.createPaymentDto;
+import static de.vptr.midas.api.util.ServiceTestDataBuilder.createUniqueAccountEntity;
+import static de.vptr.midas.api.util.ServiceTestUtil.setupTestUser;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import de.vptr.midas.api.rest.dto.PaymentDto;
+import de.vptr.midas.api.rest.entity.AccountEntity;
+import de.vptr.midas.api.rest.entity.UserEntity;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.test.junit.QuarkusTest;
+import jakarta.inject.Inject;
+import jakarta.transaction.Transactional;
+
+@QuarkusTest
+class AccountBalanceServiceTest {
+
+    @Inject
+    AccountBalanceService accountBalanceService;
+
+    @Inject
+    PaymentService paymentService;
+
+    @Inject
+    UserService userService;
+
+    private UserEntity testUser;
+    private AccountEntity source;
+    private AccountEntity target;
+
+    @BeforeEach
+    @Transactional
+    void setUp() {
+        this.testUser = setupTestUser(this.userService);
+
+        this.source = createUniqueAccountEntity();
+        this.source.persist();
+
+        this.target = createUniqueAccountEntity();
+        this.target.persist();
+    }
+
+    @Test
+    void testCreatePayment_updatesBalances() {
+        // when
+        this.paymentService.createPayment(this.payment(this.source.id, this.target.id, "100.50"));
+
+        // then
+        this.assertBalance("-100.50", this.source.id);
+        this.assertBalance("100.50", this.target.id);
+    }
+
+    @Test
+    void testPatchPayment_appliesDifference() {
+        // given
+        final var created = this.paymentService.createPayment(this.payment(this.source.id, this.target.id, "100.00"));
+
+        // when
+        final var patch = new PaymentDto();
+        patch.amount = new BigDecimal("30.00");
+        this.paymentService.patchPayment(created.id, patch);
+
+        // then
+        this.assertBalance("-30.00", this.source.id);
+        this.assertBalance("30.00", this.target.id);
+    }
+
+    @Test
+    void testUpdatePayment_movesBooking() {
+        // given
+        final var created = this.paymentService.createPayment(this.payment(this.source.id, this.target.id, "50.00"));
+
+        // when
+        this.paymentService.updatePayment(created.id, this.payment(this.target.id, this.source.id, "20.00"));
+
+        // then
+        this.assertBalance("20.00", this.source.id);
+        this.assertBalance("-20.00", this.target.id);
+    }
+
+    @Test
+    void testPatchPayment_commentOnlyLeavesAccountsUntouched() {
+        // given
+        final var created = this.paymentService.createPayment(this.payment(this.source.id, this.target.id, "40.00"));
+        final var sourceVersion = this.versionOf(this.source.id);
+        final var targetVersion = this.versionOf(this.target.id);
+
+        // when
+        final var patch = new PaymentDto();
+        patch.comment = "Changed comment";
+        this.paymentService.patchPayment(created.id, patch);
+
+        // then
+        this.assertBalance("-40.00", this.source.id);
+        this.assertBalance("40.00", this.target.id);
+        assertEquals(sourceVersion, this.versionOf(this.source.id));
+        assertEquals(targetVersion, this.versionOf(this.target.id));
+    }
+
+    @Test
+    void testDeletePayment_revertsBalances() {
+        // given
+        final var created = this.paymentService.createPayment(this.payment(this.source.id, this.target.id, "75.25"));
+
+        // when
+        assertTrue(this.paymentService.deletePayment(created.id));
+
+        // then
+        this.assertBalance("0.00", this.source.id);
+        this.assertBalance("0.00", this.target.id);
+    }
+
+    @Test
+    void testVerifyAndRebuildBalances() {
+        // given
+        this.paymentService.createPayment(this.payment(this.source.id, this.target.id, "10.00"));
+        QuarkusTransaction.requiringNew().run(() -> AccountEntity.getEntityManager()
+                .createNativeQuery("UPDATE user_accounts SET balance = 999 WHERE id = ?1")
+                .setParameter(1, this.target.id)
+                .executeUpdate());
+
+        // when
+        final var mismatches = this.accountBalanceService.verifyBalances();
+
+        // then
+        assertTrue(mismatches.stream().anyMatch(m -> m.accountId().equals(this.target.id)
+                && m.ledgerBalance().compareTo(new BigDecimal("10.00")) == 0));
+
+        // when
+        this.accountBalanceService.rebuildBalances();
+
+        // then
+        this.assertBalance("10.00", this.target.id);
+        assertTrue(this.accountBalanceService.verifyBalances().isEmpty());
+    }
+
+    private PaymentDto payment(final Long sourceId, final Long targetId, final String amount) {
+        return createPaymentDto(sourceId, targetId, this.testUser.id, "Balance test", LocalDate.now(),
+                new BigDecimal(amount));
+    }
+
+    private Long versionOf(final Long accountId) {
+        return QuarkusTransaction.requiringNew()
+                .call(() -> AccountEntity.<AccountEntity>findById(accountId).version);
+    }
+
+    private void assertBalance(final String expected, final Long accountId) {
+        assertEquals(0, new BigDecimal(expected).compareTo(this.accountBalanceService.getBalance(accountId)),
+                "balance of account " + accountId);
+    }
+}
@@ -1,9 +1,14 @@
 package de.vptr.midas.api.rest.service;
 
+import static de.vptr.midas.api.util.ServiceTestDataBuilder.createPaymentDto;
 import static de.vptr.midas.api.util.ServiceTestDataBuilder.createUniqueAccountEntity;
 import static de.vptr.midas.api.util.ServiceTestUtil.assertServiceNotNull;
+import static de.vptr.midas.api.util.ServiceTestUtil.setupTestUser;
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
 import org.junit.jupiter.api.Test;
 
 import io.quarkus.test.junit.QuarkusTest;
@@ -18,6 +23,9 @@ class AccountServiceTest {
     @Inject
     UserService userService;
 
+    @Inject
+    PaymentService paymentService;
+
     @Test
     void testServiceNotNull() {
         assertServiceNotNull(this.accountService);
@@ -29,6 +37,50 @@ class AccountServiceTest {
         assertNotNull(accounts);
     }
 
+    @Test
+    @Transactional
+    void testGetAccountSummary() {
+        // given
+        final var user = setupTestUser(this.userService);
+        final var account = this.accountService.createAccount(createUniqueAccountEntity());
+        final var other = this.accountService.createAccount(createUniqueAccountEntity());
+        this.paymentService.createPayment(createPaymentDto(other.id, account.id, user.id, "Incoming",
+                LocalDate.of(2024, 1, 10), new BigDecimal("100.00")));
+        this.paymentService.createPayment(createPaymentDto(account.id, other.id, user.id, "Outgoing",
+                LocalDate.of(2024, 3, 5), new BigDecimal("40.00")));
+
+        // when
+        final var summary = this.accountService.getAccountSummary(account.id).orElseThrow();
+
+        // then
+        assertEquals(0, new BigDecimal("100.00").compareTo(summary.incomingTotal));
+        assertEquals(0, new BigDecimal("40.00").compareTo(summary.outgoingTotal));
+        assertEquals(0, new BigDecimal("60.00").compareTo(summary.net));
+        assertEquals(2, summary.paymentCount);
+        assertEquals(LocalDate.of(2024, 1, 10), summary.firstPaymentDate);
+        assertEquals(LocalDate.of(2024, 3, 5), summary.lastPaymentDate);
+    }
+
+    @Test
+    @Transactional
+    void testGetAccountSummary_withoutPayments() {
+        // given
+        final var account = this.accountService.createAccount(createUniqueAccountEntity());
+
+        // when
+        final var summary = this.accountService.getAccountSummary(account.id).orElseThrow();
+
+        // then
+        assertEquals(0, BigDecimal.ZERO.compareTo(summary.net));
+        assertEquals(0, summary.paymentCount);
+        assertNull(summary.firstPaymentDate);
+    }
+
+    @Test
+    void testGetAccountSummary_nonExistentAccount() {
+        assertTrue(this.accountService.getAccountSummary(999999L).isEmpty());
+    }
+
     @Test
     @Transactional
     void testCreateAccount() {
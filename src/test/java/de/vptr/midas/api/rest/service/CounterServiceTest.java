@@ -0,0 +1,233 @@
+package de.vptr.midas.api.rest.service;
+
+import static de.vptr.midas.api.util.ServiceTestDataBuilder.createPostCommentEntity;
+import static de.vptr.midas.api.util.ServiceTestDataBuilder.createUniqueAccountEntity;
+import static de.vptr.midas.api.util.ServiceTestDataBuilder.createUniquePostCategoryDto;
+import static de.vptr.midas.api.util.ServiceTestDataBuilder.createUniquePostDto;
+import static de.vptr.midas.api.util.ServiceTestDataBuilder.createUniqueUserGroupDto;
+import static de.vptr.midas.api.util.ServiceTestUtil.setupTestCategory;
+import static de.vptr.midas.api.util.ServiceTestUtil.setupTestUser;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import de.vptr.midas.api.rest.dto.PostDto;
+import de.vptr.midas.api.rest.entity.AccountEntity;
+import de.vptr.midas.api.rest.entity.PostEntity;
+import de.vptr.midas.api.rest.entity.UserEntity;
+import de.vptr.midas.api.rest.entity.UserGroupEntity;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.test.junit.QuarkusTest;
+import jakarta.inject.Inject;
+import jakarta.transaction.Transactional;
+
+@QuarkusTest
+class CounterServiceTest {
+
+    @Inject
+    CounterService counterService;
+
+    @Inject
+    UserService userService;
+
+    @Inject
+    UserGroupService userGroupService;
+
+    @Inject
+    AccountService accountService;
+
+    @Inject
+    PostService postService;
+
+    @Inject
+    PostCommentService postCommentService;
+
+    @Inject
+    PostCategoryService postCategoryService;
+
+    private UserEntity testUser;
+    private Long groupId;
+    private AccountEntity account;
+
+    @BeforeEach
+    @Transactional
+    void setUp() {
+        this.testUser = setupTestUser(this.userService);
+        this.groupId = this.userGroupService.createGroup(createUniqueUserGroupDto()).id;
+
+        this.account = createUniqueAccountEntity();
+        this.account.persist();
+    }
+
+    @Test
+    void testGroupMembership_updatesUserCount() {
+        // when
+        this.userGroupService.addUserToGroup(this.testUser.id, this.groupId);
+
+        // then
+        assertEquals(1L, this.groupUserCount());
+
+        // when
+        this.userGroupService.removeUserFromGroup(this.testUser.id, this.groupId);
+
+        // then
+        assertEquals(0L, this.groupUserCount());
+    }
+
+    @Test
+    void testAccountMembership_updatesUserCount() {
+        // when
+        this.accountService.associateUserWithAccount(this.testUser.id, this.account.id);
+
+        // then
+        assertEquals(1L, this.accountUserCount());
+
+        // when
+        this.accountService.removeUserFromAccount(this.testUser.id, this.account.id);
+
+        // then
+        assertEquals(0L, this.accountUserCount());
+    }
+
+    @Test
+    void testDeleteUser_updatesMemberCounts() {
+        // given
+        this.userGroupService.addUserToGroup(this.testUser.id, this.groupId);
+        this.accountService.associateUserWithAccount(this.testUser.id, this.account.id);
+
+        // when
+        assertTrue(this.userService.deleteUser(this.testUser.id));
+
+        // then
+        assertEquals(0L, this.groupUserCount());
+        assertEquals(0L, this.accountUserCount());
+    }
+
+    @Test
+    void testCreateComment_keepsPostLastEdit() throws InterruptedException {
+        // given
+        final var categoryId = QuarkusTransaction.requiringNew().call(() -> setupTestCategory().id);
+        final var dto = createUniquePostDto(this.testUser.id, categoryId);
+        dto.published = true;
+        dto.commentable = true;
+        final var postId = this.postService.createPost(dto).id;
+        final var lastEdit = this.postLastEdit(postId);
+        // DATETIME has second precision; an ON UPDATE stamp would differ after this
+        Thread.sleep(1100);
+
+        // when
+        QuarkusTransaction.requiringNew().run(() -> this.postCommentService.createComment(
+                createPostCommentEntity("Counter test", null, PostEntity.findById(postId)),
+                this.testUser.username));
+
+        // then
+        assertEquals(lastEdit, this.postLastEdit(postId));
+
+        // when - the repair job fixes a drifted counter
+        QuarkusTransaction.requiringNew().run(() -> PostEntity.getEntityManager()
+                .createNativeQuery("UPDATE posts SET comment_count = 42, last_edit = last_edit WHERE id = ?1")
+                .setParameter(1, postId)
+                .executeUpdate());
+        this.counterService.repairCounters();
+
+        // then
+        assertEquals(1L, QuarkusTransaction.requiringNew()
+                .call(() -> PostEntity.<PostEntity>findById(postId).commentCount));
+        assertEquals(lastEdit, this.postLastEdit(postId));
+    }
+
+    @Test
+    void testChangePostAuthor_movesPostCount() {
+        // given
+        final var categoryId = QuarkusTransaction.requiringNew().call(() -> setupTestCategory().id);
+        final var otherUserId = QuarkusTransaction.requiringNew().call(() -> setupTestUser(this.userService).id);
+        final var postId = this.postService.createPost(createUniquePostDto(this.testUser.id, categoryId)).id;
+        assertEquals(1L, this.userPostCount(this.testUser.id));
+
+        // when
+        final var patch = new PostDto();
+        patch.userId = otherUserId;
+        this.postService.patchPost(postId, patch);
+
+        // then
+        assertEquals(0L, this.userPostCount(this.testUser.id));
+        assertEquals(1L, this.userPostCount(otherUserId));
+
+        // when - PUT without an author removes it
+        this.postService.updatePost(postId, createUniquePostDto(null, categoryId));
+
+        // then
+        assertEquals(0L, this.userPostCount(otherUserId));
+    }
+
+    @Test
+    void testDeleteCategory_uncountsCascadedPostsAndComments() {
+        // given
+        final var parent = this.postCategoryService.createCategory(createUniquePostCategoryDto());
+        final var child = createUniquePostCategoryDto();
+        child.parent = parent;
+        this.postCategoryService.createCategory(child);
+        final var dto = createUniquePostDto(this.testUser.id, child.id);
+        dto.published = true;
+        dto.commentable = true;
+        final var postId = this.postService.createPost(dto).id;
+        QuarkusTransaction.requiringNew().run(() -> this.postCommentService.createComment(
+                createPostCommentEntity("Counter test", null, PostEntity.findById(postId)),
+                this.testUser.username));
+        assertEquals(1L, this.userPostCount(this.testUser.id));
+        assertEquals(1L, this.userCommentCount(this.testUser.id));
+
+        // when
+        assertTrue(this.postCategoryService.deleteCategory(parent.id));
+
+        // then
+        assertEquals(0L, this.userPostCount(this.testUser.id));
+        assertEquals(0L, this.userCommentCount(this.testUser.id));
+    }
+
+    @Test
+    void testRepairCounters() {
+        // given
+        this.userGroupService.addUserToGroup(this.testUser.id, this.groupId);
+        QuarkusTransaction.requiringNew().run(() -> UserGroupEntity.getEntityManager()
+                .createNativeQuery("UPDATE user_groups SET user_count = 42 WHERE id = ?1")
+                .setParameter(1, this.groupId)
+                .executeUpdate());
+
+        // when
+        final var repaired = this.counterService.repairCounters();
+
+        // then
+        assertTrue(repaired >= 1);
+        assertEquals(1L, this.groupUserCount());
+        assertEquals(0, this.counterService.repairCounters());
+    }
+
+    private LocalDateTime postLastEdit(final Long postId) {
+        return QuarkusTransaction.requiringNew()
+                .call(() -> PostEntity.<PostEntity>findById(postId).lastEdit);
+    }
+
+    private long userPostCount(final Long userId) {
+        return QuarkusTransaction.requiringNew()
+                .call(() -> UserEntity.<UserEntity>findById(userId).postCount);
+    }
+
+    private long userCommentCount(final Long userId) {
+        return QuarkusTransaction.requiringNew()
+                .call(() -> UserEntity.<UserEntity>findById(userId).commentCount);
+    }
+
+    private long groupUserCount() {
+        return QuarkusTransaction.requiringNew()
+                .call(() -> UserGroupEntity.<UserGroupEntity>findById(this.groupId).userCount);
+    }
+
+    private long accountUserCount() {
+        return QuarkusTransaction.requiringNew()
+                .call(() -> AccountEntity.<AccountEntity>findById(this.account.id).userCount);
+    }
+}
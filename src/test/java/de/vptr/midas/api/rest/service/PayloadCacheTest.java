@@ -0,0 +1,92 @@
+package de.vptr.midas.api.rest.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPInputStream;
+
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.test.junit.QuarkusTest;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.core.HttpHeaders;
+
+@QuarkusTest
+class PayloadCacheTest {
+
+    private static final String REGION = "payload-cache-test";
+
+    @Inject
+    PayloadCache payloadCache;
+
+    @Test
+    void testGet_loadsOnceUntilInvalidated() {
+        // given
+        this.payloadCache.invalidate(REGION);
+        final var loads = new AtomicInteger();
+
+        // when
+        final var first = this.payloadCache.get(REGION, "key", null, () -> List.of(loads.incrementAndGet()));
+        final var second = this.payloadCache.get(REGION, "key", null, () -> List.of(loads.incrementAndGet()));
+
+        // then
+        assertEquals(1, loads.get());
+        assertArrayEquals((byte[]) first.getEntity(), (byte[]) second.getEntity());
+        assertEquals("[1]", new String((byte[]) second.getEntity()));
+
+        // when
+        this.payloadCache.invalidate(REGION);
+        final var reloaded = this.payloadCache.get(REGION, "key", null, () -> List.of(loads.incrementAndGet()));
+
+        // then
+        assertEquals(2, loads.get());
+        assertEquals("[2]", new String((byte[]) reloaded.getEntity()));
+    }
+
+    @Test
+    void testGet_gzipsLargeBodiesForAcceptingClients() throws IOException {
+        // given
+        this.payloadCache.invalidate(REGION);
+        final var body = List.of("x".repeat(4096));
+
+        // when
+        final var plain = this.payloadCache.get(REGION, "large", null, () -> body);
+        final var gzipped = this.payloadCache.get(REGION, "large", "gzip, deflate", () -> body);
+
+        // then
+        assertNull(plain.getHeaderString(HttpHeaders.CONTENT_ENCODING));
+        assertEquals("gzip", gzipped.getHeaderString(HttpHeaders.CONTENT_ENCODING));
+        assertEquals(HttpHeaders.ACCEPT_ENCODING, gzipped.getHeaderString(HttpHeaders.VARY));
+        final var compressed = (byte[]) gzipped.getEntity();
+        assertTrue(compressed.length < ((byte[]) plain.getEntity()).length);
+        try (var in = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+            assertArrayEquals((byte[]) plain.getEntity(), in.readAllBytes());
+        }
+    }
+
+    @Test
+    void testGet_keepsSmallBodiesUncompressed() {
+        // given
+        this.payloadCache.invalidate(REGION);
+
+        // when
+        final var response = this.payloadCache.get(REGION, "small", "gzip", () -> List.of(1));
+
+        // then
+        assertNull(response.getHeaderString(HttpHeaders.CONTENT_ENCODING));
+    }
+
+    @Test
+    void testAcceptsGzip() {
+        assertTrue(PayloadCache.acceptsGzip("gzip"));
+        assertTrue(PayloadCache.acceptsGzip("deflate, gzip;q=0.8"));
+        assertTrue(PayloadCache.acceptsGzip("*"));
+        assertFalse(PayloadCache.acceptsGzip(null));
+        assertFalse(PayloadCache.acceptsGzip("identity"));
+        assertFalse(PayloadCache.acceptsGzip("gzip;q=0"));
+        assertFalse(PayloadCache.acceptsGzip("*, gzip;q=0.0"));
+    }
+}
@@ -0,0 +1,88 @@
+package de.vptr.midas.api.rest.service;
+
+import static de.vptr.midas.api.util.ServiceTestDataBuilder.createPaymentDto;
+import static de.vptr.midas.api.util.ServiceTestDataBuilder.createUniqueAccountEntity;
+import static de.vptr.midas.api.util.ServiceTestUtil.setupTestUser;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.function.Supplier;
+
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import de.vptr.midas.api.rest.entity.AccountEntity;
+import de.vptr.midas.api.rest.entity.UserEntity;
+import de.vptr.midas.api.rest.util.PageRequest;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.test.junit.QuarkusTest;
+import jakarta.inject.Inject;
+import jakarta.transaction.Transactional;
+
+/**
+ * Asserts that the payment list queries run as a single SQL statement,
+ * independent of how many payments (and distinct accounts) they return.
+ * Relies on {@code quarkus.hibernate-orm.statistics}.
+ */
+@QuarkusTest
+class PaymentServiceQueryCountTest {
+
+    @Inject
+    PaymentService paymentService;
+
+    @Inject
+    UserService userService;
+
+    @Inject
+    SessionFactory sessionFactory;
+
+    private UserEntity testUser;
+    private AccountEntity sharedAccount;
+
+    @BeforeEach
+    @Transactional
+    void setUp() {
+        this.testUser = setupTestUser(this.userService);
+
+        this.sharedAccount = createUniqueAccountEntity();
+        this.sharedAccount.persist();
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = { 1, 10 })
+    void testListQueries_executeOneStatement(final int payments) {
+        // given: every payment has its own source account
+        for (var i = 0; i < payments; i++) {
+            final var source = QuarkusTransaction.requiringNew().call(() -> {
+                final var account = createUniqueAccountEntity();
+                account.persist();
+                return account;
+            });
+            this.paymentService.createPayment(createPaymentDto(source.id, this.sharedAccount.id, this.testUser.id,
+                    "Query count test", LocalDate.now(), BigDecimal.TEN));
+        }
+
+        // when / then
+        assertEquals(payments, this.assertSingleStatement(
+                () -> this.paymentService.findByUserId(this.testUser.id)).size());
+        assertEquals(payments, this.assertSingleStatement(
+                () -> this.paymentService.findByTargetAccountId(this.sharedAccount.id)).size());
+        this.assertSingleStatement(() -> this.paymentService.findByDateRange(LocalDate.now(), LocalDate.now()));
+        this.assertSingleStatement(() -> this.paymentService.findRecentPayments(payments));
+        this.assertSingleStatement(() -> this.paymentService.getPayments(PageRequest.first(payments)).items);
+    }
+
+    private <T extends Collection<?>> T assertSingleStatement(final Supplier<T> query) {
+        final var statistics = this.sessionFactory.getStatistics();
+        statistics.clear();
+
+        final var result = query.get();
+
+        assertEquals(1, statistics.getPrepareStatementCount(), "SQL statements executed");
+        return result;
+    }
+}
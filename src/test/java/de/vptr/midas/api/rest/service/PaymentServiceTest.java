@@ -7,6 +7,7 @@ import static org.junit.jupiter.api.Assertions.*;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.List;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -216,4 +217,55 @@ class PaymentServiceTest {
             assertFalse(payment.date.isAfter(endDate));
         }
     }
+
+    @Test
+    void testCreatePayments() {
+        // given
+        final var valid = de.vptr.midas.api.util.ServiceTestDataBuilder.createPaymentDto(
+                this.testSourceAccount.id, this.testTargetAccount.id, this.testUser.id, "Batch payment",
+                LocalDate.now(), new BigDecimal("5.00"));
+        final var unknownAccount = de.vptr.midas.api.util.ServiceTestDataBuilder.createPaymentDto(
+                999999L, this.testTargetAccount.id, this.testUser.id, "Batch payment",
+                LocalDate.now(), new BigDecimal("5.00"));
+        final var negativeAmount = de.vptr.midas.api.util.ServiceTestDataBuilder.createPaymentDto(
+                this.testSourceAccount.id, this.testTargetAccount.id, this.testUser.id, "Batch payment",
+                LocalDate.now(), new BigDecimal("-1.00"));
+
+        // when
+        final var result = this.paymentService.createPayments(List.of(valid, unknownAccount, negativeAmount, valid));
+
+        // then
+        assertEquals(4, result.received);
+        assertEquals(2, result.created);
+        assertEquals(2, result.failed);
+        assertNotNull(result.items.get(0).id);
+        assertEquals("Source account not found", result.items.get(1).error);
+        assertEquals("Amount must be positive", result.items.get(2).error);
+        assertTrue(this.paymentService.findById(result.items.get(3).id).isPresent());
+    }
+
+    @Test
+    void testCreatePayments_emptyList() {
+        assertThrows(jakarta.validation.ValidationException.class,
+                () -> this.paymentService.createPayments(List.of()));
+    }
+
+    @Test
+    @Transactional
+    void testGetTotalAmountByUser() {
+        // given
+        final var before = this.paymentService.getTotalAmountByUser(this.testUser.id);
+        this.paymentService.createPayment(de.vptr.midas.api.util.ServiceTestDataBuilder.createPaymentDto(
+                this.testSourceAccount.id, this.testTargetAccount.id, this.testUser.id, "Total test payment",
+                LocalDate.now(), new BigDecimal("12.50")));
+        this.paymentService.createPayment(de.vptr.midas.api.util.ServiceTestDataBuilder.createPaymentDto(
+                this.testSourceAccount.id, this.testTargetAccount.id, this.testUser.id, "Total test payment",
+                LocalDate.now(), new BigDecimal("7.25")));
+
+        // when
+        final var after = this.paymentService.getTotalAmountByUser(this.testUser.id);
+
+        // then
+        assertEquals(0, before.add(new BigDecimal("19.75")).compareTo(after));
+    }
 }
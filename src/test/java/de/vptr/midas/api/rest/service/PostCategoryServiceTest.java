@@ -8,6 +8,7 @@ import org.junit.jupiter.api.Test;
 import de.vptr.midas.api.rest.entity.PostCategoryEntity;
 import de.vptr.midas.api.util.ServiceTestDataBuilder;
 import de.vptr.midas.api.util.ServiceTestUtil;
+import io.quarkus.narayana.jta.QuarkusTransaction;
 import io.quarkus.test.TestTransaction;
 import io.quarkus.test.junit.QuarkusTest;
 import jakarta.inject.Inject;
@@ -63,6 +64,28 @@ class PostCategoryServiceTest {
         assertEquals(createdParent.id, createdChild.parent.id);
     }
 
+    @Test
+    void testCreateCategoryWithParent_evictsCachedChildren() {
+        // given: the parent's (empty) children are cached
+        final var parent = this.postCategoryService.createCategory(ServiceTestDataBuilder.createUniquePostCategoryDto());
+        assertEquals(0, this.childCount(parent.id));
+
+        // when
+        final var child = ServiceTestDataBuilder.createUniquePostCategoryDto();
+        child.parent = parent;
+        this.postCategoryService.createCategory(child);
+
+        // then
+        assertEquals(1, this.childCount(parent.id));
+
+        // when
+        this.postCategoryService.deleteCategory(child.id);
+
+        // then
+        assertEquals(0, this.childCount(parent.id));
+        this.postCategoryService.deleteCategory(parent.id);
+    }
+
     @Test
     @TestTransaction
     void testCreateCategoryWithNonExistentParent() {
@@ -353,4 +376,9 @@ class PostCategoryServiceTest {
         final var grandchildChildren = this.postCategoryService.findByParentId(createdGrandchild.id);
         assertTrue(grandchildChildren.isEmpty());
     }
-}
\ No newline at end of file
+
+    private int childCount(final Long categoryId) {
+        return QuarkusTransaction.requiringNew()
+                .call(() -> PostCategoryEntity.<PostCategoryEntity>findById(categoryId).children.size());
+    }
+}
@@ -0,0 +1,71 @@
+package de.vptr.midas.api.rest.service;
+
+import static de.vptr.midas.api.util.ServiceTestDataBuilder.createUniquePostCategoryDto;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import de.vptr.midas.api.rest.entity.PostCategoryEntity;
+import io.quarkus.test.junit.QuarkusTest;
+import jakarta.inject.Inject;
+
+@QuarkusTest
+class PostCategoryTreeTest {
+    @Inject
+    PostCategoryTree categoryTree;
+
+    @Inject
+    PostCategoryService postCategoryService;
+
+    @Test
+    void testTree_servesSubtreeAncestorsAndDescendants() {
+        // given
+        final var root = this.createCategory(null);
+        final var child = this.createCategory(root);
+        final var grandchild = this.createCategory(child);
+        final var sibling = this.createCategory(root);
+
+        // when
+        final var subtree = this.categoryTree.getSubtree(root.id).orElseThrow();
+        final var ancestors = this.categoryTree.getAncestors(grandchild.id).orElseThrow();
+        final var descendants = this.categoryTree.getDescendantIds(root.id).orElseThrow();
+
+        // then
+        assertEquals(List.of(child.id, sibling.id), subtree.children.stream().map(c -> c.id).toList());
+        final var nestedGrandchild = subtree.children.get(0).children.get(0);
+        assertEquals(grandchild.id, nestedGrandchild.id);
+        assertEquals(0, subtree.depth);
+        assertEquals(2, nestedGrandchild.depth);
+        assertEquals(List.of(root.id, child.id), nestedGrandchild.path);
+        assertEquals(List.of(root.id, child.id), ancestors.stream().map(a -> a.id).toList());
+        assertEquals(List.of(root.id, child.id, grandchild.id, sibling.id), descendants);
+
+        // when
+        this.postCategoryService.deleteCategory(sibling.id);
+
+        // then
+        assertEquals(List.of(root.id, child.id, grandchild.id),
+                this.categoryTree.getDescendantIds(root.id).orElseThrow());
+
+        // when
+        this.postCategoryService.deleteCategory(root.id);
+
+        // then
+        assertTrue(this.categoryTree.getSubtree(root.id).isEmpty());
+        assertTrue(this.categoryTree.getAncestors(grandchild.id).isEmpty());
+    }
+
+    @Test
+    void testGetSubtree_unknownCategory() {
+        assertTrue(this.categoryTree.getSubtree(999999L).isEmpty());
+        assertTrue(this.categoryTree.getDescendantIds(999999L).isEmpty());
+    }
+
+    private PostCategoryEntity createCategory(final PostCategoryEntity parent) {
+        final var category = createUniquePostCategoryDto();
+        category.parent = parent;
+        return this.postCategoryService.createCategory(category);
+    }
+}
@@ -7,13 +7,17 @@ import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import de.vptr.midas.api.rest.dto.UserResponseDto;
 import de.vptr.midas.api.rest.entity.PostCategoryEntity;
+import de.vptr.midas.api.rest.entity.PostCommentEntity;
 import de.vptr.midas.api.rest.entity.PostEntity;
 import de.vptr.midas.api.rest.entity.UserEntity;
+import de.vptr.midas.api.rest.util.PageRequest;
 import de.vptr.midas.api.util.ServiceTestDataBuilder;
 import io.quarkus.test.junit.QuarkusTest;
 import jakarta.inject.Inject;
 import jakarta.transaction.Transactional;
+import jakarta.ws.rs.WebApplicationException;
 
 @QuarkusTest
 class PostServiceTest {
@@ -23,6 +27,12 @@ class PostServiceTest {
     @Inject
     UserService userService;
 
+    @Inject
+    PostCommentService postCommentService;
+
+    @Inject
+    PostCategoryService postCategoryService;
+
     private UserEntity testUser;
     private PostCategoryEntity testCategory;
 
@@ -66,6 +76,80 @@ class PostServiceTest {
         assertNotNull(posts);
     }
 
+    @Test
+    @Transactional
+    void testGetPosts_followsCursor() {
+        // given
+        final var first = this.postService.createPost(
+                ServiceTestDataBuilder.createUniquePostDto(this.testUser.id, this.testCategory.id));
+        final var second = this.postService.createPost(
+                ServiceTestDataBuilder.createUniquePostDto(this.testUser.id, this.testCategory.id));
+        final var third = this.postService.createPost(
+                ServiceTestDataBuilder.createUniquePostDto(this.testUser.id, this.testCategory.id));
+
+        // when
+        final var page1 = this.postService.getPosts(PageRequest.first(2));
+        final var page2 = this.postService.getPosts(PageRequest.of(2, page1.nextCursor, null));
+
+        // then
+        assertEquals(2, page1.items.size());
+        assertEquals(first.id, page1.items.get(0).id);
+        assertEquals(second.id, page1.items.get(1).id);
+        assertNotNull(page1.nextCursor);
+
+        assertEquals(1, page2.items.size());
+        assertEquals(third.id, page2.items.get(0).id);
+        assertNull(page2.nextCursor);
+    }
+
+    @Test
+    @Transactional
+    void testGetPosts_offsetFallback() {
+        // given
+        this.postService.createPost(ServiceTestDataBuilder.createUniquePostDto(this.testUser.id, this.testCategory.id));
+        final var second = this.postService.createPost(
+                ServiceTestDataBuilder.createUniquePostDto(this.testUser.id, this.testCategory.id));
+
+        // when
+        final var page = this.postService.getPosts(PageRequest.of(1, null, 1L));
+
+        // then
+        assertEquals(1, page.items.size());
+        assertEquals(second.id, page.items.get(0).id);
+        assertEquals(1L, page.offset);
+        assertNull(page.nextCursor);
+    }
+
+    @Test
+    void testGetPosts_countsComments() {
+        // given
+        final var postDto = ServiceTestDataBuilder.createUniquePostDto(this.testUser.id, this.testCategory.id);
+        postDto.published = true;
+        postDto.commentable = true;
+        final var post = this.postService.createPost(postDto);
+        final var firstComment = this.createComment("First comment", post.id);
+        this.createComment("Second comment", post.id);
+        this.createComment("Third comment", post.id);
+        this.postCommentService.deleteComment(firstComment.id);
+
+        // when
+        final var page = this.postService.getPosts(PageRequest.first(PageRequest.MAX_LIMIT));
+        final var user = new UserResponseDto(this.userService.findById(this.testUser.id).orElseThrow());
+
+        // then
+        final var listed = page.items.stream().filter(p -> p.id.equals(post.id)).findFirst().orElseThrow();
+        assertEquals(2L, listed.commentsCount);
+        assertEquals(1L, user.postsCount);
+        assertEquals(2L, user.commentsCount);
+    }
+
+    private PostCommentEntity createComment(final String content, final Long postId) {
+        final var post = new PostEntity();
+        post.id = postId;
+        final var comment = ServiceTestDataBuilder.createPostCommentEntity(content, null, post);
+        return this.postCommentService.createComment(comment, this.testUser.username);
+    }
+
     @Test
     void testFindPublishedPosts() {
         final var publishedPosts = this.postService.findPublishedPosts();
@@ -183,6 +267,26 @@ class PostServiceTest {
         assertEquals("Original content", patchedPost.content); // Content should remain unchanged
     }
 
+    @Test
+    void testPatchPost_withExpectedVersion() {
+        // given
+        final var createdPost = this.postService.createPost(ServiceTestDataBuilder.createPostDto(
+                "Versioned Title", "Versioned content", false, false, this.testUser.id, this.testCategory.id));
+        final var patchDto = ServiceTestDataBuilder.createPostDto("Patched Title", null, false, false, null, null);
+        patchDto.version = createdPost.version;
+
+        // when
+        final var patchedPost = this.postService.patchPost(createdPost.id, patchDto);
+
+        // then
+        assertEquals(createdPost.version + 1, patchedPost.version);
+
+        // when / then: the same expectation is stale now
+        final var exception = assertThrows(WebApplicationException.class,
+                () -> this.postService.patchPost(createdPost.id, patchDto));
+        assertEquals(412, exception.getResponse().getStatus());
+    }
+
     @Test
     @Transactional
     void testDeletePost() {
@@ -230,6 +334,28 @@ class PostServiceTest {
         assertEquals("Find By ID Test", foundPost.get().title);
     }
 
+    @Test
+    void testFindByCategoryIdIncludingDescendants() {
+        // given
+        final var subcategory = ServiceTestDataBuilder.createUniquePostCategoryDto();
+        subcategory.parent = this.testCategory;
+        this.postCategoryService.createCategory(subcategory);
+        final var parentPost = this.postService.createPost(
+                ServiceTestDataBuilder.createUniquePostDto(this.testUser.id, this.testCategory.id));
+        final var childPost = this.postService.createPost(
+                ServiceTestDataBuilder.createUniquePostDto(this.testUser.id, subcategory.id));
+
+        // when
+        final var direct = this.postService.findByCategoryId(this.testCategory.id);
+        final var withDescendants = this.postService.findByCategoryIdIncludingDescendants(this.testCategory.id);
+
+        // then
+        assertTrue(direct.stream().noneMatch(p -> p.id.equals(childPost.id)));
+        assertTrue(withDescendants.stream().anyMatch(p -> p.id.equals(parentPost.id)));
+        assertTrue(withDescendants.stream().anyMatch(p -> p.id.equals(childPost.id)));
+        this.postCategoryService.deleteCategory(subcategory.id);
+    }
+
     @Test
     void testFindByIdNonExistent() {
         final var foundPost = this.postService.findById(999999L);
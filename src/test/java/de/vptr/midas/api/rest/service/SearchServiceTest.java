@@ -0,0 +1,90 @@
+package de.vptr.midas.api.rest.service;
+
+import static de.vptr.midas.api.util.ServiceTestDataBuilder.createUniquePostDto;
+import static de.vptr.midas.api.util.ServiceTestUtil.setupTestUser;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import de.vptr.midas.api.rest.entity.UserEntity;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.test.junit.QuarkusTest;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.BadRequestException;
+
+@QuarkusTest
+class SearchServiceTest {
+
+    @Inject
+    SearchService searchService;
+
+    @Inject
+    PostService postService;
+
+    @Inject
+    UserService userService;
+
+    private UserEntity testUser;
+
+    @BeforeEach
+    void setUp() {
+        this.testUser = QuarkusTransaction.requiringNew().call(() -> setupTestUser(this.userService));
+    }
+
+    @Test
+    void testSearchPosts_ranksAndHighlights() {
+        // given: full-text indexes only see committed rows
+        final var term = "searchterm" + UUID.randomUUID().toString().replace("-", "").substring(0, 8);
+        final var strong = this.createPost(term + " appears here, and " + term + " appears again");
+        final var weak = this.createPost("Only one mention of " + term + " <b>in</b> this post");
+
+        // when
+        final var result = this.searchService.searchPosts(term, 10, null, null);
+
+        // then
+        assertEquals(List.of(strong, weak), result.items.stream().map(hit -> hit.id).toList());
+        assertNull(result.nextCursor);
+        final var hit = result.items.get(1);
+        assertEquals("Only one mention of <mark>" + term + "</mark> &lt;b&gt;in&lt;/b&gt; this post", hit.highlight);
+        assertTrue(result.items.get(0).score >= hit.score);
+
+        // when
+        final var firstPage = this.searchService.searchPosts(term, 1, null, null);
+        final var secondPage = this.searchService.searchPosts(term, 1, firstPage.nextCursor, null);
+
+        // then
+        assertEquals(List.of(strong), firstPage.items.stream().map(h -> h.id).toList());
+        assertEquals(List.of(weak), secondPage.items.stream().map(h -> h.id).toList());
+        assertNull(secondPage.nextCursor);
+    }
+
+    @Test
+    void testSearchPosts_requiresQuery() {
+        assertThrows(BadRequestException.class, () -> this.searchService.searchPosts(" ", null, null, null));
+        assertThrows(BadRequestException.class, () -> this.searchService.searchPosts("x", null, "bogus", null));
+    }
+
+    @Test
+    void testHighlight_cutsSnippetAroundFirstMatch() {
+        // given
+        final var content = "a".repeat(500) + " needle " + "b".repeat(500);
+
+        // when
+        final var snippet = SearchService.highlight(content, SearchService.terms("Needle"), 100);
+
+        // then
+        assertTrue(snippet.startsWith("…"));
+        assertTrue(snippet.endsWith("…"));
+        assertTrue(snippet.contains("<mark>needle</mark>"));
+    }
+
+    private Long createPost(final String content) {
+        final var dto = createUniquePostDto(this.testUser.id, null);
+        dto.content = content;
+        return this.postService.createPost(dto).id;
+    }
+}
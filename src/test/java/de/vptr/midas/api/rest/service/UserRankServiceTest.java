@@ -4,11 +4,13 @@ import static de.vptr.midas.api.util.ServiceTestUtil.assertServiceNotNull;
 import static de.vptr.midas.api.util.ServiceTestUtil.setupTestUser;
 import static org.junit.jupiter.api.Assertions.*;
 
+import org.hibernate.SessionFactory;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import de.vptr.midas.api.rest.entity.UserRankEntity;
 import de.vptr.midas.api.util.ServiceTestUtil;
+import io.quarkus.narayana.jta.QuarkusTransaction;
 import io.quarkus.test.TestTransaction;
 import io.quarkus.test.junit.QuarkusTest;
 import jakarta.inject.Inject;
@@ -22,6 +24,9 @@ class UserRankServiceTest {
     @Inject
     UserService userService;
 
+    @Inject
+    SessionFactory sessionFactory;
+
     @BeforeEach
     @Transactional
     void setUp() {
@@ -40,6 +45,23 @@ class UserRankServiceTest {
         assertNotNull(ranks);
     }
 
+    @Test
+    void testFindById_warmLookupIssuesNoSelect() {
+        // given: a lookup in another session has populated the second-level cache
+        QuarkusTransaction.requiringNew().run(() -> this.userRankService.findById(1L).orElseThrow());
+        final var statistics = this.sessionFactory.getStatistics();
+        statistics.clear();
+
+        // when
+        final var rank = QuarkusTransaction.requiringNew()
+                .call(() -> this.userRankService.findById(1L).orElseThrow());
+
+        // then
+        assertEquals(1L, rank.id);
+        assertEquals(0, statistics.getPrepareStatementCount());
+        assertEquals(1, statistics.getCacheRegionStatistics(UserRankEntity.class.getName()).getHitCount());
+    }
+
     @Test
     @Transactional
     void testCreateRank() {
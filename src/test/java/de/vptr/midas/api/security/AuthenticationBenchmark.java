@@ -0,0 +1,68 @@
+package de.vptr.midas.api.security;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the credential check of an authenticated request with and without
+ * the {@link CredentialCache}. Throughput is reported in operations (i.e.
+ * authenticated requests) per second, excluding the user lookup.
+ *
+ * Run with: ./mvnw test -Pbenchmark -Dbenchmark.includes=AuthenticationBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AuthenticationBenchmark {
+
+    private static final String USERNAME = "admin";
+    private static final String PASSWORD = "admin";
+
+    private PasswordHashingService passwordHashingService;
+    private CredentialCache credentialCache;
+    private String salt;
+    private String storedHash;
+
+    @Setup
+    public void setUp() throws Exception {
+        this.passwordHashingService = new PasswordHashingService();
+        this.salt = this.passwordHashingService.generateSalt();
+        this.storedHash = this.passwordHashingService.hashPassword(PASSWORD, this.salt);
+
+        this.credentialCache = new CredentialCache();
+        this.credentialCache.enabled = true;
+        this.credentialCache.ttl = Duration.ofHours(1);
+        this.credentialCache.maxSize = 10000;
+    }
+
+    @Benchmark
+    public boolean authenticateWithoutCache() {
+        return this.passwordHashingService.verifyPassword(PASSWORD, this.storedHash, this.salt);
+    }
+
+    @Benchmark
+    public boolean authenticateWithCache() {
+        if (this.credentialCache.isVerified(USERNAME, PASSWORD, this.storedHash)) {
+            return true;
+        }
+        final var verified = this.passwordHashingService.verifyPassword(PASSWORD, this.storedHash, this.salt);
+        if (verified) {
+            this.credentialCache.put(USERNAME, PASSWORD, this.storedHash);
+        }
+        return verified;
+    }
+}
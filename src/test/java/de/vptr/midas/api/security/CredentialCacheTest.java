@@ -0,0 +1,122 @@
+package de.vptr.midas.api.security;
+
+import static de.vptr.midas.api.util.ServiceTestDataBuilder.createUniqueUserDto;
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import de.vptr.midas.api.rest.dto.UserDto;
+import de.vptr.midas.api.rest.service.UserService;
+import io.quarkus.test.junit.QuarkusTest;
+import jakarta.inject.Inject;
+
+@QuarkusTest
+class CredentialCacheTest {
+
+    @Inject
+    CredentialCache credentialCache;
+
+    @Inject
+    UserService userService;
+
+    // Not read through the bean: its fields are not populated on the client proxy
+    @ConfigProperty(name = "midas.security.credential-cache.max-size")
+    int maxSize;
+
+    @BeforeEach
+    void setUp() {
+        this.credentialCache.invalidateAll();
+    }
+
+    @Test
+    void testPutAndIsVerified() {
+        // given
+        this.credentialCache.put("cacheUser", "secret", "storedHash");
+
+        // when & then
+        assertTrue(this.credentialCache.isVerified("cacheUser", "secret", "storedHash"));
+    }
+
+    @Test
+    void testIsVerified_wrongPassword() {
+        // given
+        this.credentialCache.put("cacheUser", "secret", "storedHash");
+
+        // when & then
+        assertFalse(this.credentialCache.isVerified("cacheUser", "wrongSecret", "storedHash"));
+    }
+
+    @Test
+    void testIsVerified_storedHashChanged() {
+        // given
+        this.credentialCache.put("cacheUser", "secret", "storedHash");
+
+        // when & then
+        assertFalse(this.credentialCache.isVerified("cacheUser", "secret", "otherHash"));
+    }
+
+    @Test
+    void testIsVerified_nullValues() {
+        assertFalse(this.credentialCache.isVerified(null, "secret", "storedHash"));
+        assertFalse(this.credentialCache.isVerified("cacheUser", null, "storedHash"));
+        assertFalse(this.credentialCache.isVerified("cacheUser", "secret", null));
+    }
+
+    @Test
+    void testInvalidate() {
+        // given
+        this.credentialCache.put("cacheUser", "secret", "storedHash");
+
+        // when
+        this.credentialCache.invalidate("cacheUser");
+
+        // then
+        assertFalse(this.credentialCache.isVerified("cacheUser", "secret", "storedHash"));
+    }
+
+    @Test
+    void testMaxSizeIsRespected() {
+        // when
+        for (var i = 0; i < this.maxSize + 10; i++) {
+            this.credentialCache.put("cacheUser" + i, "secret", "storedHash");
+        }
+
+        // then
+        assertTrue(this.credentialCache.size() > 0);
+        assertTrue(this.credentialCache.size() <= this.maxSize);
+    }
+
+    @Test
+    void testFullCacheEvictsOldestBatch() {
+        // given
+        for (var i = 0; i < this.maxSize; i++) {
+            this.credentialCache.put("cacheUser" + i, "secret", "storedHash");
+        }
+
+        // when
+        this.credentialCache.put("newestUser", "secret", "storedHash");
+
+        // then
+        assertEquals(this.maxSize - this.maxSize / 10 + 1, this.credentialCache.size());
+        assertFalse(this.credentialCache.isVerified("cacheUser0", "secret", "storedHash"));
+        assertTrue(this.credentialCache.isVerified("cacheUser" + (this.maxSize - 1), "secret", "storedHash"));
+        assertTrue(this.credentialCache.isVerified("newestUser", "secret", "storedHash"));
+    }
+
+    @Test
+    void testPatchUserInvalidatesCache() {
+        // given
+        final var created = this.userService.createUser(createUniqueUserDto("cacheUser", "cacheuser"));
+        this.credentialCache.put(created.username, "secret", "storedHash");
+
+        // when
+        final var patch = new UserDto();
+        patch.banned = true;
+        this.userService.patchUser(created.id, patch);
+
+        // then
+        assertFalse(this.credentialCache.isVerified(created.username, "secret", "storedHash"));
+    }
+}
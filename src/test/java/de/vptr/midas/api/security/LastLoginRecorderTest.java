@@ -0,0 +1,75 @@
+package de.vptr.midas.api.security;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import de.vptr.midas.api.rest.entity.UserEntity;
+import io.quarkus.test.junit.QuarkusTest;
+import jakarta.inject.Inject;
+
+@QuarkusTest
+class LastLoginRecorderTest {
+
+    private static final Long USER_ID = 3L;
+
+    @Inject
+    LastLoginRecorder lastLoginRecorder;
+
+    @Inject
+    UserIdentityProvider userIdentityProvider;
+
+    @BeforeEach
+    void setUp() {
+        this.lastLoginRecorder.flush();
+    }
+
+    @Test
+    void testRecordIsCoalescedPerUser() {
+        // given
+        final var earlier = LocalDateTime.now().minusMinutes(5);
+        final var later = LocalDateTime.now();
+
+        // when
+        this.lastLoginRecorder.record(USER_ID, later);
+        this.lastLoginRecorder.record(USER_ID, earlier);
+
+        // then
+        assertEquals(1, this.lastLoginRecorder.getPendingCount());
+    }
+
+    @Test
+    void testFlushWritesLatestLogin() {
+        // given
+        final var lastLogin = LocalDateTime.now().plusDays(1).truncatedTo(ChronoUnit.SECONDS);
+        this.lastLoginRecorder.record(USER_ID, lastLogin.minusHours(1));
+        this.lastLoginRecorder.record(USER_ID, lastLogin);
+
+        // when
+        final var flushed = this.lastLoginRecorder.flush();
+
+        // then
+        assertEquals(1, flushed);
+        assertEquals(0, this.lastLoginRecorder.getPendingCount());
+        final UserEntity user = UserEntity.findById(USER_ID);
+        assertEquals(lastLogin, user.lastLogin);
+    }
+
+    @Test
+    void testAuthenticateRecordsLoginWithoutWriting() {
+        // when
+        this.userIdentityProvider.authenticateUser("user", "user");
+
+        // then
+        assertEquals(1, this.lastLoginRecorder.getPendingCount());
+    }
+
+    @Test
+    void testFlushWithNothingPending() {
+        assertEquals(0, this.lastLoginRecorder.flush());
+    }
+}
@@ -0,0 +1,53 @@
+package de.vptr.midas.api.security;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the cost of hashing and verifying a password with the configured
+ * PBKDF2 parameters. Both are deliberately slow; a large change in either
+ * direction means the parameters changed.
+ *
+ * Run with: ./mvnw test -Pbenchmark -Dbenchmark.includes=PasswordHashingBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PasswordHashingBenchmark {
+
+    private static final String PASSWORD = "correct horse battery staple";
+
+    private PasswordHashingService passwordHashingService;
+    private String salt;
+    private String storedHash;
+
+    @Setup
+    public void setUp() throws Exception {
+        this.passwordHashingService = new PasswordHashingService();
+        this.salt = this.passwordHashingService.generateSalt();
+        this.storedHash = this.passwordHashingService.hashPassword(PASSWORD, this.salt);
+    }
+
+    @Benchmark
+    public String hashPassword() throws Exception {
+        return this.passwordHashingService.hashPassword(PASSWORD, this.salt);
+    }
+
+    @Benchmark
+    public boolean verifyPassword() {
+        return this.passwordHashingService.verifyPassword(PASSWORD, this.storedHash, this.salt);
+    }
+}
@@ -0,0 +1,129 @@
+package de.vptr.midas.api.security;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import de.vptr.midas.api.rest.dto.UserRankDto;
+import de.vptr.midas.api.rest.service.UserRankService;
+import io.quarkus.test.junit.QuarkusTest;
+import jakarta.inject.Inject;
+
+@QuarkusTest
+class RankPermissionCacheTest {
+
+    @Inject
+    RankPermissionCache rankPermissionCache;
+
+    @Inject
+    UserRankService userRankService;
+
+    @BeforeEach
+    void setUp() {
+        this.rankPermissionCache.invalidateAll();
+    }
+
+    @Test
+    void testMaskOf_administrator() {
+        // given
+        final var rank = this.userRankService.findByName("Administrator").orElseThrow();
+
+        // when
+        final var mask = RankPermissionCache.maskOf(rank);
+
+        // then
+        assertEquals((1 << RankPermissionCache.ROLES.length) - 1, mask);
+    }
+
+    @Test
+    void testMaskOf_guest() {
+        // given
+        final var rank = this.userRankService.findByName("Guest").orElseThrow();
+
+        // when & then
+        assertEquals(0, RankPermissionCache.maskOf(rank));
+    }
+
+    @Test
+    void testRolesOf_sharedInstance() {
+        // given
+        final var mask = 0b101;
+
+        // when
+        final var roles1 = this.rankPermissionCache.rolesOf(mask);
+        final var roles2 = this.rankPermissionCache.rolesOf(mask);
+
+        // then
+        assertEquals(Set.of("page:add", "page:edit"), roles1);
+        assertSame(roles1, roles2);
+    }
+
+    @Test
+    void testRememberAndFindRoles() {
+        // given
+        final var rank = this.userRankService.findByName("Moderator").orElseThrow();
+
+        // when
+        this.rankPermissionCache.remember("moderator", rank, this.rankPermissionCache.generation());
+        final var roles = this.rankPermissionCache.findRoles("moderator");
+
+        // then
+        assertNotNull(roles);
+        assertEquals(Set.of("post-comment:add", "post-comment:delete", "post-comment:edit"), roles);
+    }
+
+    @Test
+    void testFindRoles_unknownUser() {
+        assertNull(this.rankPermissionCache.findRoles("unknownUser"));
+    }
+
+    @Test
+    void testInvalidateUser() {
+        // given
+        final var rank = this.userRankService.findByName("User").orElseThrow();
+        this.rankPermissionCache.remember("user", rank, this.rankPermissionCache.generation());
+
+        // when
+        this.rankPermissionCache.invalidateUser("user");
+
+        // then
+        assertNull(this.rankPermissionCache.findRoles("user"));
+    }
+
+    @Test
+    void testRemember_skipsLookupThatRacedWithInvalidation() {
+        // given
+        final var rank = this.userRankService.findByName("Moderator").orElseThrow();
+        final var expectedGeneration = this.rankPermissionCache.generation();
+
+        // when
+        this.rankPermissionCache.invalidateRank(rank.id);
+        final var roles = this.rankPermissionCache.remember("moderator", rank, expectedGeneration);
+
+        // then
+        assertEquals(Set.of("post-comment:add", "post-comment:delete", "post-comment:edit"), roles);
+        assertNull(this.rankPermissionCache.findRoles("moderator"));
+    }
+
+    @Test
+    void testPatchRankInvalidatesCache() {
+        // given
+        final var rankDto = new UserRankDto();
+        rankDto.name = "CachedRank_" + System.nanoTime();
+        final var created = this.userRankService.createRank(rankDto);
+        this.rankPermissionCache.remember("cachedRankUser", this.userRankService.findById(created.id).orElseThrow(),
+                this.rankPermissionCache.generation());
+        assertEquals(Set.of(), this.rankPermissionCache.findRoles("cachedRankUser"));
+
+        // when
+        final var patch = new UserRankDto();
+        patch.postAdd = true;
+        this.userRankService.patchRank(created.id, patch);
+
+        // then
+        assertNull(this.rankPermissionCache.findRoles("cachedRankUser"));
+    }
+}
@@ -0,0 +1,66 @@
+package de.vptr.midas.api.security;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import de.vptr.midas.api.rest.entity.UserRankEntity;
+
+/**
+ * Measures {@link UserRankIdentityAugmentor#buildRolesFromUserRank}, which
+ * runs for every request whose user is not in the {@link RankPermissionCache}.
+ *
+ * Run with: ./mvnw test -Pbenchmark -Dbenchmark.includes=RoleMappingBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RoleMappingBenchmark {
+
+    private UserRankIdentityAugmentor augmentor;
+    private UserRankEntity adminRank;
+    private UserRankEntity userRank;
+
+    @Setup
+    public void setUp() {
+        this.augmentor = new UserRankIdentityAugmentor();
+        this.augmentor.rankPermissionCache = new RankPermissionCache();
+
+        this.adminRank = new UserRankEntity();
+        this.adminRank.pageAdd = this.adminRank.pageDelete = this.adminRank.pageEdit = true;
+        this.adminRank.postAdd = this.adminRank.postDelete = this.adminRank.postEdit = true;
+        this.adminRank.postCategoryAdd = this.adminRank.postCategoryDelete = this.adminRank.postCategoryEdit = true;
+        this.adminRank.postCommentAdd = this.adminRank.postCommentDelete = this.adminRank.postCommentEdit = true;
+        this.adminRank.userAdd = this.adminRank.userDelete = this.adminRank.userEdit = true;
+        this.adminRank.userGroupAdd = this.adminRank.userGroupDelete = this.adminRank.userGroupEdit = true;
+        this.adminRank.userAccountAdd = this.adminRank.userAccountDelete = this.adminRank.userAccountEdit = true;
+        this.adminRank.userRankAdd = this.adminRank.userRankDelete = this.adminRank.userRankEdit = true;
+
+        this.userRank = new UserRankEntity();
+        this.userRank.postAdd = true;
+        this.userRank.postCommentAdd = true;
+    }
+
+    @Benchmark
+    public Set<String> buildAdminRoles() {
+        return this.augmentor.buildRolesFromUserRank(this.adminRank);
+    }
+
+    @Benchmark
+    public Set<String> buildUserRoles() {
+        return this.augmentor.buildRolesFromUserRank(this.userRank);
+    }
+}
@@ -0,0 +1,64 @@
+package de.vptr.midas.api.security;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.test.junit.QuarkusTest;
+import jakarta.inject.Inject;
+
+@QuarkusTest
+class SessionTokenServiceTest {
+
+    @Inject
+    SessionTokenService sessionTokenService;
+
+    @Test
+    void testIssueAndVerify() {
+        // given
+        final var sessionToken = this.sessionTokenService.issue("admin", Set.of("post:add", "post:edit"));
+
+        // when
+        final var claims = this.sessionTokenService.verify(sessionToken.token());
+
+        // then
+        assertTrue(claims.isPresent());
+        assertEquals("admin", claims.get().sub());
+        assertEquals(Set.of("post:add", "post:edit"), claims.get().roles());
+        assertEquals(sessionToken.expiresAt(), claims.get().exp());
+    }
+
+    @Test
+    void testVerify_tamperedSignature() {
+        // given
+        final var token = this.sessionTokenService.issue("admin", Set.of()).token();
+        final var signatureStart = token.indexOf('.') + 1;
+        final var replacement = token.charAt(signatureStart) == 'A' ? 'B' : 'A';
+        final var tampered = token.substring(0, signatureStart) + replacement + token.substring(signatureStart + 1);
+
+        // when & then
+        assertTrue(this.sessionTokenService.verify(tampered).isEmpty());
+    }
+
+    @Test
+    void testVerify_tamperedPayload() {
+        // given
+        final var token = this.sessionTokenService.issue("user", Set.of()).token();
+        final var otherPayload = this.sessionTokenService.issue("admin", Set.of("user-rank:edit")).token()
+                .split("\\.")[0];
+        final var forged = otherPayload + token.substring(token.indexOf('.'));
+
+        // when & then
+        assertTrue(this.sessionTokenService.verify(forged).isEmpty());
+    }
+
+    @Test
+    void testVerify_malformed() {
+        assertTrue(this.sessionTokenService.verify(null).isEmpty());
+        assertTrue(this.sessionTokenService.verify("").isEmpty());
+        assertTrue(this.sessionTokenService.verify("no-separator").isEmpty());
+        assertTrue(this.sessionTokenService.verify("payload.").isEmpty());
+    }
+}
@@ -0,0 +1,167 @@
+package de.vptr.midas.api.util;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Minimal closed-loop HTTP load generator for load tests.
+ *
+ * A fixed number of client threads each send requests back to back until the
+ * request budget is used up; latencies are recorded per request.
+ */
+public class LoadGenerator {
+
+    private final HttpClient client = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(10))
+            .build();
+
+    private final int concurrency;
+
+    public LoadGenerator(final int concurrency) {
+        this.concurrency = concurrency;
+    }
+
+    /**
+     * Sends {@code totalRequests} requests using {@code concurrency} clients
+     *
+     * @param totalRequests   the number of requests to send
+     * @param requestSupplier creates the request to send
+     * @return the collected results
+     */
+    public LoadResult run(final int totalRequests, final Supplier<HttpRequest> requestSupplier) throws Exception {
+        final var results = this.runMixed(totalRequests, () -> new LabeledRequest("", requestSupplier.get()));
+        return results.getOrDefault("", new LoadResult(new long[0], 0, 0, 0L));
+    }
+
+    /**
+     * Sends {@code totalRequests} requests of a mixed workload using
+     * {@code concurrency} clients
+     *
+     * @param totalRequests   the number of requests to send
+     * @param requestSupplier picks the next scenario step and creates its
+     *                        request
+     * @return the collected results per label, in order of first use; each
+     *         result shares the duration and in-flight maximum of the run
+     */
+    public Map<String, LoadResult> runMixed(final int totalRequests, final Supplier<LabeledRequest> requestSupplier)
+            throws Exception {
+        final var remaining = new AtomicInteger(totalRequests);
+        final Map<String, AtomicInteger> errors = new ConcurrentHashMap<>();
+        final var inFlight = new AtomicInteger();
+        final var maxInFlight = new AtomicInteger();
+
+        final ExecutorService pool = Executors.newFixedThreadPool(this.concurrency);
+        final List<Future<Map<String, LatencyRecorder>>> workers = new ArrayList<>();
+        final var start = System.nanoTime();
+
+        try {
+            for (var i = 0; i < this.concurrency; i++) {
+                workers.add(pool.submit(() -> {
+                    final Map<String, LatencyRecorder> latencies = new LinkedHashMap<>();
+                    while (remaining.getAndDecrement() > 0) {
+                        final var next = requestSupplier.get();
+                        final var recorder = latencies.computeIfAbsent(next.label(), label -> new LatencyRecorder());
+                        maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+                        final var requestStart = System.nanoTime();
+                        try {
+                            final var response = this.client.send(next.request(),
+                                    HttpResponse.BodyHandlers.discarding());
+                            if (response.statusCode() >= 400) {
+                                errors.computeIfAbsent(next.label(), label -> new AtomicInteger()).incrementAndGet();
+                            }
+                        } catch (final Exception e) {
+                            errors.computeIfAbsent(next.label(), label -> new AtomicInteger()).incrementAndGet();
+                        } finally {
+                            recorder.add(System.nanoTime() - requestStart);
+                            inFlight.decrementAndGet();
+                        }
+                    }
+                    return latencies;
+                }));
+            }
+
+            final Map<String, List<long[]>> merged = new LinkedHashMap<>();
+            for (final var worker : workers) {
+                worker.get().forEach((label, recorder) -> merged
+                        .computeIfAbsent(label, key -> new ArrayList<>())
+                        .add(recorder.toArray()));
+            }
+            final var duration = System.nanoTime() - start;
+
+            final Map<String, LoadResult> results = new LinkedHashMap<>();
+            merged.forEach((label, parts) -> {
+                final var latencies = parts.stream().flatMapToLong(Arrays::stream).sorted().toArray();
+                final var labelErrors = errors.getOrDefault(label, new AtomicInteger()).get();
+                results.put(label, new LoadResult(latencies, labelErrors, maxInFlight.get(), duration));
+            });
+            return results;
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    /**
+     * A request tagged with the scenario step (e.g. the endpoint) it belongs to
+     */
+    public record LabeledRequest(String label, HttpRequest request) {
+    }
+
+    // Growable buffer of latencies, owned by one client thread
+    private static final class LatencyRecorder {
+        private long[] values = new long[256];
+        private int count;
+
+        void add(final long value) {
+            if (this.count == this.values.length) {
+                this.values = Arrays.copyOf(this.values, this.count * 2);
+            }
+            this.values[this.count++] = value;
+        }
+
+        long[] toArray() {
+            return Arrays.copyOf(this.values, this.count);
+        }
+    }
+
+    /**
+     * Results of a load run; latencies are sorted and in nanoseconds
+     */
+    public record LoadResult(long[] latencies, int errors, int maxInFlight, long durationNanos) {
+
+        public int requests() {
+            return this.latencies.length;
+        }
+
+        public double percentileMillis(final double percentile) {
+            if (this.latencies.length == 0) {
+                return 0;
+            }
+            final var index = (int) Math.ceil(percentile / 100.0 * this.latencies.length) - 1;
+            return this.latencies[Math.max(0, Math.min(index, this.latencies.length - 1))] / 1_000_000.0;
+        }
+
+        public double requestsPerSecond() {
+            return this.durationNanos == 0 ? 0 : this.latencies.length / (this.durationNanos / 1_000_000_000.0);
+        }
+
+        @Override
+        public String toString() {
+            return String.format("requests=%d errors=%d maxInFlight=%d rps=%.1f p50=%.2fms p95=%.2fms p99=%.2fms",
+                    this.requests(), this.errors, this.maxInFlight, this.requestsPerSecond(),
+                    this.percentileMillis(50), this.percentileMillis(95), this.percentileMillis(99));
+        }
+    }
+}
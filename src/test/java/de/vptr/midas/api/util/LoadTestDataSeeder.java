@@ -0,0 +1,171 @@
+package de.vptr.midas.api.util;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import javax.sql.DataSource;
+
+/**
+ * Seeds and removes load test data in bulk.
+ *
+ * The scaled-up counterpart of {@link TestDataBuilder} and
+ * {@link ServiceTestDataBuilder}: rows are written with batched JDBC inserts
+ * that work on MariaDB and PostgreSQL alike, and every row carries the
+ * {@value #MARKER} prefix so {@link #cleanup()} can remove it again. Counters
+ * and account balances are not maintained; run the repair jobs after seeding.
+ */
+public class LoadTestDataSeeder {
+
+    public static final String MARKER = "loadtest";
+
+    private static final int BATCH_SIZE = 1_000;
+    private static final long USER_RANK_ID = 1L;
+    private static final String CONTENT = "Lorem ipsum dolor sit amet, consectetur adipiscing elit. ";
+
+    private final DataSource dataSource;
+    private final SplittableRandom random = new SplittableRandom(42);
+
+    /**
+     * Number of rows to seed per table
+     */
+    public record Volumes(int users, int accounts, int payments, int posts, int comments) {
+    }
+
+    /**
+     * IDs of the seeded rows
+     */
+    public record SeededData(List<Long> userIds, List<Long> accountIds, List<Long> postIds) {
+    }
+
+    public LoadTestDataSeeder(final DataSource dataSource) {
+        this.dataSource = dataSource;
+    }
+
+    /**
+     * Seeds users (one account membership each), accounts, payments, posts
+     * and comments
+     *
+     * @return the IDs to build requests from
+     */
+    public SeededData seed(final Volumes volumes) throws SQLException {
+        try (var connection = this.dataSource.getConnection()) {
+            connection.setAutoCommit(false);
+
+            // Same credentials as the initial "user" account
+            this.insert(connection, "INSERT INTO users (username, password, salt, rank_id, email, activated, banned)"
+                    + " VALUES (?, ?, ?, ?, ?, ?, ?)", volumes.users(), (statement, i) -> {
+                        statement.setString(1, MARKER + "_user_" + i);
+                        statement.setString(2, "KD+VrVb86w2Z7Ei8UjsHbbZ/awEnReWeC8t0656EqMM=");
+                        statement.setString(3, "e3/FXXV1XuCaSHXxtwR1K0Lc5N/Al7rTJ6Kkpx1S2Uk=");
+                        statement.setLong(4, USER_RANK_ID);
+                        statement.setString(5, MARKER + "_user_" + i + "@example.com");
+                        statement.setBoolean(6, true);
+                        statement.setBoolean(7, false);
+                    });
+            final var userIds = this.ids(connection, "SELECT id FROM users WHERE username LIKE ?");
+
+            this.insert(connection, "INSERT INTO user_accounts (name) VALUES (?)", volumes.accounts(),
+                    (statement, i) -> statement.setString(1, MARKER + "_account_" + i));
+            final var accountIds = this.ids(connection, "SELECT id FROM user_accounts WHERE name LIKE ?");
+
+            this.insert(connection, "INSERT INTO user_accounts_meta (user_id, account_id) VALUES (?, ?)",
+                    userIds.size(), (statement, i) -> {
+                        statement.setLong(1, userIds.get(i));
+                        statement.setLong(2, accountIds.get(i % accountIds.size()));
+                    });
+
+            this.insert(connection, "INSERT INTO user_payments (user_id, source_id, target_id, comment, date, amount)"
+                    + " VALUES (?, ?, ?, ?, ?, ?)", volumes.payments(), (statement, i) -> {
+                        statement.setLong(1, this.pick(userIds));
+                        statement.setLong(2, this.pick(accountIds));
+                        statement.setLong(3, this.pick(accountIds));
+                        statement.setString(4, MARKER + " payment " + i);
+                        statement.setDate(5, Date.valueOf(LocalDate.of(2024, 1, 1).plusDays(i % 365)));
+                        statement.setBigDecimal(6, BigDecimal.valueOf(1 + this.random.nextInt(100_000), 2));
+                    });
+
+            this.insert(connection, "INSERT INTO posts (title, content, user_id, published, commentable)"
+                    + " VALUES (?, ?, ?, ?, ?)", volumes.posts(), (statement, i) -> {
+                        statement.setString(1, MARKER + " post " + i);
+                        statement.setString(2, CONTENT.repeat(10 + this.random.nextInt(60)));
+                        statement.setLong(3, this.pick(userIds));
+                        statement.setBoolean(4, i % 4 != 0);
+                        statement.setBoolean(5, true);
+                    });
+            final var postIds = this.ids(connection, "SELECT id FROM posts WHERE title LIKE ?");
+
+            this.insert(connection, "INSERT INTO post_comments (content, post_id, user_id) VALUES (?, ?, ?)",
+                    volumes.comments(), (statement, i) -> {
+                        statement.setString(1, MARKER + " comment " + i + " " + CONTENT);
+                        statement.setLong(2, this.pick(postIds));
+                        statement.setLong(3, this.pick(userIds));
+                    });
+
+            connection.commit();
+            return new SeededData(userIds, accountIds, postIds);
+        }
+    }
+
+    /**
+     * Removes all seeded rows and everything that references them
+     */
+    public void cleanup() throws SQLException {
+        try (var connection = this.dataSource.getConnection()) {
+            // Comments and memberships are removed by the foreign key cascades
+            for (final var sql : List.of(
+                    "DELETE FROM user_payments WHERE comment LIKE ?",
+                    "DELETE FROM posts WHERE title LIKE ?",
+                    "DELETE FROM users WHERE username LIKE ?",
+                    "DELETE FROM user_accounts WHERE name LIKE ?")) {
+                try (var statement = connection.prepareStatement(sql)) {
+                    statement.setString(1, MARKER + "%");
+                    statement.executeUpdate();
+                }
+            }
+        }
+    }
+
+    // Helper method to pick a random seeded ID
+    private long pick(final List<Long> ids) {
+        return ids.get(this.random.nextInt(ids.size()));
+    }
+
+    private void insert(final Connection connection, final String sql, final int rows, final RowBinder binder)
+            throws SQLException {
+        try (var statement = connection.prepareStatement(sql)) {
+            for (var i = 0; i < rows; i++) {
+                binder.bind(statement, i);
+                statement.addBatch();
+                if ((i + 1) % BATCH_SIZE == 0) {
+                    statement.executeBatch();
+                }
+            }
+            statement.executeBatch();
+        }
+    }
+
+    private List<Long> ids(final Connection connection, final String sql) throws SQLException {
+        final List<Long> ids = new ArrayList<>();
+        try (var statement = connection.prepareStatement(sql)) {
+            statement.setString(1, MARKER + "%");
+            try (var rows = statement.executeQuery()) {
+                while (rows.next()) {
+                    ids.add(rows.getLong(1));
+                }
+            }
+        }
+        return ids;
+    }
+
+    @FunctionalInterface
+    private interface RowBinder {
+        void bind(PreparedStatement statement, int row) throws SQLException;
+    }
+}
@@ -1,5 +1,10 @@
 package de.vptr.midas.api.util;
 
+import static org.hamcrest.Matchers.emptyOrNullString;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.hamcrest.Matchers.notNullValue;
+
+import de.vptr.midas.api.rest.util.StatementBudgetFilter;
 import io.restassured.http.ContentType;
 import io.restassured.response.ValidatableResponse;
 import io.restassured.specification.RequestSpecification;
@@ -348,4 +353,45 @@ public class TestUtil {
                 .statusCode(200)
                 .contentType(ContentType.JSON);
     }
+
+    /**
+     * Tests that a GET with the ETag of a previous response returns 304 with the
+     * same ETag and no body
+     */
+    public static String testConditionalGetWithEntityTag(final String endpoint) {
+        final var eTag = authenticatedRequest()
+                .when()
+                .get(endpoint)
+                .then()
+                .statusCode(200)
+                .header("ETag", notNullValue())
+                .extract()
+                .header("ETag");
+
+        authenticatedRequest()
+                .header("If-None-Match", eTag)
+                .when()
+                .get(endpoint)
+                .then()
+                .statusCode(304)
+                .header("ETag", eTag)
+                .body(emptyOrNullString());
+        return eTag;
+    }
+
+    /**
+     * Asserts the number of SQL statements the request executed, as reported in
+     * the X-SQL-Statements header (sent in dev and test)
+     */
+    public static ValidatableResponse assertStatementCount(final ValidatableResponse response, final int expected) {
+        return response.header(StatementBudgetFilter.STATEMENTS_HEADER, String.valueOf(expected));
+    }
+
+    /**
+     * Asserts an upper bound for the SQL statements the request executed, for
+     * endpoints whose count legitimately varies (e.g. cached lookups)
+     */
+    public static ValidatableResponse assertMaxStatementCount(final ValidatableResponse response, final int max) {
+        return response.header(StatementBudgetFilter.STATEMENTS_HEADER, Integer::parseInt, lessThanOrEqualTo(max));
+    }
 }